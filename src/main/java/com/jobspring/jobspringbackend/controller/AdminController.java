@@ -2,18 +2,19 @@ package com.jobspring.jobspringbackend.controller;
 
 import com.jobspring.jobspringbackend.dto.*;
 
-import com.jobspring.jobspringbackend.entity.Job;
 import com.jobspring.jobspringbackend.entity.Review;
 import com.jobspring.jobspringbackend.exception.BizException;
 import com.jobspring.jobspringbackend.exception.ErrorCode;
 import com.jobspring.jobspringbackend.repository.ReviewRepository;
 import com.jobspring.jobspringbackend.service.*;
+import com.jobspring.jobspringbackend.storage.LogoStorage;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 
@@ -24,18 +25,11 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
 
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/admin")
@@ -55,21 +49,30 @@ public class AdminController {
     @Autowired
     private CompanyService companyService;
 
+    @Autowired
+    private LogoStorage logoStorage;
+
+    @Autowired
+    private MailDispatcher mailDispatcher;
+
+    @Autowired
+    private ApplicationInvalidationJob invalidationJob;
+
 
+    // 按 id 升序流式输出全部职位状态；afterId 为游标，断线后从最后收到的 id 续传
     @PreAuthorize("hasRole('ADMIN')")
     @GetMapping("/status")
-    public ResponseEntity<List<Map<String, Object>>> getAllJobStatus() {
-        List<Job> jobs = jobService.getAllJobs();
-        List<Map<String, Object>> response = jobs.stream().map(job -> {
-            Map<String, Object> jobInfo = new HashMap<>();
-            jobInfo.put("id", job.getId());
-            jobInfo.put("title", job.getTitle());
-            jobInfo.put("company", job.getCompany().getName());
-            jobInfo.put("companyId", job.getCompany().getId());
-            jobInfo.put("status", job.getStatus());
-            return jobInfo;
-        }).collect(Collectors.toList());
-        return new ResponseEntity<>(response, HttpStatus.OK);
+    public ResponseEntity<StreamingResponseBody> getAllJobStatus(@RequestParam(defaultValue = "0") Long afterId) {
+        StreamingResponseBody body = out -> jobService.writeJobStatus(afterId, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/mail/queue")
+    public MailQueueStats getMailQueueStats() {
+        return mailDispatcher.stats();
     }
 
     @PreAuthorize("hasRole('ADMIN')")
@@ -80,13 +83,25 @@ public class AdminController {
         return adminService.searchJobs(keyword, pageable);
     }
 
+    // 默认看待审核队列；cursor 取上一页返回的 nextCursor
     @PreAuthorize("hasRole('ADMIN')")
     @GetMapping("/check_review")
-    public ResponseEntity<List<ReviewDTO>> checkReview() {
-        List<ReviewDTO> reviewDTOs = reviewService.getAllReviews().stream().map(reviewService::toDto).collect(Collectors.toList());
+    public ResponseEntity<CursorPage<ReviewDTO>> checkReview(@RequestParam(defaultValue = "0") Integer status, @RequestParam(required = false) String cursor, @RequestParam(defaultValue = "20") int size) {
+        CursorPage<ReviewDTO> reviewDTOs = reviewService.listReviewQueue(status, cursor, Math.min(size, 100));
         return ResponseEntity.ok(reviewDTOs);
     }
 
+    // 批量审计用的 NDJSON 导出，边查边写
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping(value = "/reviews/export", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> exportReviews(@RequestParam(required = false) Integer status) {
+        StreamingResponseBody body = out -> reviewService.exportReviews(status, out);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"reviews.ndjson\"")
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .body(body);
+    }
+
     @PreAuthorize("hasRole('ADMIN')")
     @GetMapping("/check_review/{id}")
     public ReviewDTO getReviewById(@PathVariable Long id) {
@@ -110,6 +125,14 @@ public class AdminController {
         return ResponseEntity.noContent().build();
     }
 
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/companies/{companyId}/jobs/{jobId}/invalidation")
+    public ResponseEntity<InvalidationProgress> invalidationProgress(@PathVariable Long companyId, @PathVariable Long jobId) {
+        return invalidationJob.progress(companyId, jobId)
+                .map(ResponseEntity::ok)
+                .orElseThrow(() -> new BizException(ErrorCode.NOT_FOUND, "No invalidation in progress for this job"));
+    }
+
     @PreAuthorize("hasRole('ADMIN')")
     @PostMapping("/review/pass/{id}")
     public ResponseEntity<ReviewDTO> passReview(@PathVariable Long id, @RequestBody NoteDTO request) {
@@ -167,15 +190,7 @@ public class AdminController {
     public ResponseEntity<CompanyDTO> createCompany(@RequestPart("company") CompanyDTO companyDTO, @RequestPart(value = "logo", required = false) MultipartFile logoFile) throws IOException {
 
         if (logoFile != null && !logoFile.isEmpty()) {
-            String filename = System.currentTimeMillis() + "_" + logoFile.getOriginalFilename();
-            Path uploadPath = Paths.get("uploads"); // 相对路径
-            if (!Files.exists(uploadPath)) {
-                Files.createDirectories(uploadPath);
-            }
-            Path filePath = uploadPath.resolve(filename);
-            Files.copy(logoFile.getInputStream(), filePath, StandardCopyOption.REPLACE_EXISTING);
-
-            companyDTO.setLogoUrl("/uploads/" + filename); // 前端访问 URL
+            companyDTO.setLogoUrl(logoStorage.store(logoFile)); // 前端访问 URL，带 ETag/Range 的下载接口
         }
 
         CompanyDTO savedCompany = companyService.createCompany(companyDTO);
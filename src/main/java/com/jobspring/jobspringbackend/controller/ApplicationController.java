@@ -3,15 +3,22 @@ package com.jobspring.jobspringbackend.controller;
 import com.jobspring.jobspringbackend.dto.ApplicationDTO;
 import com.jobspring.jobspringbackend.dto.ApplicationDetailResponse;
 import com.jobspring.jobspringbackend.service.ApplicationService;
+import com.jobspring.jobspringbackend.storage.FileDownloads;
+import com.jobspring.jobspringbackend.storage.ResumeDownload;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
 import java.net.URI;
 
 @RestController
@@ -35,4 +42,16 @@ public class ApplicationController {
         ApplicationDetailResponse resp = applicationService.getApplicationDetailForCompanyMember(userId, applicationId);
         return ResponseEntity.ok(resp);
     }
+
+    @GetMapping("/{applicationId}/resume")
+    public void downloadResume(@PathVariable Long applicationId, Authentication auth, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        Long userId = Long.valueOf(auth.getName());
+        ResumeDownload resume = applicationService.openResume(userId, applicationId);
+        if (resume.redirectUrl() != null) {
+            response.sendRedirect(resume.redirectUrl());
+            return;
+        }
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.inline().filename("resume-" + applicationId).build().toString());
+        FileDownloads.serve(request, response, resume.file(), FileDownloads.CACHE_PRIVATE);
+    }
 }
\ No newline at end of file
@@ -9,8 +9,10 @@ import com.jobspring.jobspringbackend.dto.SendCodeRequestDTO;
 import com.jobspring.jobspringbackend.entity.User;
 import com.jobspring.jobspringbackend.repository.UserRepository;
 import com.jobspring.jobspringbackend.security.JwtService;
+import com.jobspring.jobspringbackend.security.RateLimiter;
 import com.jobspring.jobspringbackend.security.RoleMapper;
 import com.jobspring.jobspringbackend.service.VerificationService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
@@ -36,6 +38,9 @@ public class AuthController {
     @Autowired
     private VerificationService verificationService;
 
+    @Autowired
+    private RateLimiter rateLimiter;
+
     // register
     @PostMapping("/register")
     public ResponseEntity<AuthResponseDTO> register(@Valid @RequestBody RegisterRequestDTO request) {
@@ -57,7 +62,9 @@ public class AuthController {
 
     // login
     @PostMapping("/login")
-    public AuthResponseDTO login(@Valid @RequestBody LoginRequestDTO request) {
+    public AuthResponseDTO login(@Valid @RequestBody LoginRequestDTO request, HttpServletRequest http) {
+        // prod 开启了 server.forward-headers-strategy，getRemoteAddr() 已是从 X-Forwarded-For 解析出的客户端地址
+        rateLimiter.checkLogin(request.getEmail(), http.getRemoteAddr());
         Optional<User> userOpt = userRepository.findByEmail(request.getEmail());
         if (userOpt.isEmpty()) {
             throw new BizException(ErrorCode.CONFLICT, "Invalid email or password");
@@ -88,7 +95,8 @@ public class AuthController {
     }
 
     @PostMapping("/send-code")
-    public ResponseEntity<Void> sendCode(@Valid @RequestBody SendCodeRequestDTO req) {
+    public ResponseEntity<Void> sendCode(@Valid @RequestBody SendCodeRequestDTO req, HttpServletRequest http) {
+        rateLimiter.checkSendCode(req.getEmail(), http.getRemoteAddr());
         verificationService.sendRegisterCode(req.getEmail());
         return ResponseEntity.noContent().build();
     }
@@ -1,9 +1,11 @@
 package com.jobspring.jobspringbackend.controller;
 
+import com.jobspring.jobspringbackend.dto.CompanyRatingDTO;
 import com.jobspring.jobspringbackend.dto.CompanyReviewDTO;
 import com.jobspring.jobspringbackend.dto.JobResponse;
 import com.jobspring.jobspringbackend.entity.Company;
 import com.jobspring.jobspringbackend.repository.CompanyRepository;
+import com.jobspring.jobspringbackend.service.CompanyRatingService;
 import com.jobspring.jobspringbackend.service.CompanyService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
@@ -22,6 +24,9 @@ public class CompanyController {
     @Autowired
     private CompanyService companyService;
 
+    @Autowired
+    private CompanyRatingService companyRatingService;
+
     public CompanyController(CompanyRepository companyRepository) {
         this.companyRepository = companyRepository;
     }
@@ -36,6 +41,12 @@ public class CompanyController {
         return ResponseEntity.ok(companyService.listCompanyJobs(companyId, status, pageable));
     }
 
+    // 公司页的评分摘要，读的是预先维护的汇总行
+    @GetMapping("/{companyId}/rating")
+    public ResponseEntity<CompanyRatingDTO> getCompanyRating(@PathVariable Long companyId) {
+        return ResponseEntity.ok(companyRatingService.getRating(companyId));
+    }
+
     @GetMapping("/{companyId}/reviews")
     public ResponseEntity<Page<CompanyReviewDTO>> getCompanyReviews(@PathVariable Long companyId, @PageableDefault(size = 10, sort = "submittedAt", direction = Sort.Direction.DESC) Pageable pageable) {
         Page<CompanyReviewDTO> reviews = companyService.getCompanyReviews(companyId, pageable);
@@ -0,0 +1,26 @@
+package com.jobspring.jobspringbackend.controller;
+
+import com.jobspring.jobspringbackend.storage.FileDownloads;
+import com.jobspring.jobspringbackend.storage.LogoStorage;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+
+@RestController
+@RequestMapping("/api/files")
+@RequiredArgsConstructor
+public class FileController {
+
+    private final LogoStorage logoStorage;
+
+    @GetMapping("/logos/{filename:.+}")
+    public void downloadLogo(@PathVariable String filename, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        FileDownloads.serve(request, response, logoStorage.open(filename), FileDownloads.CACHE_PUBLIC);
+    }
+}
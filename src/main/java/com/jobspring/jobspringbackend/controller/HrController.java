@@ -1,10 +1,15 @@
 package com.jobspring.jobspringbackend.controller;
 
 import com.jobspring.jobspringbackend.dto.ApplicationBriefResponse;
+import com.jobspring.jobspringbackend.dto.ApplicationStatusResult;
+import com.jobspring.jobspringbackend.dto.BulkUpdateApplicationStatusRequest;
+import com.jobspring.jobspringbackend.dto.FunnelStatsResponse;
 import com.jobspring.jobspringbackend.dto.JobResponse;
+import com.jobspring.jobspringbackend.service.ApplicationStatsService;
 import com.jobspring.jobspringbackend.service.HrApplicationService;
 import com.jobspring.jobspringbackend.service.HrCompanyService;
 import com.jobspring.jobspringbackend.service.HrJobService;
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
@@ -16,6 +21,7 @@ import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 import com.jobspring.jobspringbackend.dto.HrJobResponse;
 
+import java.util.List;
 import java.util.Map;
 
 
@@ -30,6 +36,8 @@ public class HrController {
 
     private final HrJobService hrJobService;
 
+    private final ApplicationStatsService applicationStatsService;
+
     @PreAuthorize("hasRole('HR')")
     @GetMapping("/applications")
     public ResponseEntity<Page<ApplicationBriefResponse>> listMine(@RequestParam(required = false) Long jobId, @RequestParam(required = false) Integer status, Pageable pageable, Authentication auth) {
@@ -39,6 +47,16 @@ public class HrController {
     }
 
 
+    // 本公司各职位的投递漏斗，计数常驻内存
+    @PreAuthorize("hasRole('HR')")
+    @GetMapping("/stats")
+    public ResponseEntity<FunnelStatsResponse> stats(Authentication auth) {
+        Long hrUserId = Long.valueOf(auth.getName());
+        Long companyId = hrCompanyService.findCompanyIdByUserId(hrUserId);
+        return ResponseEntity.ok(applicationStatsService.funnel(companyId));
+    }
+
+
     @GetMapping("/company-id")
     @PreAuthorize("hasRole('HR')")
     public ResponseEntity<Map<String, Long>> myCompanyId(Authentication auth) {
@@ -56,6 +74,14 @@ public class HrController {
         return ResponseEntity.ok(res);
     }
 
+    // 批量改状态，返回每个 id 的处理结果
+    @PostMapping("/applications/status")
+    @PreAuthorize("hasRole('HR')")
+    public ResponseEntity<List<ApplicationStatusResult>> updateStatuses(@Valid @RequestBody BulkUpdateApplicationStatusRequest body, Authentication auth) {
+        Long hrUserId = Long.valueOf(auth.getName());
+        return ResponseEntity.ok(hrApplicationService.updateStatuses(hrUserId, body.getIds(), body.getStatus()));
+    }
+
     @Data
     public static class UpdateStatusBody {
         @NotNull
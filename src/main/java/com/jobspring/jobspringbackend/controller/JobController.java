@@ -1,8 +1,12 @@
 package com.jobspring.jobspringbackend.controller;
 
+import com.jobspring.jobspringbackend.dto.InvalidationProgress;
 import com.jobspring.jobspringbackend.dto.JobCreateRequest;
 import com.jobspring.jobspringbackend.dto.JobResponse;
 import com.jobspring.jobspringbackend.dto.JobUpdateRequest;
+import com.jobspring.jobspringbackend.exception.BizException;
+import com.jobspring.jobspringbackend.exception.ErrorCode;
+import com.jobspring.jobspringbackend.service.ApplicationInvalidationJob;
 import com.jobspring.jobspringbackend.service.JobService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -20,6 +24,7 @@ import java.net.URI;
 @RequiredArgsConstructor
 public class JobController {
     private final JobService jobService;
+    private final ApplicationInvalidationJob invalidationJob;
 
     @PreAuthorize("hasAnyRole('HR')")
     @PostMapping("/companies/{companyId}/jobs")
@@ -42,6 +47,19 @@ public class JobController {
         return ResponseEntity.noContent().build();
     }
 
+    // 下线后投递失效在后台分批进行，这里查询进度；只能查本公司的，其他公司的按不存在处理
+    @PreAuthorize("hasAnyRole('HR')")
+    @GetMapping("/companies/{companyId}/jobs/{jobId}/invalidation")
+    public ResponseEntity<InvalidationProgress> invalidationProgress(@PathVariable Long companyId, @PathVariable Long jobId, Authentication auth) {
+        Long ownCompanyId = jobService.findCompanyIdByUserId(Long.valueOf(auth.getName()));
+        if (!ownCompanyId.equals(companyId)) {
+            throw new BizException(ErrorCode.NOT_FOUND, "No invalidation in progress for this job");
+        }
+        return invalidationJob.progress(companyId, jobId)
+                .map(ResponseEntity::ok)
+                .orElseThrow(() -> new BizException(ErrorCode.NOT_FOUND, "No invalidation in progress for this job"));
+    }
+
 
     @PreAuthorize("hasRole('HR')")
     @GetMapping("/companies/jobs")
@@ -5,6 +5,7 @@ import com.jobspring.jobspringbackend.repository.UserRepository;
 import com.jobspring.jobspringbackend.service.CompanyService;
 import com.jobspring.jobspringbackend.service.JobService;
 import com.jobspring.jobspringbackend.service.JobseekerApplicationService;
+import com.jobspring.jobspringbackend.service.RecommendationService;
 import com.jobspring.jobspringbackend.service.ReviewService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
@@ -22,6 +23,8 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/job_seeker")
 public class JobSeekerController {
@@ -41,6 +44,9 @@ public class JobSeekerController {
     @Autowired
     private JobseekerApplicationService jobseekerApplicationService;
 
+    @Autowired
+    private RecommendationService recommendationService;
+
 
     @GetMapping("/job_list")
     public Page<JobDTO> getJobList(@RequestParam(defaultValue = "0") int page, @RequestParam(defaultValue = "10") int size, @RequestParam(defaultValue = "postedAt") String sortBy, @RequestParam(defaultValue = "desc") String direction) {
@@ -59,6 +65,25 @@ public class JobSeekerController {
         return jobService.searchJobSeekerJobs(keyword, pageable);
     }
 
+    // 游标分页：不做 COUNT，深翻页不退化
+    @GetMapping("/job_list/scroll")
+    public CursorPage<JobDTO> scrollJobList(@RequestParam(required = false) String cursor, @RequestParam(defaultValue = "10") int size) {
+        return jobService.scrollJobSeekerJobs(cursor, size);
+    }
+
+
+    @GetMapping("/job_list/search/scroll")
+    public CursorPage<JobDTO> scrollSearchJobs(@RequestParam String keyword, @RequestParam(required = false) String cursor, @RequestParam(defaultValue = "10") int size) {
+        return jobService.scrollSearchJobSeekerJobs(keyword, cursor, size);
+    }
+
+    // 按技能匹配度推荐在线职位
+    @GetMapping("/recommendations")
+    @PreAuthorize("hasRole('CANDIDATE')")
+    public List<JobRecommendation> recommendations(@RequestParam(defaultValue = "10") int size, Authentication auth) {
+        return recommendationService.recommend(Long.valueOf(auth.getName()), size);
+    }
+
     @GetMapping("/company/{id}")
     public CompanyDTO getCompany(@PathVariable Long id) {
         return companyService.getCompanyById(id);
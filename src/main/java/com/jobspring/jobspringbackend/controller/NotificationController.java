@@ -0,0 +1,50 @@
+package com.jobspring.jobspringbackend.controller;
+
+import com.jobspring.jobspringbackend.dto.MarkNotificationsReadRequest;
+import com.jobspring.jobspringbackend.dto.NotificationDTO;
+import com.jobspring.jobspringbackend.service.NotificationService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/notifications")
+@RequiredArgsConstructor
+public class NotificationController {
+
+    private final NotificationService notificationService;
+
+    // 未读在前的收件箱
+    @GetMapping
+    public ResponseEntity<Page<NotificationDTO>> inbox(Authentication auth,
+                                                       @RequestParam(defaultValue = "0") int page,
+                                                       @RequestParam(defaultValue = "20") int size) {
+        Long userId = Long.valueOf(auth.getName());
+        return ResponseEntity.ok(notificationService.inbox(userId, PageRequest.of(page, Math.min(size, 100))));
+    }
+
+    // 轻量轮询用：只返回未读数，通常不查库
+    @GetMapping("/unread-count")
+    public ResponseEntity<Map<String, Long>> unreadCount(Authentication auth) {
+        Long userId = Long.valueOf(auth.getName());
+        return ResponseEntity.ok(Map.of("unread", notificationService.unreadCount(userId)));
+    }
+
+    @PostMapping("/read")
+    public ResponseEntity<Map<String, Integer>> markRead(Authentication auth, @Valid @RequestBody MarkNotificationsReadRequest req) {
+        Long userId = Long.valueOf(auth.getName());
+        return ResponseEntity.ok(Map.of("updated", notificationService.markRead(userId, req.getIds())));
+    }
+
+    @PostMapping("/read-all")
+    public ResponseEntity<Map<String, Integer>> markAllRead(Authentication auth) {
+        Long userId = Long.valueOf(auth.getName());
+        return ResponseEntity.ok(Map.of("updated", notificationService.markAllRead(userId)));
+    }
+}
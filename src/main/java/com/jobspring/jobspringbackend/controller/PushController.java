@@ -0,0 +1,25 @@
+package com.jobspring.jobspringbackend.controller;
+
+import com.jobspring.jobspringbackend.service.PushService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/push")
+@RequiredArgsConstructor
+public class PushController {
+
+    private final PushService pushService;
+
+    // 投递状态变化的实时通道，替代对投递列表的轮询
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(Authentication auth) {
+        Long userId = Long.valueOf(auth.getName());
+        return pushService.subscribe(userId);
+    }
+}
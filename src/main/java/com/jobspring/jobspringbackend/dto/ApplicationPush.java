@@ -0,0 +1,5 @@
+package com.jobspring.jobspringbackend.dto;
+
+// SSE 推送的负载，前端据此刷新对应的投递列表
+public record ApplicationPush(Long applicationId, Long jobId, String jobTitle, Integer status) {
+}
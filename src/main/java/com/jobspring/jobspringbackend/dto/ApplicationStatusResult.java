@@ -0,0 +1,11 @@
+package com.jobspring.jobspringbackend.dto;
+
+// 批量改状态时单个投递的结果：UPDATED / UNCHANGED / NOT_FOUND / FORBIDDEN / JOB_INACTIVE
+public record ApplicationStatusResult(Long id, String result, Integer status) {
+
+    public static final String UPDATED = "UPDATED";
+    public static final String UNCHANGED = "UNCHANGED";
+    public static final String NOT_FOUND = "NOT_FOUND";
+    public static final String FORBIDDEN = "FORBIDDEN";
+    public static final String JOB_INACTIVE = "JOB_INACTIVE";
+}
@@ -0,0 +1,21 @@
+package com.jobspring.jobspringbackend.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+// HR 批量修改申请状态 请求体
+@Data
+public class BulkUpdateApplicationStatusRequest {
+
+    @NotEmpty
+    @Size(max = 500)
+    private List<@NotNull Long> ids;
+
+    // 0 = 已投递，1 = 筛选中，2 = 通过，3 = 拒绝， 4 = 失效
+    @NotNull
+    private Integer status;
+}
@@ -0,0 +1,7 @@
+package com.jobspring.jobspringbackend.dto;
+
+import java.util.List;
+
+// histogram 依次为 1~5 星的评价数
+public record CompanyRatingDTO(Long companyId, double average, long reviewCount, List<Long> histogram) {
+}
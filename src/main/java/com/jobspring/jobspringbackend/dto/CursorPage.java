@@ -0,0 +1,11 @@
+package com.jobspring.jobspringbackend.dto;
+
+import java.util.List;
+
+// 游标分页结果，不带 totalElements，省掉 COUNT 查询
+public record CursorPage<T>(
+        List<T> content,
+        String nextCursor,
+        boolean hasNext
+) {
+}
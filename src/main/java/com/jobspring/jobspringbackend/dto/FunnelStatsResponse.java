@@ -0,0 +1,6 @@
+package com.jobspring.jobspringbackend.dto;
+
+import java.util.List;
+
+public record FunnelStatsResponse(Long companyId, JobFunnelStats total, List<JobFunnelStats> jobs) {
+}
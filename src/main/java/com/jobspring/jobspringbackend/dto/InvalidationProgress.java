@@ -0,0 +1,15 @@
+package com.jobspring.jobspringbackend.dto;
+
+import java.time.LocalDateTime;
+
+// 职位下线后投递批量失效的进度；state 为 RUNNING / DONE / FAILED
+public record InvalidationProgress(
+        Long companyId,
+        Long jobId,
+        long total,
+        long processed,
+        String state,
+        LocalDateTime startedAt,
+        LocalDateTime finishedAt
+) {
+}
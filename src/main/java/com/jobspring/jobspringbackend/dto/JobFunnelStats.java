@@ -0,0 +1,13 @@
+package com.jobspring.jobspringbackend.dto;
+
+// 单个职位（或公司合计，此时 jobId 为空）各状态的投递数
+public record JobFunnelStats(
+        Long jobId,
+        String jobTitle,
+        long applied,
+        long screening,
+        long passed,
+        long rejected,
+        long invalid
+) {
+}
@@ -0,0 +1,7 @@
+package com.jobspring.jobspringbackend.dto;
+
+public record JobRecommendation(
+        JobDTO job,
+        double score        // 0~1，技能加权匹配度
+) {
+}
@@ -0,0 +1,14 @@
+package com.jobspring.jobspringbackend.dto;
+
+// 邮件发送队列的运行状态，供管理端观测
+public record MailQueueStats(
+        int queued,
+        int queueCapacity,
+        int activeWorkers,
+        int smtpInFlight,
+        long completedTasks,
+        long callerRuns,
+        long sent,
+        long failed
+) {
+}
@@ -0,0 +1,16 @@
+package com.jobspring.jobspringbackend.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+// 批量标记已读，只会更新属于当前用户的通知
+@Data
+public class MarkNotificationsReadRequest {
+
+    @NotEmpty
+    @Size(max = 500)
+    private List<Long> ids;
+}
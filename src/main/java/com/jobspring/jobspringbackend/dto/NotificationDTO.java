@@ -0,0 +1,16 @@
+package com.jobspring.jobspringbackend.dto;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+public class NotificationDTO {
+    private Long id;
+    private String type;
+    private String title;
+    private String message;
+    private Long refId;
+    private Boolean read;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,9 @@
+package com.jobspring.jobspringbackend.dto;
+
+// 一封纯文本邮件，用于批量发送
+public record OutboundMail(
+        String to,
+        String subject,
+        String body
+) {
+}
@@ -0,0 +1,19 @@
+package com.jobspring.jobspringbackend.dto;
+
+import java.time.LocalDateTime;
+
+// NDJSON 导出的一行
+public record ReviewExportRow(
+        Long id,
+        Long applicationId,
+        Long companyId,
+        String title,
+        String content,
+        Integer rating,
+        Integer status,
+        LocalDateTime submittedAt,
+        Long reviewedById,
+        String reviewNote,
+        LocalDateTime publicAt
+) {
+}
@@ -33,10 +33,15 @@ public class Application {
 
     private LocalDateTime appliedAt;
 
+    @Basic(fetch = FetchType.LAZY)
     @Column(columnDefinition = "TEXT")
     private String resumeProfile;
 
     @Lob
+    @Basic(fetch = FetchType.LAZY)
     @Column(name = "resume_url", columnDefinition = "LONGTEXT")
-    private String resumeUrl; // 现在存 base64 data URL
+    private String resumeUrl; // 上传文件存 "sha256:<hex>" 引用；引用档案时是外部 URL；历史数据可能仍是 base64 data URL
+
+    @Column(name = "resume_content_type", length = 100)
+    private String resumeContentType;
 }
\ No newline at end of file
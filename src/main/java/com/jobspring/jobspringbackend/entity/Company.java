@@ -27,6 +27,7 @@ public class Company {
     private String logoUrl;
 
     @Lob
+    @Basic(fetch = FetchType.LAZY)  // 列表页不需要，配合字节码增强延迟加载
     private String description;
 
     @Column(name = "created_by", length = 255)
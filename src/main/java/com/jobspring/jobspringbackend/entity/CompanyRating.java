@@ -0,0 +1,53 @@
+package com.jobspring.jobspringbackend.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+// 公司评分汇总，只统计已审核通过的评价；随审核通过增量维护
+@Getter
+@Setter
+@Entity
+@Table(name = "company_ratings")
+public class CompanyRating {
+
+    @Id
+    @Column(name = "company_id")
+    private Long companyId;
+
+    @Column(name = "review_count", nullable = false)
+    private Long reviewCount = 0L;
+
+    @Column(name = "rating_sum", nullable = false)
+    private Long ratingSum = 0L;
+
+    @Column(name = "stars_1", nullable = false)
+    private Long stars1 = 0L;
+
+    @Column(name = "stars_2", nullable = false)
+    private Long stars2 = 0L;
+
+    @Column(name = "stars_3", nullable = false)
+    private Long stars3 = 0L;
+
+    @Column(name = "stars_4", nullable = false)
+    private Long stars4 = 0L;
+
+    @Column(name = "stars_5", nullable = false)
+    private Long stars5 = 0L;
+
+    public void add(int rating, long count) {
+        switch (rating) {
+            case 1 -> stars1 += count;
+            case 2 -> stars2 += count;
+            case 3 -> stars3 += count;
+            case 4 -> stars4 += count;
+            case 5 -> stars5 += count;
+            default -> {
+                return;
+            }
+        }
+        reviewCount += count;
+        ratingSum += rating * count;
+    }
+}
@@ -11,7 +11,10 @@ import java.time.LocalDateTime;
 @Getter
 @Setter
 @Entity
-@Table(name = "jobs")
+@Table(name = "jobs",
+        indexes = {
+                @Index(name = "idx_jobs_status_posted_at", columnList = "status,posted_at,id")
+        })
 public class Job {
 
     @Id
@@ -8,7 +8,12 @@ import java.time.LocalDateTime;
 @Getter
 @Setter
 @Entity
-@Table(name = "notifications")
+@Table(
+        name = "notifications",
+        indexes = {
+                @Index(name = "IDX_notifications_user_read_created", columnList = "user_id,is_read,created_at")
+        }
+)
 public class Notification {
 
     @Id
@@ -23,6 +28,13 @@ public class Notification {
     @JoinColumn(name = "type", nullable = false) // 关联到notifications_type表的type字段
     private NotificationType notificationType;
 
+    // 关联的业务对象 id（投递或评价），由 type 决定含义
+    @Column(name = "ref_id")
+    private Long refId;
+
+    @Column(length = 500)
+    private String message;
+
     @Column(name = "is_read", nullable = false)
     private Boolean isRead = false;
 
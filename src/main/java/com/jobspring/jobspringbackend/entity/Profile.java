@@ -4,6 +4,9 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.util.LinkedHashSet;
+import java.util.Set;
+
 @Getter
 @Setter
 @Entity
@@ -26,4 +29,13 @@ public class Profile {
 
     @Column(name = "file_url", length = 512)
     private String fileUrl;
+
+    // 只读的反向集合，供整份简历一次性抓取；写入仍走各自的 Repository
+    @OneToMany(mappedBy = "profile")
+    @OrderBy("id")
+    private Set<ProfileEducation> educations = new LinkedHashSet<>();
+
+    @OneToMany(mappedBy = "profile")
+    @OrderBy("id")
+    private Set<ProfileExperience> experiences = new LinkedHashSet<>();
 }
\ No newline at end of file
@@ -9,7 +9,13 @@ import java.time.LocalDateTime;
 @Getter
 @Setter
 @Entity
-@Table(name = "reviews")
+@Table(
+        name = "reviews",
+        indexes = {
+                @Index(name = "IDX_reviews_application_status", columnList = "application_id,status"),
+                @Index(name = "IDX_reviews_status_submitted", columnList = "status,submitted_at")
+        }
+)
 public class Review {
 
     @Id
@@ -24,6 +30,7 @@ public class Review {
     private String title;
 
     @Lob
+    @Basic(fetch = FetchType.LAZY)
     @Column(columnDefinition = "LONGTEXT", nullable = false)
     private String content;
 
@@ -45,6 +52,7 @@ public class Review {
     @Column(name = "public_at")
     private LocalDateTime publicAt;
 
+    @Basic(fetch = FetchType.LAZY)
     @Column(name = "image_url", columnDefinition = "LONGTEXT")
     private String imageUrl;
 }
\ No newline at end of file
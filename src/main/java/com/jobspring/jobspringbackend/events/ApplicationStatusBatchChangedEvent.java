@@ -0,0 +1,7 @@
+package com.jobspring.jobspringbackend.events;
+
+import java.util.List;
+
+// HR 批量改状态，一次事务只发布一个事件
+public record ApplicationStatusBatchChangedEvent(Long companyId, List<ApplicationStatusChangedEvent> changes) {
+}
@@ -0,0 +1,12 @@
+package com.jobspring.jobspringbackend.events;
+
+public record ApplicationStatusChangedEvent(
+        Long applicationId,
+        Long companyId,
+        Long jobId,
+        Long applicantUserId,
+        String jobTitle,
+        Integer oldStatus,
+        Integer newStatus
+) {
+}
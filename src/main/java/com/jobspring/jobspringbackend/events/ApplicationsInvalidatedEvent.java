@@ -0,0 +1,7 @@
+package com.jobspring.jobspringbackend.events;
+
+import java.util.List;
+
+// 职位下线后批量失效的投递，applicantUserIds 为受影响的求职者
+public record ApplicationsInvalidatedEvent(Long companyId, Long jobId, List<Long> applicantUserIds) {
+}
@@ -0,0 +1,4 @@
+package com.jobspring.jobspringbackend.events;
+
+public record JobCreatedEvent(Long companyId, Long jobId) {
+}
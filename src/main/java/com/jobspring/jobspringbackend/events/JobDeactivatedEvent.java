@@ -1,4 +1,4 @@
 package com.jobspring.jobspringbackend.events;
 
-public record JobDeactivatedEvent(Long companyId, Long jobId) {
+public record JobDeactivatedEvent(Long companyId, Long jobId, String jobTitle) {
 }
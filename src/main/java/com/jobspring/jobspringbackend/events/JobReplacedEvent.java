@@ -0,0 +1,5 @@
+package com.jobspring.jobspringbackend.events;
+
+// 编辑职位 = 下线旧职位 + 发布新职位
+public record JobReplacedEvent(Long companyId, Long oldJobId, Long newJobId) {
+}
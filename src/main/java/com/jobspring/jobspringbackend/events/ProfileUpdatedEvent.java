@@ -0,0 +1,4 @@
+package com.jobspring.jobspringbackend.events;
+
+public record ProfileUpdatedEvent(Long userId) {
+}
@@ -0,0 +1,4 @@
+package com.jobspring.jobspringbackend.events;
+
+public record ReviewModeratedEvent(Long reviewId, Long authorUserId, String title, boolean approved) {
+}
@@ -1,61 +1,34 @@
 package com.jobspring.jobspringbackend.listener;
 
 import com.jobspring.jobspringbackend.events.ApplicationSubmittedEvent;
-import com.jobspring.jobspringbackend.repository.CompanyMemberRepository;
-import com.jobspring.jobspringbackend.service.MailService;
+import com.jobspring.jobspringbackend.service.ApplicationDigestService;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionalEventListener;
 import org.springframework.transaction.event.TransactionPhase;
 
-import java.util.List;
-
-@Slf4j
+/**
+ * 立即通知还是合并成摘要由 app.mail.digest.window-seconds 决定。
+ */
 @Component
 @RequiredArgsConstructor
 public class ApplicationSubmittedListener {
 
-    private final CompanyMemberRepository companyMembers;
-    private final MailService mail;
-    @Value("${app.web.base-url:http://localhost:5173}")
-    private String webBaseUrl;
+    private final ApplicationDigestService digest;
 
-    @Async
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
-    public void handle(ApplicationSubmittedEvent e) {
-        List<String> hrEmails = companyMembers.findHrEmailsByCompanyId(e.companyId());
-        if (hrEmails.isEmpty()) {
-            log.warn("No HR emails for company {}", e.companyId());
-            return;
+    // 立即通知：在投递事务提交前写入 mail_outbox，与投递记录一起提交或回滚
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void enqueue(ApplicationSubmittedEvent e) {
+        if (digest.isImmediate()) {
+            digest.submit(e);
         }
+    }
 
-        String subject = "[JobSpring] New application for " + e.jobTitle();
-        String body = """
-                A new application has been submitted.
-                
-                Job: %s
-                Applicant: %s (%s)
-                Application ID: %d
-                
-                Please log in to review:
-                %s
-                """.formatted(
-                e.jobTitle(),
-                e.applicantName(),
-                e.applicantEmail(),
-                e.applicationId(),
-                webBaseUrl
-        );
-        for (String to : hrEmails) {
-            try {
-                mail.sendPlainText(to, subject, body);
-            } catch (Exception ex) {
-                log.error("Mail send failed to {} for application {}", to, e.applicationId(), ex);
-            }
+    // 摘要模式：提交后才放入内存中的摘要，回滚的投递不会出现在邮件里
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void buffer(ApplicationSubmittedEvent e) {
+        if (!digest.isImmediate()) {
+            digest.submit(e);
         }
     }
-}
\ No newline at end of file
+}
@@ -1,7 +1,7 @@
 package com.jobspring.jobspringbackend.listener;
 
 import com.jobspring.jobspringbackend.events.JobDeactivatedEvent;
-import com.jobspring.jobspringbackend.repository.ApplicationRepository;
+import com.jobspring.jobspringbackend.service.ApplicationInvalidationJob;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionalEventListener;
 import org.springframework.transaction.event.TransactionPhase;
@@ -9,15 +9,15 @@ import org.springframework.transaction.event.TransactionPhase;
 @Component
 public class InvalidateApplicationsListener {
 
-    private final ApplicationRepository appRepo;
+    private final ApplicationInvalidationJob invalidationJob;
 
-    public InvalidateApplicationsListener(ApplicationRepository appRepo) {
-        this.appRepo = appRepo;
+    public InvalidateApplicationsListener(ApplicationInvalidationJob invalidationJob) {
+        this.invalidationJob = invalidationJob;
     }
 
+    // 投递量可能很大，交给后台分批处理，不占用下线职位的请求线程
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void on(JobDeactivatedEvent e) {
-        appRepo.updateStatusByJobId(e.jobId(), 4);
+        invalidationJob.runAsync(e);
     }
 }
-
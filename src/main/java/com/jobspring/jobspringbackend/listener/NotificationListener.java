@@ -0,0 +1,75 @@
+package com.jobspring.jobspringbackend.listener;
+
+import com.jobspring.jobspringbackend.events.ApplicationStatusBatchChangedEvent;
+import com.jobspring.jobspringbackend.events.ApplicationStatusChangedEvent;
+import com.jobspring.jobspringbackend.events.ApplicationSubmittedEvent;
+import com.jobspring.jobspringbackend.events.ReviewModeratedEvent;
+import com.jobspring.jobspringbackend.repository.CompanyMemberRepository;
+import com.jobspring.jobspringbackend.service.NotificationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 把业务事件落成站内通知。AFTER_COMMIT 时原事务已结束，写通知需要自己的事务。
+ */
+@Component
+@RequiredArgsConstructor
+public class NotificationListener {
+
+    private static final String[] STATUS_NAMES = {"Submitted", "In review", "Passed", "Rejected", "Invalid"};
+
+    private final NotificationService notifications;
+    private final CompanyMemberRepository companyMembers;
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void on(ApplicationSubmittedEvent e) {
+        List<Long> hrUserIds = companyMembers.findHrUserIdsByCompanyId(e.companyId());
+        notifications.create(hrUserIds, NotificationService.APPLICATION_SUBMITTED, e.applicationId(),
+                e.applicantName() + " applied for " + e.jobTitle());
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void on(ApplicationStatusChangedEvent e) {
+        notifications.create(List.of(e.applicantUserId()), NotificationService.APPLICATION_STATUS, e.applicationId(), statusMessage(e));
+    }
+
+    // 同一职位、同一目标状态的通知内容相同，合并成一次批量写入
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void on(ApplicationStatusBatchChangedEvent e) {
+        Map<String, List<NotificationService.Recipient>> byMessage = new LinkedHashMap<>();
+        for (ApplicationStatusChangedEvent c : e.changes()) {
+            byMessage.computeIfAbsent(statusMessage(c), k -> new ArrayList<>())
+                    .add(new NotificationService.Recipient(c.applicantUserId(), c.applicationId()));
+        }
+        byMessage.forEach((message, recipients) ->
+                notifications.createEach(recipients, NotificationService.APPLICATION_STATUS, message));
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void on(ReviewModeratedEvent e) {
+        String type = e.approved() ? NotificationService.REVIEW_APPROVED : NotificationService.REVIEW_REJECTED;
+        notifications.create(List.of(e.authorUserId()), type, e.reviewId(),
+                "Your review \"" + e.title() + "\" was " + (e.approved() ? "approved" : "rejected"));
+    }
+
+    private static String statusMessage(ApplicationStatusChangedEvent e) {
+        return "Your application for " + e.jobTitle() + " is now " + statusName(e.newStatus());
+    }
+
+    private static String statusName(Integer status) {
+        return status != null && status >= 0 && status < STATUS_NAMES.length ? STATUS_NAMES[status] : String.valueOf(status);
+    }
+}
@@ -0,0 +1,59 @@
+package com.jobspring.jobspringbackend.listener;
+
+import com.jobspring.jobspringbackend.dto.ApplicationPush;
+import com.jobspring.jobspringbackend.events.ApplicationStatusBatchChangedEvent;
+import com.jobspring.jobspringbackend.events.ApplicationStatusChangedEvent;
+import com.jobspring.jobspringbackend.events.ApplicationSubmittedEvent;
+import com.jobspring.jobspringbackend.events.ApplicationsInvalidatedEvent;
+import com.jobspring.jobspringbackend.repository.CompanyMemberRepository;
+import com.jobspring.jobspringbackend.service.PushService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 提交成功后把投递变化推给在线用户：求职者收到自己投递的状态，HR 收到本公司的投递变化。
+ */
+@Component
+@RequiredArgsConstructor
+public class PushListener {
+
+    private final PushService push;
+    private final CompanyMemberRepository companyMembers;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void on(ApplicationSubmittedEvent e) {
+        push.push(companyMembers.findHrUserIdsByCompanyId(e.companyId()), PushService.APPLICATION_SUBMITTED,
+                new ApplicationPush(e.applicationId(), e.jobId(), e.jobTitle(), 0));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void on(ApplicationStatusChangedEvent e) {
+        ApplicationPush payload = new ApplicationPush(e.applicationId(), e.jobId(), e.jobTitle(), e.newStatus());
+        push.push(List.of(e.applicantUserId()), PushService.APPLICATION_STATUS, payload);
+        push.push(companyMembers.findHrUserIdsByCompanyId(e.companyId()), PushService.APPLICATION_STATUS, payload);
+    }
+
+    // 求职者各自收到自己的变化，HR 只收到一条汇总
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void on(ApplicationStatusBatchChangedEvent e) {
+        List<ApplicationPush> payloads = new ArrayList<>(e.changes().size());
+        for (ApplicationStatusChangedEvent c : e.changes()) {
+            ApplicationPush payload = new ApplicationPush(c.applicationId(), c.jobId(), c.jobTitle(), c.newStatus());
+            push.push(List.of(c.applicantUserId()), PushService.APPLICATION_STATUS, payload);
+            payloads.add(payload);
+        }
+        push.push(companyMembers.findHrUserIdsByCompanyId(e.companyId()), PushService.APPLICATION_STATUS_BATCH, payloads);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void on(ApplicationsInvalidatedEvent e) {
+        ApplicationPush payload = new ApplicationPush(null, e.jobId(), null, 4);
+        push.push(e.applicantUserIds(), PushService.APPLICATIONS_INVALIDATED, payload);
+        push.push(companyMembers.findHrUserIdsByCompanyId(e.companyId()), PushService.APPLICATIONS_INVALIDATED, payload);
+    }
+}
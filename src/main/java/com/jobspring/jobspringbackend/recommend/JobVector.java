@@ -0,0 +1,33 @@
+package com.jobspring.jobspringbackend.recommend;
+
+import com.jobspring.jobspringbackend.repository.projection.JobSkillWeightView;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 职位的稀疏技能向量，按 skillId 升序存放，便于与用户向量归并求交。
+ */
+public record JobVector(
+        Long jobId,
+        long postedAt,      // epoch millis，用于同分排序
+        int[] skills,
+        float[] weights,    // JobSkill.weight，0-10
+        boolean[] required
+) {
+
+    public static JobVector of(Long jobId, long postedAt, List<JobSkillWeightView> rows) {
+        List<JobSkillWeightView> sorted = rows.stream().sorted(Comparator.comparing(JobSkillWeightView::getSkillId)).toList();
+        int n = sorted.size();
+        int[] skills = new int[n];
+        float[] weights = new float[n];
+        boolean[] required = new boolean[n];
+        for (int i = 0; i < n; i++) {
+            JobSkillWeightView row = sorted.get(i);
+            skills[i] = Math.toIntExact(row.getSkillId());
+            weights[i] = row.getWeight() != null ? Math.max(0, row.getWeight()) : 0f;
+            required[i] = Boolean.TRUE.equals(row.getRequired());
+        }
+        return new JobVector(jobId, postedAt, skills, weights, required);
+    }
+}
@@ -0,0 +1,135 @@
+package com.jobspring.jobspringbackend.recommend;
+
+import com.jobspring.jobspringbackend.constant.JobStatus;
+import com.jobspring.jobspringbackend.entity.Job;
+import com.jobspring.jobspringbackend.events.JobCreatedEvent;
+import com.jobspring.jobspringbackend.events.JobDeactivatedEvent;
+import com.jobspring.jobspringbackend.events.JobReplacedEvent;
+import com.jobspring.jobspringbackend.repository.JobRepository;
+import com.jobspring.jobspringbackend.repository.SkillRepository;
+import com.jobspring.jobspringbackend.repository.projection.JobSkillWeightView;
+import com.jobspring.jobspringbackend.search.JobDocument;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RecommendationIndexer {
+
+    private static final int BOOTSTRAP_CHUNK = 1000;
+    private static final int FLUSH_BATCH = 500;
+
+    private final JobRepository jobRepository;
+    private final SkillRepository skillRepository;
+    private final SkillMatchIndex index;
+
+    // 与搜索索引相同：增量只记 id，刷新时按数据库当前状态重建向量
+    private final Set<Long> dirty = ConcurrentHashMap.newKeySet();
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void bootstrap() {
+        long started = System.currentTimeMillis();
+        try {
+            // 分批读库，最后一次性压成快照；逐批 apply 会每批重压一遍全部已加载的向量
+            List<JobVector> all = new ArrayList<>();
+            long lastId = 0L;
+            while (true) {
+                List<Job> chunk = jobRepository.findByStatusAndIdGreaterThanOrderByIdAsc(JobStatus.VALID, lastId, PageRequest.of(0, BOOTSTRAP_CHUNK));
+                if (chunk.isEmpty()) {
+                    break;
+                }
+                all.addAll(toVectors(chunk));
+                lastId = chunk.get(chunk.size() - 1).getId();
+            }
+            index.load(all);
+            index.markReady();
+            log.info("Recommendation index built: {} jobs in {} ms", index.size(), System.currentTimeMillis() - started);
+        } catch (Exception e) {
+            log.warn("Recommendation index bootstrap failed, recommendations stay empty", e);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void on(JobCreatedEvent e) {
+        dirty.add(e.jobId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void on(JobReplacedEvent e) {
+        dirty.add(e.oldJobId());
+        dirty.add(e.newJobId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void on(JobDeactivatedEvent e) {
+        dirty.add(e.jobId());
+    }
+
+    @Scheduled(fixedDelayString = "${app.recommend.index.flush-ms:1000}")
+    public void flush() {
+        if (!index.isReady()) {
+            return;
+        }
+        while (!dirty.isEmpty()) {
+            List<Long> batch = drain();
+            try {
+                apply(batch);
+            } catch (Exception e) {
+                dirty.addAll(batch);
+                log.warn("Recommendation index flush failed for {} jobs, will retry", batch.size(), e);
+                return;
+            }
+        }
+    }
+
+    private List<Long> drain() {
+        List<Long> batch = new ArrayList<>(FLUSH_BATCH);
+        Iterator<Long> it = dirty.iterator();
+        while (it.hasNext() && batch.size() < FLUSH_BATCH) {
+            batch.add(it.next());
+            it.remove();
+        }
+        return batch;
+    }
+
+    private void apply(List<Long> jobIds) {
+        List<Job> active = jobRepository.findByIdIn(jobIds).stream()
+                .filter(j -> j.getStatus() != null && j.getStatus() == JobStatus.VALID)
+                .toList();
+        List<JobVector> upserts = active.isEmpty() ? List.of() : toVectors(active);
+        Set<Long> keep = upserts.stream().map(JobVector::jobId).collect(Collectors.toSet());
+        index.apply(upserts, jobIds.stream().filter(id -> !keep.contains(id)).toList());
+    }
+
+    private List<JobVector> toVectors(Collection<Job> jobs) {
+        Map<Long, List<JobSkillWeightView>> rows = new HashMap<>();
+        for (JobSkillWeightView row : skillRepository.findWeightsByJobIds(jobs.stream().map(Job::getId).toList())) {
+            rows.computeIfAbsent(row.getJobId(), k -> new ArrayList<>()).add(row);
+        }
+        List<JobVector> vectors = new ArrayList<>(jobs.size());
+        for (Job job : jobs) {
+            vectors.add(JobVector.of(job.getId(), JobDocument.epochMillis(job.getPostedAt()), rows.getOrDefault(job.getId(), List.of())));
+        }
+        return vectors;
+    }
+}
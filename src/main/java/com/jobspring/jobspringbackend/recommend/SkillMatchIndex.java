@@ -0,0 +1,246 @@
+package com.jobspring.jobspringbackend.recommend;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.stream.IntStream;
+
+/**
+ * 在线职位技能向量的内存索引，用于“为你推荐”。
+ * 全部向量压成一份 CSR 基础快照（行偏移 + 扁平的 skill/weight/required 数组），启动时一次构建。
+ * 增量变更不重压基础快照：被改动或删除的行打删除标记，新版本向量另压成一个小的增量段；
+ * 增量段和删除标记累计超过阈值时才整体压实一次。写操作串行，读操作只访问当前视图，无锁，按行分段并行打分。
+ * <p>
+ * 打分：职位的必需技能候选人必须全部具备，否则不推荐；
+ * 其余按 Σ(职位权重 × 候选人熟练度) / Σ职位权重 计算，取值 0~1。
+ */
+@Component
+public class SkillMatchIndex {
+
+    private static final int MIN_ROWS_PER_TASK = 4096;  // 每个并行分段至少的职位数，太小时线程调度不划算
+    private static final int MIN_COMPACT_ROWS = 1024;   // 增量段 + 删除标记超过 max(此值, 基础行数 / 8) 时压实
+
+    // 以下写状态只在 writeLock 内访问
+    private final Map<Long, JobVector> vectors = new HashMap<>();
+    private final Map<Long, Integer> baseRows = new HashMap<>();          // jobId -> 基础快照中的行号
+    private final Map<Long, JobVector> pending = new LinkedHashMap<>();  // 尚未压入基础快照的向量
+    private BitSet removed = new BitSet();                               // 基础快照中已失效的行
+    private final Object writeLock = new Object();
+
+    private volatile View view = View.EMPTY;
+    private volatile boolean ready;
+
+    public record Match(Long jobId, float score) {
+    }
+
+    private record Snapshot(long[] jobIds, long[] postedAt, int[] offsets, int[] skills, float[] weights,
+                            boolean[] required, int[] requiredCount, float[] totalWeight) {
+
+        static final Snapshot EMPTY = new Snapshot(new long[0], new long[0], new int[]{0}, new int[0], new float[0],
+                new boolean[0], new int[0], new float[0]);
+
+        int rows() {
+            return jobIds.length;
+        }
+    }
+
+    // 对外可见的一致视图：基础快照去掉删除标记的行，加上增量段
+    private record View(Snapshot base, BitSet removed, Snapshot delta, int size) {
+
+        static final View EMPTY = new View(Snapshot.EMPTY, new BitSet(), Snapshot.EMPTY, 0);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public void markReady() {
+        ready = true;
+    }
+
+    public int size() {
+        return view.size();
+    }
+
+    /**
+     * 全量加载：替换全部向量并一次压成基础快照，用于启动构建。
+     */
+    public void load(Collection<JobVector> all) {
+        synchronized (writeLock) {
+            vectors.clear();
+            for (JobVector v : all) {
+                vectors.put(v.jobId(), v);
+            }
+            compact();
+        }
+    }
+
+    public void apply(Collection<JobVector> upserts, Collection<Long> removals) {
+        synchronized (writeLock) {
+            for (Long id : removals) {
+                vectors.remove(id);
+                pending.remove(id);
+                markRemoved(id);
+            }
+            for (JobVector v : upserts) {
+                vectors.put(v.jobId(), v);
+                pending.put(v.jobId(), v);
+                markRemoved(v.jobId());
+            }
+            Snapshot base = view.base();
+            if (pending.size() + removed.cardinality() > Math.max(MIN_COMPACT_ROWS, base.rows() / 8)) {
+                compact();
+            } else {
+                // 删除标记复制一份再发布，读线程持有的旧视图不受后续写入影响
+                view = new View(base, (BitSet) removed.clone(), pack(pending.values()), vectors.size());
+            }
+        }
+    }
+
+    private void markRemoved(Long jobId) {
+        Integer row = baseRows.get(jobId);
+        if (row != null) {
+            removed.set(row);
+        }
+    }
+
+    private void compact() {
+        Snapshot base = pack(vectors.values());
+        baseRows.clear();
+        for (int row = 0; row < base.rows(); row++) {
+            baseRows.put(base.jobIds()[row], row);
+        }
+        pending.clear();
+        removed = new BitSet();
+        view = new View(base, new BitSet(), Snapshot.EMPTY, base.rows());
+    }
+
+    public List<Match> recommend(UserVector user, int limit) {
+        View v = view;
+        Snapshot base = v.base();
+        int rows = base.rows();
+        if (limit <= 0 || v.size() == 0 || user.isEmpty()) {
+            return List.of();
+        }
+        int tasks = Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(), rows / MIN_ROWS_PER_TASK));
+        int step = (rows + tasks - 1) / tasks;
+
+        // 基础快照每段各自保留前 limit 个，增量段单独一段，再合并
+        List<Hit> merged = IntStream.rangeClosed(0, tasks).parallel()
+                .mapToObj(t -> t < tasks
+                        ? topK(base, v.removed(), user, t * step, Math.min(rows, (t + 1) * step), limit)
+                        : topK(v.delta(), null, user, 0, v.delta().rows(), limit))
+                .flatMap(List::stream)
+                .sorted(RANK.reversed())
+                .limit(limit)
+                .toList();
+        return merged.stream().map(h -> new Match(h.jobId(), h.score())).toList();
+    }
+
+    private record Hit(long jobId, long postedAt, float score) {
+    }
+
+    // 分数优先，同分按发布时间、再按 id 排序
+    private static final Comparator<Hit> RANK = Comparator.comparingDouble(Hit::score)
+            .thenComparingLong(Hit::postedAt)
+            .thenComparingLong(Hit::jobId);
+
+    private static List<Hit> topK(Snapshot s, BitSet skip, UserVector user, int from, int to, int k) {
+        // 小顶堆只保留前 k 个
+        PriorityQueue<Hit> heap = new PriorityQueue<>(k + 1, RANK);
+        for (int row = from; row < to; row++) {
+            if (skip != null && skip.get(row)) {
+                continue;
+            }
+            float score = score(s, row, user);
+            if (score <= 0f) {
+                continue;
+            }
+            heap.offer(new Hit(s.jobIds()[row], s.postedAt()[row], score));
+            if (heap.size() > k) {
+                heap.poll();
+            }
+        }
+        return new ArrayList<>(heap);
+    }
+
+    // 两个有序数组归并求交
+    private static float score(Snapshot s, int row, UserVector user) {
+        float total = s.totalWeight()[row];
+        if (total <= 0f) {
+            return 0f;
+        }
+        int[] us = user.skills();
+        int i = s.offsets()[row];
+        int end = s.offsets()[row + 1];
+        int j = 0;
+        float dot = 0f;
+        int requiredHit = 0;
+        while (i < end && j < us.length) {
+            int a = s.skills()[i];
+            int b = us[j];
+            if (a == b) {
+                dot += s.weights()[i] * user.strengths()[j];
+                if (s.required()[i]) {
+                    requiredHit++;
+                }
+                i++;
+                j++;
+            } else if (a < b) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        if (requiredHit < s.requiredCount()[row]) {
+            return 0f;
+        }
+        return dot / total;
+    }
+
+    private static Snapshot pack(Collection<JobVector> vectors) {
+        int rows = vectors.size();
+        int nnz = 0;
+        for (JobVector v : vectors) {
+            nnz += v.skills().length;
+        }
+        long[] jobIds = new long[rows];
+        long[] postedAt = new long[rows];
+        int[] offsets = new int[rows + 1];
+        int[] skills = new int[nnz];
+        float[] weights = new float[nnz];
+        boolean[] required = new boolean[nnz];
+        int[] requiredCount = new int[rows];
+        float[] totalWeight = new float[rows];
+
+        int row = 0;
+        int pos = 0;
+        for (JobVector v : vectors) {
+            jobIds[row] = v.jobId();
+            postedAt[row] = v.postedAt();
+            offsets[row] = pos;
+            int n = v.skills().length;
+            System.arraycopy(v.skills(), 0, skills, pos, n);
+            System.arraycopy(v.weights(), 0, weights, pos, n);
+            System.arraycopy(v.required(), 0, required, pos, n);
+            for (int i = 0; i < n; i++) {
+                totalWeight[row] += v.weights()[i];
+                if (v.required()[i]) {
+                    requiredCount[row]++;
+                }
+            }
+            pos += n;
+            row++;
+        }
+        offsets[rows] = pos;
+        return new Snapshot(jobIds, postedAt, offsets, skills, weights, required, requiredCount, totalWeight);
+    }
+}
@@ -0,0 +1,40 @@
+package com.jobspring.jobspringbackend.recommend;
+
+import com.jobspring.jobspringbackend.repository.projection.UserSkillView;
+
+import java.math.BigDecimal;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 候选人的稀疏技能向量，按 skillId 升序存放。
+ * 熟练度 = level/5 × (0.6 + 0.4 × min(years, 5)/5)，取值 0~1；没有年限的按 0 年计。
+ */
+public record UserVector(int[] skills, float[] strengths) {
+
+    private static final int MAX_LEVEL = 5;
+    private static final float YEARS_CAP = 5f;
+
+    public static UserVector of(List<UserSkillView> rows) {
+        List<UserSkillView> sorted = rows.stream().sorted(Comparator.comparing(UserSkillView::getSkillId)).toList();
+        int n = sorted.size();
+        int[] skills = new int[n];
+        float[] strengths = new float[n];
+        for (int i = 0; i < n; i++) {
+            UserSkillView row = sorted.get(i);
+            skills[i] = Math.toIntExact(row.getSkillId());
+            strengths[i] = strength(row.getLevel(), row.getYears());
+        }
+        return new UserVector(skills, strengths);
+    }
+
+    static float strength(Integer level, BigDecimal years) {
+        float l = level == null ? 0f : Math.min(Math.max(level, 0), MAX_LEVEL) / (float) MAX_LEVEL;
+        float y = years == null ? 0f : Math.min(Math.max(years.floatValue(), 0f), YEARS_CAP) / YEARS_CAP;
+        return l * (0.6f + 0.4f * y);
+    }
+
+    public boolean isEmpty() {
+        return skills.length == 0;
+    }
+}
@@ -3,48 +3,124 @@ package com.jobspring.jobspringbackend.repository;
 import com.jobspring.jobspringbackend.entity.Application;
 import com.jobspring.jobspringbackend.entity.Job;
 import com.jobspring.jobspringbackend.entity.User;
+import com.jobspring.jobspringbackend.repository.projection.ApplicationBriefView;
+import com.jobspring.jobspringbackend.repository.projection.ApplicationRefView;
+import com.jobspring.jobspringbackend.repository.projection.ApplicationStatusView;
+import com.jobspring.jobspringbackend.repository.projection.JobStatusCountView;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface ApplicationRepository extends JpaRepository<Application, Long> {
     boolean existsByJobAndUser(Job job, User user);
 
-    @Query("""
-            select a
+    @Query(value = """
+            select a.id as id, a.status as status, a.appliedAt as appliedAt,
+                   j.id as jobId, j.title as jobTitle, c.id as companyId, c.name as companyName,
+                   u.id as applicantId, u.fullName as applicantName
             from Application a
-            where a.job.company.id = :companyId
-              and (:jobId is null or a.job.id = :jobId)
+              join a.job j
+              join j.company c
+              join a.user u
+            where c.id = :companyId
+              and (:jobId is null or j.id = :jobId)
               and (:status is null or a.status = :status)
             order by a.appliedAt desc
-            """)
-    Page<Application> searchByCompany(
+            """,
+            countQuery = """
+                    select count(a)
+                    from Application a
+                    where a.job.company.id = :companyId
+                      and (:jobId is null or a.job.id = :jobId)
+                      and (:status is null or a.status = :status)
+                    """)
+    Page<ApplicationBriefView> searchByCompany(
             @Param("companyId") Long companyId,
             @Param("jobId") Long jobId,
             @Param("status") Integer status,
             Pageable pageable
     );
 
+    long countByJobIdAndStatusNot(Long jobId, Integer status);
+
+    // 职位下线时按 id 递增分批取出仍需失效的投递
+    @Query("""
+            select a.id as id, a.user.id as userId
+            from Application a
+            where a.job.id = :jobId and a.id > :afterId and a.status <> :status
+            order by a.id
+            """)
+    List<ApplicationRefView> findRefsByJobIdAndStatusNot(@Param("jobId") Long jobId,
+                                                         @Param("afterId") Long afterId,
+                                                         @Param("status") Integer status,
+                                                         Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE Application a SET a.status = :newStatus WHERE a.id in :ids and a.status <> :newStatus")
+    int updateStatusByIds(@Param("ids") Collection<Long> ids, @Param("newStatus") Integer newStatus);
+
+    // 加写锁读取，后续 UPDATE 前这些行的状态不会被失效任务等其他事务改掉；职位行一并锁住，读到的 jobStatus 也不会过期
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+            select a.id as id, a.status as status, a.user.id as applicantId,
+                   j.company.id as companyId, j.id as jobId, j.title as jobTitle, j.status as jobStatus
+            from Application a join a.job j
+            where a.id in :ids
+            """)
+    List<ApplicationStatusView> findStatusViewsByIds(@Param("ids") Collection<Long> ids);
+
+    // 公司漏斗统计：每个职位每个状态一行，没有投递的职位 status 为 null
+    @Query("""
+            select j.id as jobId, j.title as jobTitle, a.status as status, count(a.id) as total
+            from Job j left join Application a on a.job = j
+            where j.company.id = :companyId
+            group by j.id, j.title, a.status
+            """)
+    List<JobStatusCountView> countFunnelByCompanyId(@Param("companyId") Long companyId);
+
     @Modifying
     @Query("UPDATE Application a SET a.status = :newStatus WHERE a.job.id = :jobId")
     int updateStatusByJobId(@Param("jobId") Long jobId, @Param("newStatus") Integer newStatus);
 
-    // 带抓取 Job 和 Company，避免 N+1
-    @EntityGraph(attributePaths = {"job", "job.company"})
-    @Query("select a from Application a where a.user.id = :userId order by a.appliedAt desc")
-    Page<Application> findMyApplications(Long userId, Pageable pageable);
+    // 一条 join 查询取齐 Job 和 Company 的列，避免 N+1，也不加载简历大字段
+    @Query(value = """
+            select a.id as id, a.status as status, a.appliedAt as appliedAt,
+                   j.id as jobId, j.title as jobTitle, c.id as companyId, c.name as companyName,
+                   u.id as applicantId, u.fullName as applicantName
+            from Application a
+              join a.job j
+              join j.company c
+              join a.user u
+            where u.id = :userId
+            order by a.appliedAt desc
+            """,
+            countQuery = "select count(a) from Application a where a.user.id = :userId")
+    Page<ApplicationBriefView> findMyApplications(Long userId, Pageable pageable);
 
-    @EntityGraph(attributePaths = {"job", "job.company"})
-    @Query("select a from Application a where a.user.id = :userId and a.status = :status order by a.appliedAt desc")
-    Page<Application> findMyApplicationsByStatus(Long userId, Integer status, Pageable pageable);
+    @Query(value = """
+            select a.id as id, a.status as status, a.appliedAt as appliedAt,
+                   j.id as jobId, j.title as jobTitle, c.id as companyId, c.name as companyName,
+                   u.id as applicantId, u.fullName as applicantName
+            from Application a
+              join a.job j
+              join j.company c
+              join a.user u
+            where u.id = :userId and a.status = :status
+            order by a.appliedAt desc
+            """,
+            countQuery = "select count(a) from Application a where a.user.id = :userId and a.status = :status")
+    Page<ApplicationBriefView> findMyApplicationsByStatus(Long userId, Integer status, Pageable pageable);
 
 
     @Query("""
@@ -54,4 +130,8 @@ public interface ApplicationRepository extends JpaRepository<Application, Long>
             where a.id = :id
             """)
     Optional<Application> findByIdWithJobAndCompany(@Param("id") Long id);
+
+    // 仍以 base64 data URL 内联存储的简历，按 id 递增分批迁移
+    @Query("select a.id from Application a where a.id > :afterId and a.resumeUrl like 'data:%' order by a.id")
+    List<Long> findInlineResumeIds(@Param("afterId") Long afterId, Pageable pageable);
 }
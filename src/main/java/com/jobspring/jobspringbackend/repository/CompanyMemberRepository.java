@@ -19,4 +19,7 @@ public interface CompanyMemberRepository extends JpaRepository<CompanyMember, Lo
 
     @Query("select cm.user.email from CompanyMember cm where cm.company.id = :companyId and cm.role in ('HR','Recruiter')")
     List<String> findHrEmailsByCompanyId(Long companyId);
-}
\ No newline at end of file
+
+    @Query("select cm.user.id from CompanyMember cm where cm.company.id = :companyId and cm.role in ('HR','Recruiter')")
+    List<Long> findHrUserIdsByCompanyId(Long companyId);
+}
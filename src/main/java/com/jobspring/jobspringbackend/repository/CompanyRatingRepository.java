@@ -0,0 +1,29 @@
+package com.jobspring.jobspringbackend.repository;
+
+import com.jobspring.jobspringbackend.entity.CompanyRating;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface CompanyRatingRepository extends JpaRepository<CompanyRating, Long> {
+
+    // 并发审核同一公司的评价时串行累加
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select r from CompanyRating r where r.companyId = :companyId")
+    Optional<CompanyRating> lockByCompanyId(@Param("companyId") Long companyId);
+
+    // 行已存在时什么也不做，返回 0；并发插入同一公司时后到的一方会等先插入的事务结束
+    @Modifying
+    @Query(value = """
+            INSERT IGNORE INTO company_ratings
+                (company_id, review_count, rating_sum, stars_1, stars_2, stars_3, stars_4, stars_5)
+            VALUES (:#{#r.companyId}, :#{#r.reviewCount}, :#{#r.ratingSum},
+                    :#{#r.stars1}, :#{#r.stars2}, :#{#r.stars3}, :#{#r.stars4}, :#{#r.stars5})
+            """, nativeQuery = true)
+    int insertIfAbsent(@Param("r") CompanyRating row);
+}
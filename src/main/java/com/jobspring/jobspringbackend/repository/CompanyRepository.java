@@ -1,10 +1,22 @@
 package com.jobspring.jobspringbackend.repository;
 
 import com.jobspring.jobspringbackend.entity.Company;
+import com.jobspring.jobspringbackend.repository.projection.CompanySummaryView;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface CompanyRepository extends JpaRepository<Company, Long> {
     boolean existsByName(String name);
+
+    @Query(value = """
+            select c.id as id, c.name as name, c.website as website, c.size as size,
+                   c.logoUrl as logoUrl, c.description as description, c.createdBy as createdBy
+            from Company c
+            """,
+            countQuery = "select count(c) from Company c")
+    Page<CompanySummaryView> findAllSummaries(Pageable pageable);
 }
@@ -2,49 +2,107 @@ package com.jobspring.jobspringbackend.repository;
 
 import com.jobspring.jobspringbackend.entity.Job;
 import com.jobspring.jobspringbackend.entity.Skill;
+import com.jobspring.jobspringbackend.repository.projection.JobRowView;
+import com.jobspring.jobspringbackend.repository.projection.JobStatusView;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.util.Optional;
-
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 
 @Repository
 public interface JobRepository extends JpaRepository<Job, Long>, JpaSpecificationExecutor<Job> {
+    @EntityGraph(attributePaths = "company")
     Page<Job> findByStatus(@Param("status") Integer status, Pageable pageable);
 
     // 搜索职位（标题、地点、公司名）
+    @EntityGraph(attributePaths = "company")
     @Query("SELECT j FROM Job j WHERE j.status = 0 AND " +
             "(LOWER(j.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
             "LOWER(j.location) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
             "LOWER(j.company.name) LIKE LOWER(CONCAT('%', :keyword, '%')))")
     Page<Job> searchJobs(@Param("keyword") String keyword, Pageable pageable);
 
+    // 游标分页：按 (postedAt, id) 倒序，不做 COUNT
+    @EntityGraph(attributePaths = "company")
+    @Query("SELECT j FROM Job j WHERE j.status = 0 AND j.postedAt IS NOT NULL " +
+            "ORDER BY j.postedAt DESC, j.id DESC")
+    Slice<Job> findActiveLatest(Pageable pageable);
+
+    @EntityGraph(attributePaths = "company")
+    @Query("SELECT j FROM Job j WHERE j.status = 0 AND " +
+            "(j.postedAt < :postedAt OR (j.postedAt = :postedAt AND j.id < :id)) " +
+            "ORDER BY j.postedAt DESC, j.id DESC")
+    Slice<Job> findActiveBefore(@Param("postedAt") LocalDateTime postedAt, @Param("id") Long id, Pageable pageable);
+
+    @EntityGraph(attributePaths = "company")
+    @Query("SELECT j FROM Job j WHERE j.status = 0 AND j.postedAt IS NOT NULL AND " +
+            "(LOWER(j.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+            "LOWER(j.location) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+            "LOWER(j.company.name) LIKE LOWER(CONCAT('%', :keyword, '%'))) " +
+            "ORDER BY j.postedAt DESC, j.id DESC")
+    Slice<Job> searchActiveLatest(@Param("keyword") String keyword, Pageable pageable);
+
+    @EntityGraph(attributePaths = "company")
+    @Query("SELECT j FROM Job j WHERE j.status = 0 AND " +
+            "(j.postedAt < :postedAt OR (j.postedAt = :postedAt AND j.id < :id)) AND " +
+            "(LOWER(j.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+            "LOWER(j.location) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+            "LOWER(j.company.name) LIKE LOWER(CONCAT('%', :keyword, '%'))) " +
+            "ORDER BY j.postedAt DESC, j.id DESC")
+    Slice<Job> searchActiveBefore(@Param("keyword") String keyword, @Param("postedAt") LocalDateTime postedAt, @Param("id") Long id, Pageable pageable);
+
     // 创建，修改，删除职位
     boolean existsByIdAndCompanyId(@Param("jobId") Long jobId, @Param("companyId") Long companyId);
 
     Optional<Job> findByIdAndCompanyId(Long jobId, Long companyId);
 
 
+    @EntityGraph(attributePaths = "company")
     @Query("SELECT j FROM Job j WHERE " +
             "(LOWER(j.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
             "LOWER(j.location) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
             "LOWER(j.company.name) LIKE LOWER(CONCAT('%', :keyword, '%')))")
     Page<Job> adminSearchJobs(@Param("keyword") String keyword, Pageable pageable);
 
-    // 分页查某公司的所有岗位
-    Page<Job> findByCompanyId(Long companyId, Pageable pageable);
+    // 分页查某公司的岗位，status 为空时不过滤（0=上架/1=下线）；只取 JobResponse 需要的列
+    @Query(value = """
+            select j.id as id, j.company.id as companyId, j.title as title, j.location as location,
+                   j.employmentType as employmentType, j.salaryMin as salaryMin, j.salaryMax as salaryMax,
+                   j.description as description, j.status as status, j.postedAt as postedAt
+            from Job j
+            where j.company.id = :companyId
+              and (:status is null or j.status = :status)
+            """,
+            countQuery = "select count(j) from Job j where j.company.id = :companyId and (:status is null or j.status = :status)")
+    Page<JobRowView> findCompanyJobRows(@Param("companyId") Long companyId, @Param("status") Integer status, Pageable pageable);
+
+    // 逐行读取职位状态，afterId 为续传游标；MySQL 驱动需 fetch size 为 Integer.MIN_VALUE 才会真正流式返回
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "-2147483648"))
+    @Query("select j.id as id, j.title as title, c.id as companyId, c.name as companyName, j.status as status from Job j join j.company c where j.id > :afterId order by j.id")
+    Stream<JobStatusView> streamStatusViews(@Param("afterId") Long afterId);
 
-    // 分页查某公司 + 指定状态（0=上架/1=下线）
-    Page<Job> findByCompanyIdAndStatus(Long companyId, Integer status, Pageable pageable);
+    // 按 id 游标分批读取在线职位，用于构建搜索索引
+    @EntityGraph(attributePaths = "company")
+    List<Job> findByStatusAndIdGreaterThanOrderByIdAsc(Integer status, Long id, Pageable pageable);
+
+    @EntityGraph(attributePaths = "company")
+    List<Job> findByIdIn(Collection<Long> ids);
 
     @Override
     @EntityGraph(attributePaths = "company")
@@ -0,0 +1,28 @@
+package com.jobspring.jobspringbackend.repository;
+
+import com.jobspring.jobspringbackend.entity.MailOutbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface MailOutboxRepository extends JpaRepository<MailOutbox, Long> {
+
+    // 待发送或租约已过期的发送中记录；SKIP LOCKED 让多个节点各自认领不同的行
+    @Query(value = """
+            SELECT * FROM mail_outbox
+            WHERE status IN (0, 3) AND next_attempt_at <= :now
+            ORDER BY id
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<MailOutbox> lockDue(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    @Modifying
+    @Query("DELETE FROM MailOutbox m WHERE m.status IN :statuses AND m.createdAt < :before")
+    int deleteFinishedBefore(@Param("statuses") Collection<Integer> statuses, @Param("before") LocalDateTime before);
+}
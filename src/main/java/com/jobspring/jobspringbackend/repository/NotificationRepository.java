@@ -0,0 +1,36 @@
+package com.jobspring.jobspringbackend.repository;
+
+import com.jobspring.jobspringbackend.entity.Notification;
+import com.jobspring.jobspringbackend.repository.projection.NotificationView;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+
+public interface NotificationRepository extends JpaRepository<Notification, Long> {
+
+    // 未读在前，再按时间倒序
+    @Query(value = """
+            select n.id as id, t.type as type, t.title as title, n.message as message,
+                   n.refId as refId, n.isRead as isRead, n.createdAt as createdAt
+            from Notification n join n.notificationType t
+            where n.user.id = :userId
+            order by n.isRead asc, n.createdAt desc, n.id desc
+            """,
+            countQuery = "select count(n) from Notification n where n.user.id = :userId")
+    Page<NotificationView> findInbox(@Param("userId") Long userId, Pageable pageable);
+
+    long countByUserIdAndIsReadFalse(Long userId);
+
+    @Modifying
+    @Query("update Notification n set n.isRead = true where n.user.id = :userId and n.isRead = false and n.id in :ids")
+    int markRead(@Param("userId") Long userId, @Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("update Notification n set n.isRead = true where n.user.id = :userId and n.isRead = false")
+    int markAllRead(@Param("userId") Long userId);
+}
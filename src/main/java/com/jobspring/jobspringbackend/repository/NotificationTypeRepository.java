@@ -0,0 +1,15 @@
+package com.jobspring.jobspringbackend.repository;
+
+import com.jobspring.jobspringbackend.entity.NotificationType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface NotificationTypeRepository extends JpaRepository<NotificationType, String> {
+
+    // 类型已存在时什么也不做；并发首次写入同一类型时不会因主键冲突回滚整个事务
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO notification_types (type, title) VALUES (:type, :title)", nativeQuery = true)
+    int insertIfAbsent(@Param("type") String type, @Param("title") String title);
+}
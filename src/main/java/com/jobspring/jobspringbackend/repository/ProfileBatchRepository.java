@@ -0,0 +1,53 @@
+package com.jobspring.jobspringbackend.repository;
+
+import com.jobspring.jobspringbackend.entity.ProfileEducation;
+import com.jobspring.jobspringbackend.entity.ProfileExperience;
+import com.jobspring.jobspringbackend.entity.UserSkill;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 简历子表的批量插入。主键为 IDENTITY 时 Hibernate 无法合并 insert，
+ * 这里直接走 JDBC batch；MySQL 驱动开启 rewriteBatchedStatements 后会改写为一条多行 insert。
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProfileBatchRepository {
+
+    private static final String INSERT_EDUCATION = "insert into profile_educations "
+            + "(profile_id, school, degree, major, start_date, end_date, gpa, description) values (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_EXPERIENCE = "insert into profile_experiences "
+            + "(profile_id, company, title, start_date, end_date, description, achievements) values (?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_USER_SKILL = "insert into user_skills "
+            + "(user_id, skill_id, level, years) values (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertEducations(Long profileId, List<ProfileEducation> rows) {
+        if (rows.isEmpty()) return;
+        jdbcTemplate.batchUpdate(INSERT_EDUCATION, rows.stream()
+                .map(e -> new Object[]{profileId, e.getSchool(), e.getDegree(), e.getMajor(),
+                        e.getStartDate(), e.getEndDate(), e.getGpa(), e.getDescription()})
+                .toList());
+    }
+
+    public void insertExperiences(Long profileId, List<ProfileExperience> rows) {
+        if (rows.isEmpty()) return;
+        jdbcTemplate.batchUpdate(INSERT_EXPERIENCE, rows.stream()
+                .map(e -> new Object[]{profileId, e.getCompany(), e.getTitle(),
+                        e.getStartDate(), e.getEndDate(), e.getDescription(), e.getAchievements()})
+                .toList());
+    }
+
+    public void insertUserSkills(Long userId, List<UserSkill> rows) {
+        if (rows.isEmpty()) return;
+        jdbcTemplate.batchUpdate(INSERT_USER_SKILL, rows.stream()
+                .map(us -> new Object[]{userId, us.getSkill().getId(), us.getLevel(), us.getYears()})
+                .toList());
+    }
+}
@@ -6,7 +6,5 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import java.util.List;
 
 public interface ProfileEducationRepository extends JpaRepository<ProfileEducation, Long> {
-    List<ProfileEducation> findByProfileId(Long profileId);
-
-    void deleteByProfileId(Long profileId);
+    List<ProfileEducation> findByProfileIdOrderByIdAsc(Long profileId);
 }
\ No newline at end of file
@@ -6,7 +6,5 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import java.util.List;
 
 public interface ProfileExperienceRepository extends JpaRepository<ProfileExperience, Long> {
-    List<ProfileExperience> findByProfileId(Long profileId);
-
-    void deleteByProfileId(Long profileId);
+    List<ProfileExperience> findByProfileIdOrderByIdAsc(Long profileId);
 }
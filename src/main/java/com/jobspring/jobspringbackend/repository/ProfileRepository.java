@@ -3,11 +3,17 @@ package com.jobspring.jobspringbackend.repository;
 import com.jobspring.jobspringbackend.entity.Profile;
 import com.jobspring.jobspringbackend.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
 public interface ProfileRepository extends JpaRepository<Profile, Long> {
     Optional<Profile> findByUserId(Long userId);
     Optional<Profile> findByUser(User user);
+
+    // 两个集合都是 Set，可以同时 fetch join；结果行是两者的笛卡尔积，简历条目很少，可以接受
+    @Query("select distinct p from Profile p left join fetch p.educations left join fetch p.experiences where p.user.id = :userId")
+    Optional<Profile> findAggregateByUserId(@Param("userId") Long userId);
 }
 
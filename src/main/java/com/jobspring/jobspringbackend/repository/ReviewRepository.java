@@ -1,24 +1,94 @@
 package com.jobspring.jobspringbackend.repository;
 
 import com.jobspring.jobspringbackend.entity.Review;
+import com.jobspring.jobspringbackend.repository.projection.CompanyReviewView;
+import com.jobspring.jobspringbackend.repository.projection.ReviewExportView;
+import com.jobspring.jobspringbackend.repository.projection.RatingCountView;
+import com.jobspring.jobspringbackend.repository.projection.ReviewQueueView;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 
 @Repository
 public interface ReviewRepository extends JpaRepository<Review, Long> {
-    List<Review> findAll();
 
+    @Query(value = """
+                SELECT r.id AS reviewId, j.company.id AS companyId, r.title AS title, r.content AS content,
+                       r.rating AS rating, r.publicAt AS publicAt, r.imageUrl AS imageUrl, r.status AS status
+                FROM Review r
+                JOIN r.application a
+                JOIN a.job j
+                WHERE j.company.id = :companyId AND r.status = :status
+            """,
+            countQuery = """
+                SELECT COUNT(r) FROM Review r
+                JOIN r.application a
+                JOIN a.job j
+                WHERE j.company.id = :companyId AND r.status = :status
+            """)
+    Page<CompanyReviewView> findByCompanyIdAndStatus(@Param("companyId") Long companyId, @Param("status") Integer status, Pageable pageable);
+
+    // 已通过评价按公司、星级计数；companyId 为空时统计所有公司
+    @Query("""
+                SELECT j.company.id AS companyId, r.rating AS rating, COUNT(r) AS total
+                FROM Review r
+                JOIN r.application a
+                JOIN a.job j
+                WHERE r.status = 1 AND r.rating BETWEEN 1 AND 5
+                  AND (:companyId IS NULL OR j.company.id = :companyId)
+                GROUP BY j.company.id, r.rating
+            """)
+    List<RatingCountView> countApprovedRatings(@Param("companyId") Long companyId);
+
+    // 审核队列：按 (submittedAt, id) 顺序游标分页，走 IDX_reviews_status_submitted，不做 COUNT
+    @Query("""
+                SELECT r.id AS id, r.application.id AS applicationId, r.title AS title,
+                       r.rating AS rating, r.status AS status, r.submittedAt AS submittedAt,
+                       rb.id AS reviewedById, r.reviewNote AS reviewNote, r.publicAt AS publicAt
+                FROM Review r
+                LEFT JOIN r.reviewedBy rb
+                WHERE r.status = :status AND r.submittedAt IS NOT NULL
+                ORDER BY r.submittedAt, r.id
+            """)
+    Slice<ReviewQueueView> findQueueFirst(@Param("status") Integer status, Pageable pageable);
+
+    @Query("""
+                SELECT r.id AS id, r.application.id AS applicationId, r.title AS title,
+                       r.rating AS rating, r.status AS status, r.submittedAt AS submittedAt,
+                       rb.id AS reviewedById, r.reviewNote AS reviewNote, r.publicAt AS publicAt
+                FROM Review r
+                LEFT JOIN r.reviewedBy rb
+                WHERE r.status = :status
+                  AND (r.submittedAt > :submittedAt OR (r.submittedAt = :submittedAt AND r.id > :id))
+                ORDER BY r.submittedAt, r.id
+            """)
+    Slice<ReviewQueueView> findQueueAfter(@Param("status") Integer status, @Param("submittedAt") LocalDateTime submittedAt,
+                                          @Param("id") Long id, Pageable pageable);
+
+    // MySQL 驱动只有 fetch size 为 Integer.MIN_VALUE 时才逐行流式读取，需在事务内消费并关闭
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "-2147483648"))
     @Query("""
-                SELECT r FROM Review r
+                SELECT r.id AS id, r.application.id AS applicationId, j.company.id AS companyId, r.title AS title,
+                       r.content AS content, r.rating AS rating, r.status AS status, r.submittedAt AS submittedAt,
+                       rb.id AS reviewedById, r.reviewNote AS reviewNote, r.publicAt AS publicAt
+                FROM Review r
                 JOIN r.application a
                 JOIN a.job j
-                WHERE j.company.id = :companyId
+                LEFT JOIN r.reviewedBy rb
+                WHERE (:status IS NULL OR r.status = :status)
+                ORDER BY r.id
             """)
-    Page<Review> findByCompanyId(@Param("companyId") Long companyId, Pageable pageable);
+    Stream<ReviewExportView> streamForExport(@Param("status") Integer status);
 }
@@ -1,11 +1,14 @@
 package com.jobspring.jobspringbackend.repository;
 
 import com.jobspring.jobspringbackend.entity.Skill;
+import com.jobspring.jobspringbackend.repository.projection.JobSkillWeightView;
+import com.jobspring.jobspringbackend.repository.projection.JobTagView;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -18,5 +21,17 @@ public interface SkillRepository extends JpaRepository<Skill, Long> {
             "ORDER BY js.weight DESC")
     List<String> findSkillNamesByJobId(@Param("jobId") Long jobId);
 
+    // 一次查出多个职位的技能名称
+    @Query("SELECT js.job.id AS jobId, s.name AS name FROM JobSkill js " +
+            "JOIN js.skill s " +
+            "WHERE js.job.id IN :jobIds " +
+            "ORDER BY js.weight DESC")
+    List<JobTagView> findTagsByJobIds(@Param("jobIds") Collection<Long> jobIds);
+
+    // 推荐索引用：多个职位的技能权重与是否必需
+    @Query("SELECT js.job.id AS jobId, js.skill.id AS skillId, js.weight AS weight, js.required AS required " +
+            "FROM JobSkill js WHERE js.job.id IN :jobIds")
+    List<JobSkillWeightView> findWeightsByJobIds(@Param("jobIds") Collection<Long> jobIds);
+
     List<Skill> findAll();
 }
\ No newline at end of file
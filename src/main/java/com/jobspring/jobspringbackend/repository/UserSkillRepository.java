@@ -2,17 +2,20 @@ package com.jobspring.jobspringbackend.repository;
 
 
 import com.jobspring.jobspringbackend.entity.UserSkill;
+import com.jobspring.jobspringbackend.repository.projection.UserSkillView;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
 public interface UserSkillRepository extends JpaRepository<UserSkill, Long> {
-    List<UserSkill> findByUserId(Long userId);
+    // 只取展示字段，避免加载 UserSkill 时连带抓取 User 及其 Profile
+    @Query("select s.id as skillId, s.name as skillName, us.level as level, us.years as years " +
+            "from UserSkill us join us.skill s where us.user.id = :userId order by us.id")
+    List<UserSkillView> findViewsByUserId(@Param("userId") Long userId);
 
-    @Modifying(clearAutomatically = true, flushAutomatically = true)
-    @Query("delete from UserSkill us where us.user.id = :userId")
-    void deleteByUserId(@Param("userId") Long userId);
+    // 连同 Skill 一次取出，避免逐条加载
+    @Query("select us from UserSkill us join fetch us.skill where us.user.id = :userId")
+    List<UserSkill> findWithSkillByUserId(@Param("userId") Long userId);
 }
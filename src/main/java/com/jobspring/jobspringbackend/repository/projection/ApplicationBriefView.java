@@ -0,0 +1,24 @@
+package com.jobspring.jobspringbackend.repository.projection;
+
+import java.time.LocalDateTime;
+
+// 列表页只取这些列，不碰 resume_url / resume_profile 等大字段
+public interface ApplicationBriefView {
+    Long getId();
+
+    Integer getStatus();
+
+    LocalDateTime getAppliedAt();
+
+    Long getJobId();
+
+    String getJobTitle();
+
+    Long getCompanyId();
+
+    String getCompanyName();
+
+    Long getApplicantId();
+
+    String getApplicantName();
+}
@@ -0,0 +1,7 @@
+package com.jobspring.jobspringbackend.repository.projection;
+
+public interface ApplicationRefView {
+    Long getId();
+
+    Long getUserId();
+}
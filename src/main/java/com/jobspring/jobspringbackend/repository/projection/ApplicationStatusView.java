@@ -0,0 +1,18 @@
+package com.jobspring.jobspringbackend.repository.projection;
+
+// 批量改状态前的校验只需要这些列
+public interface ApplicationStatusView {
+    Long getId();
+
+    Integer getStatus();
+
+    Long getApplicantId();
+
+    Long getCompanyId();
+
+    Long getJobId();
+
+    String getJobTitle();
+
+    Integer getJobStatus();
+}
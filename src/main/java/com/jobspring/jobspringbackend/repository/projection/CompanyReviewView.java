@@ -0,0 +1,21 @@
+package com.jobspring.jobspringbackend.repository.projection;
+
+import java.time.LocalDateTime;
+
+public interface CompanyReviewView {
+    Long getReviewId();
+
+    Long getCompanyId();
+
+    String getTitle();
+
+    String getContent();
+
+    Integer getRating();
+
+    LocalDateTime getPublicAt();
+
+    String getImageUrl();
+
+    Integer getStatus();
+}
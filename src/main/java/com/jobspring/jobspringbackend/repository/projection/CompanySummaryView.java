@@ -0,0 +1,18 @@
+package com.jobspring.jobspringbackend.repository.projection;
+
+// 公司列表直接按列取 description，避免逐行触发延迟加载
+public interface CompanySummaryView {
+    Long getId();
+
+    String getName();
+
+    String getWebsite();
+
+    Integer getSize();
+
+    String getLogoUrl();
+
+    String getDescription();
+
+    String getCreatedBy();
+}
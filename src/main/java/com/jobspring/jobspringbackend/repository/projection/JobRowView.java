@@ -0,0 +1,27 @@
+package com.jobspring.jobspringbackend.repository.projection;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+// 公司岗位列表的列投影，company 只取外键，不加载 Company 实体
+public interface JobRowView {
+    Long getId();
+
+    Long getCompanyId();
+
+    String getTitle();
+
+    String getLocation();
+
+    Integer getEmploymentType();
+
+    BigDecimal getSalaryMin();
+
+    BigDecimal getSalaryMax();
+
+    String getDescription();
+
+    Integer getStatus();
+
+    LocalDateTime getPostedAt();
+}
@@ -0,0 +1,11 @@
+package com.jobspring.jobspringbackend.repository.projection;
+
+public interface JobSkillWeightView {
+    Long getJobId();
+
+    Long getSkillId();
+
+    Integer getWeight();
+
+    Boolean getRequired();
+}
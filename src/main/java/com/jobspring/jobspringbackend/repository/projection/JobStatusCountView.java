@@ -0,0 +1,11 @@
+package com.jobspring.jobspringbackend.repository.projection;
+
+public interface JobStatusCountView {
+    Long getJobId();
+
+    String getJobTitle();
+
+    Integer getStatus();
+
+    Long getTotal();
+}
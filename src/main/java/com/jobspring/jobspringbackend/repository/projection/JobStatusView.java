@@ -0,0 +1,13 @@
+package com.jobspring.jobspringbackend.repository.projection;
+
+public interface JobStatusView {
+    Long getId();
+
+    String getTitle();
+
+    Long getCompanyId();
+
+    String getCompanyName();
+
+    Integer getStatus();
+}
@@ -0,0 +1,7 @@
+package com.jobspring.jobspringbackend.repository.projection;
+
+public interface JobTagView {
+    Long getJobId();
+
+    String getName();
+}
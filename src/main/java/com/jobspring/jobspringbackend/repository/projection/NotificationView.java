@@ -0,0 +1,19 @@
+package com.jobspring.jobspringbackend.repository.projection;
+
+import java.time.LocalDateTime;
+
+public interface NotificationView {
+    Long getId();
+
+    String getType();
+
+    String getTitle();
+
+    String getMessage();
+
+    Long getRefId();
+
+    Boolean getIsRead();
+
+    LocalDateTime getCreatedAt();
+}
@@ -0,0 +1,9 @@
+package com.jobspring.jobspringbackend.repository.projection;
+
+public interface RatingCountView {
+    Long getCompanyId();
+
+    Integer getRating();
+
+    Long getTotal();
+}
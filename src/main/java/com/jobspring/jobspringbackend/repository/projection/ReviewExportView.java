@@ -0,0 +1,28 @@
+package com.jobspring.jobspringbackend.repository.projection;
+
+import java.time.LocalDateTime;
+
+// 导出审计用，带正文但不带 base64 图片
+public interface ReviewExportView {
+    Long getId();
+
+    Long getApplicationId();
+
+    Long getCompanyId();
+
+    String getTitle();
+
+    String getContent();
+
+    Integer getRating();
+
+    Integer getStatus();
+
+    LocalDateTime getSubmittedAt();
+
+    Long getReviewedById();
+
+    String getReviewNote();
+
+    LocalDateTime getPublicAt();
+}
@@ -0,0 +1,24 @@
+package com.jobspring.jobspringbackend.repository.projection;
+
+import java.time.LocalDateTime;
+
+// 审核队列的列表行，不含 content / image_url 两个大字段
+public interface ReviewQueueView {
+    Long getId();
+
+    Long getApplicationId();
+
+    String getTitle();
+
+    Integer getRating();
+
+    Integer getStatus();
+
+    LocalDateTime getSubmittedAt();
+
+    Long getReviewedById();
+
+    String getReviewNote();
+
+    LocalDateTime getPublicAt();
+}
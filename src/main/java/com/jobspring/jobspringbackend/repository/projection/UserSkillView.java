@@ -0,0 +1,13 @@
+package com.jobspring.jobspringbackend.repository.projection;
+
+import java.math.BigDecimal;
+
+public interface UserSkillView {
+    Long getSkillId();
+
+    String getSkillName();
+
+    Integer getLevel();
+
+    BigDecimal getYears();
+}
@@ -0,0 +1,20 @@
+package com.jobspring.jobspringbackend.search;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+public record JobDocument(
+        Long id,
+        long postedAt,      // epoch millis，用于同分排序
+        String title,
+        String location,
+        String company,
+        String description,
+        List<String> tags
+) {
+
+    public static long epochMillis(LocalDateTime t) {
+        return t == null ? 0L : t.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
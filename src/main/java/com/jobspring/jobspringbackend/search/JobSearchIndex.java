@@ -0,0 +1,284 @@
+package com.jobspring.jobspringbackend.search;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 在线职位的内存倒排索引：term -> (jobId -> 字段权重)。
+ * 读操作无锁，写操作串行；term 有序存放，支持前缀匹配。
+ */
+@Component
+public class JobSearchIndex {
+
+    private static final float TITLE_WEIGHT = 3.0f;
+    private static final float TAG_WEIGHT = 2.0f;
+    private static final float COMPANY_WEIGHT = 1.5f;
+    private static final float LOCATION_WEIGHT = 1.0f;
+    private static final float DESCRIPTION_WEIGHT = 0.5f;
+
+    private static final float PREFIX_FACTOR = 0.6f;      // 前缀命中相对完整命中的折扣
+    private static final int MAX_PREFIX_EXPANSION = 256;  // 单个 token 最多展开的 term 数
+
+    // 字母数字串，允许 .net 这类前导点和 c++ / c# 这类尾随符号
+    private static final Pattern TOKEN = Pattern.compile("(?:(?<![\\p{L}\\p{N}])\\.)?[\\p{L}\\p{N}]+[+#]*");
+    private static final Pattern CJK = Pattern.compile("[\\p{IsHan}\\p{IsHiragana}\\p{IsKatakana}\\p{IsHangul}]+");
+    private static final Pattern WORD = Pattern.compile(".*[\\p{L}\\p{N}].*");
+
+    private final ConcurrentSkipListMap<String, Map<Long, Float>> postings = new ConcurrentSkipListMap<>();
+    private final Map<Long, Entry> docs = new ConcurrentHashMap<>();
+    private final Object writeLock = new Object();
+    private volatile boolean ready;
+
+    private record Entry(long postedAt, Set<String> terms) {
+    }
+
+    public record Hits(List<Long> ids, long total) {
+    }
+
+    /**
+     * 查询分词：转小写后按字母数字切分；中日韩文字没有空格，连续两字以上切成二元组，单字保留单字。
+     */
+    public static List<String> tokenize(String text) {
+        return terms(text, false);
+    }
+
+    // 建索引时中日韩文字额外收录单字，单字查询才能命中词中间的字
+    private static List<String> terms(String text, boolean forIndex) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        Set<String> tokens = new LinkedHashSet<>();
+        Matcher m = TOKEN.matcher(text.toLowerCase(Locale.ROOT));
+        while (m.find()) {
+            String t = m.group();
+            Matcher c = CJK.matcher(t);
+            int last = 0;
+            while (c.find()) {
+                addWord(tokens, t.substring(last, c.start()));
+                addCjk(tokens, c.group(), forIndex);
+                last = c.end();
+            }
+            addWord(tokens, t.substring(last));
+        }
+        return new ArrayList<>(tokens);
+    }
+
+    private static void addWord(Set<String> tokens, String w) {
+        if (WORD.matcher(w).matches()) {
+            tokens.add(w);
+        }
+    }
+
+    private static void addCjk(Set<String> tokens, String run, boolean forIndex) {
+        int[] cps = run.codePoints().toArray();
+        if (cps.length == 1 || forIndex) {
+            for (int cp : cps) {
+                tokens.add(new String(Character.toChars(cp)));
+            }
+        }
+        for (int i = 0; i + 1 < cps.length; i++) {
+            tokens.add(new String(cps, i, 2));
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public void markReady() {
+        ready = true;
+    }
+
+    public int size() {
+        return docs.size();
+    }
+
+    public void upsert(JobDocument doc) {
+        Map<String, Float> weights = weigh(doc);
+        synchronized (writeLock) {
+            Entry old = docs.get(doc.id());
+            if (old != null) {
+                unlink(doc.id(), old.terms());
+            }
+            weights.forEach((term, w) -> postings.computeIfAbsent(term, t -> new ConcurrentHashMap<>()).put(doc.id(), w));
+            docs.put(doc.id(), new Entry(doc.postedAt(), weights.keySet()));
+        }
+    }
+
+    public void remove(Long jobId) {
+        synchronized (writeLock) {
+            Entry old = docs.remove(jobId);
+            if (old != null) {
+                unlink(jobId, old.terms());
+            }
+        }
+    }
+
+    public Hits search(String query, int offset, int limit) {
+        if (limit <= 0) {
+            return new Hits(List.of(), 0);
+        }
+        Map<Long, Float> scores = score(query);
+        if (scores.isEmpty()) {
+            return new Hits(List.of(), 0);
+        }
+        return new Hits(topK(scores, offset, limit), scores.size());
+    }
+
+    /**
+     * 游标模式：命中结果按 (postedAt, id) 倒序，只返回严格排在游标之后的前 limit 个。
+     */
+    public List<Long> searchByRecency(String query, long beforePostedAt, long beforeId, int limit) {
+        Map<Long, Float> scores = score(query);
+        if (scores.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        Comparator<long[]> recency = Comparator.<long[]>comparingLong(a -> a[0]).thenComparingLong(a -> a[1]);
+        PriorityQueue<long[]> heap = new PriorityQueue<>(limit + 1, recency);
+        for (Long id : scores.keySet()) {
+            long postedAt = postedAt(id);
+            // 没有发布时间的职位无法生成游标，与数据库路径一致直接跳过
+            if (postedAt == 0L || postedAt > beforePostedAt || (postedAt == beforePostedAt && id >= beforeId)) {
+                continue;
+            }
+            heap.offer(new long[]{postedAt, id});
+            if (heap.size() > limit) {
+                heap.poll();
+            }
+        }
+        List<long[]> ordered = new ArrayList<>(heap);
+        ordered.sort(recency.reversed());
+        List<Long> ids = new ArrayList<>(ordered.size());
+        for (long[] a : ordered) {
+            ids.add(a[1]);
+        }
+        return ids;
+    }
+
+    // 多个 token 之间取交集（AND），分数累加
+    private Map<Long, Float> score(String query) {
+        List<String> tokens = tokenize(query);
+        if (tokens.isEmpty()) {
+            return Map.of();
+        }
+        int n = Math.max(docs.size(), 1);
+        Map<Long, Float> scores = null;
+        for (String token : tokens) {
+            Map<Long, Float> matched = match(token, n);
+            if (scores == null) {
+                scores = matched;
+            } else {
+                Map<Long, Float> next = new HashMap<>();
+                for (Map.Entry<Long, Float> e : matched.entrySet()) {
+                    Float prev = scores.get(e.getKey());
+                    if (prev != null) {
+                        next.put(e.getKey(), prev + e.getValue());
+                    }
+                }
+                scores = next;
+            }
+            if (scores.isEmpty()) {
+                return Map.of();
+            }
+        }
+        return scores;
+    }
+
+    private Map<Long, Float> match(String token, int n) {
+        Map<Long, Float> best = new HashMap<>();
+        // 单个字符做前缀会命中几乎所有 term，只做完整匹配
+        if (token.codePointCount(0, token.length()) == 1) {
+            Map<Long, Float> docsForTerm = postings.get(token);
+            if (docsForTerm != null) {
+                float idf = (float) Math.log(1.0 + (double) n / Math.max(docsForTerm.size(), 1));
+                docsForTerm.forEach((id, w) -> best.put(id, w * idf));
+            }
+            return best;
+        }
+        int expanded = 0;
+        // 完整命中的 term 一定排在前缀区间的第一个，不会被展开上限截掉
+        for (Map.Entry<String, Map<Long, Float>> e : postings.subMap(token, true, token + Character.MAX_VALUE, true).entrySet()) {
+            if (expanded++ >= MAX_PREFIX_EXPANSION) {
+                break;
+            }
+            Map<Long, Float> docsForTerm = e.getValue();
+            float idf = (float) Math.log(1.0 + (double) n / Math.max(docsForTerm.size(), 1));
+            float factor = e.getKey().length() == token.length() ? 1.0f : PREFIX_FACTOR;
+            docsForTerm.forEach((id, w) -> best.merge(id, w * idf * factor, Math::max));
+        }
+        return best;
+    }
+
+    private List<Long> topK(Map<Long, Float> scores, int offset, int limit) {
+        int k = offset + limit;
+        Comparator<Map.Entry<Long, Float>> rank = Comparator
+                .<Map.Entry<Long, Float>>comparingDouble(Map.Entry::getValue)
+                .thenComparingLong(e -> postedAt(e.getKey()))
+                .thenComparingLong(Map.Entry::getKey);
+
+        // 小顶堆只保留前 k 个，避免对全部命中排序
+        PriorityQueue<Map.Entry<Long, Float>> heap = new PriorityQueue<>(Math.min(k, scores.size()) + 1, rank);
+        for (Map.Entry<Long, Float> e : scores.entrySet()) {
+            heap.offer(e);
+            if (heap.size() > k) {
+                heap.poll();
+            }
+        }
+
+        List<Map.Entry<Long, Float>> ordered = new ArrayList<>(heap);
+        ordered.sort(rank.reversed());
+        List<Long> ids = new ArrayList<>(limit);
+        for (int i = offset; i < ordered.size(); i++) {
+            ids.add(ordered.get(i).getKey());
+        }
+        return ids;
+    }
+
+    private long postedAt(Long id) {
+        Entry e = docs.get(id);
+        return e != null ? e.postedAt() : 0L;
+    }
+
+    private void unlink(Long id, Set<String> terms) {
+        for (String term : terms) {
+            Map<Long, Float> m = postings.get(term);
+            if (m != null) {
+                m.remove(id);
+                if (m.isEmpty()) {
+                    postings.remove(term, m);
+                }
+            }
+        }
+    }
+
+    private static Map<String, Float> weigh(JobDocument doc) {
+        Map<String, Float> weights = new HashMap<>();
+        addField(weights, doc.title(), TITLE_WEIGHT);
+        addField(weights, doc.company(), COMPANY_WEIGHT);
+        addField(weights, doc.location(), LOCATION_WEIGHT);
+        addField(weights, doc.description(), DESCRIPTION_WEIGHT);
+        if (doc.tags() != null) {
+            addField(weights, String.join(" ", doc.tags()), TAG_WEIGHT);
+        }
+        return weights;
+    }
+
+    private static void addField(Map<String, Float> weights, String text, float weight) {
+        for (String t : terms(text, true)) {
+            weights.merge(t, weight, Float::sum);
+        }
+    }
+}
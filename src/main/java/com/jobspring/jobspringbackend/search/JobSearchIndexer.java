@@ -0,0 +1,148 @@
+package com.jobspring.jobspringbackend.search;
+
+import com.jobspring.jobspringbackend.constant.JobStatus;
+import com.jobspring.jobspringbackend.entity.Company;
+import com.jobspring.jobspringbackend.entity.Job;
+import com.jobspring.jobspringbackend.events.JobCreatedEvent;
+import com.jobspring.jobspringbackend.events.JobDeactivatedEvent;
+import com.jobspring.jobspringbackend.events.JobReplacedEvent;
+import com.jobspring.jobspringbackend.repository.JobRepository;
+import com.jobspring.jobspringbackend.repository.SkillRepository;
+import com.jobspring.jobspringbackend.repository.projection.JobTagView;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class JobSearchIndexer {
+
+    private static final int BOOTSTRAP_CHUNK = 1000;
+    private static final int FLUSH_BATCH = 500;
+
+    private final JobRepository jobRepository;
+    private final SkillRepository skillRepository;
+    private final JobSearchIndex index;
+
+    // 待同步的职位 id；增量只记 id，刷新时按数据库当前状态重建文档，重复或乱序的事件都是幂等的
+    private final Set<Long> dirty = ConcurrentHashMap.newKeySet();
+
+    // 启动后在后台按 id 游标分批加载在线职位，加载完成前搜索走数据库
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void bootstrap() {
+        long started = System.currentTimeMillis();
+        try {
+            long lastId = 0L;
+            while (true) {
+                List<Job> chunk = jobRepository.findByStatusAndIdGreaterThanOrderByIdAsc(JobStatus.VALID, lastId, PageRequest.of(0, BOOTSTRAP_CHUNK));
+                if (chunk.isEmpty()) {
+                    break;
+                }
+                Map<Long, List<String>> tags = loadTags(chunk.stream().map(Job::getId).toList());
+                for (Job job : chunk) {
+                    index.upsert(toDocument(job, tags.getOrDefault(job.getId(), List.of())));
+                }
+                lastId = chunk.get(chunk.size() - 1).getId();
+            }
+            index.markReady();
+            log.info("Job search index built: {} jobs in {} ms", index.size(), System.currentTimeMillis() - started);
+        } catch (Exception e) {
+            log.warn("Job search index bootstrap failed, keyword search stays on the database", e);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void on(JobCreatedEvent e) {
+        dirty.add(e.jobId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void on(JobReplacedEvent e) {
+        dirty.add(e.oldJobId());
+        dirty.add(e.newJobId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void on(JobDeactivatedEvent e) {
+        dirty.add(e.jobId());
+    }
+
+    // 索引就绪前先攒着，全量加载结束后再按最新状态补齐
+    @Scheduled(fixedDelayString = "${app.search.index.flush-ms:500}")
+    public void flush() {
+        if (!index.isReady()) {
+            return;
+        }
+        while (!dirty.isEmpty()) {
+            List<Long> batch = drain();
+            try {
+                apply(batch);
+            } catch (Exception e) {
+                dirty.addAll(batch);
+                log.warn("Job search index flush failed for {} jobs, will retry", batch.size(), e);
+                return;
+            }
+        }
+    }
+
+    private List<Long> drain() {
+        List<Long> batch = new ArrayList<>(FLUSH_BATCH);
+        Iterator<Long> it = dirty.iterator();
+        while (it.hasNext() && batch.size() < FLUSH_BATCH) {
+            batch.add(it.next());
+            it.remove();
+        }
+        return batch;
+    }
+
+    private void apply(List<Long> jobIds) {
+        Map<Long, Job> jobs = jobRepository.findByIdIn(jobIds).stream().collect(Collectors.toMap(Job::getId, Function.identity()));
+        List<Long> active = jobs.values().stream().filter(j -> j.getStatus() != null && j.getStatus() == JobStatus.VALID).map(Job::getId).toList();
+        Map<Long, List<String>> tags = active.isEmpty() ? Map.of() : loadTags(active);
+
+        for (Long id : jobIds) {
+            Job job = jobs.get(id);
+            if (job == null || job.getStatus() == null || job.getStatus() != JobStatus.VALID) {
+                index.remove(id);
+            } else {
+                index.upsert(toDocument(job, tags.getOrDefault(id, List.of())));
+            }
+        }
+    }
+
+    private Map<Long, List<String>> loadTags(Collection<Long> jobIds) {
+        Map<Long, List<String>> tags = new HashMap<>();
+        for (JobTagView row : skillRepository.findTagsByJobIds(jobIds)) {
+            tags.computeIfAbsent(row.getJobId(), k -> new ArrayList<>()).add(row.getName());
+        }
+        return tags;
+    }
+
+    private JobDocument toDocument(Job job, List<String> tags) {
+        return new JobDocument(job.getId(), JobDocument.epochMillis(job.getPostedAt()), job.getTitle(), job.getLocation(), companyName(job.getCompany()), job.getDescription(), tags);
+    }
+
+    private String companyName(Company company) {
+        return company != null ? company.getName() : null;
+    }
+}
@@ -0,0 +1,110 @@
+package com.jobspring.jobspringbackend.security;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+/**
+ * 单机滑动窗口计数：当前窗口计数 + 上一窗口计数按剩余比例折算。
+ * 每个 key 一个 AtomicReference，通过 CAS 更新，不加锁；过期的 key 定时清理。
+ * 冷却单独记录下次允许的时间点，同样用 CAS 抢占。
+ */
+@Component
+@ConditionalOnProperty(name = "security.ratelimit.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryRateLimitStore implements RateLimitStore {
+
+    private final ConcurrentHashMap<String, AtomicReference<Window>> windows = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, AtomicLong> cooldowns = new ConcurrentHashMap<>();   // key -> 冷却结束时间
+    private final LongSupplier clock;
+
+    private record Window(long length, long start, int previous, int current) {
+    }
+
+    public InMemoryRateLimitStore() {
+        this(System::currentTimeMillis);
+    }
+
+    InMemoryRateLimitStore(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public boolean tryAcquire(String key, int limit, Duration window) {
+        long length = window.toMillis();
+        AtomicReference<Window> ref = windows.computeIfAbsent(key, k -> new AtomicReference<>(new Window(length, 0L, 0, 0)));
+        while (true) {
+            long now = clock.getAsLong();
+            Window w = ref.get();
+            Window rolled = roll(w, length, now);
+            if (!allows(rolled, limit, now)) {
+                return false;
+            }
+            if (ref.compareAndSet(w, new Window(length, rolled.start(), rolled.previous(), rolled.current() + 1))) {
+                return true;
+            }
+        }
+    }
+
+    @Override
+    public boolean wouldAcquire(String key, int limit, Duration window) {
+        AtomicReference<Window> ref = windows.get(key);
+        if (ref == null) {
+            return limit > 0;
+        }
+        long now = clock.getAsLong();
+        return allows(roll(ref.get(), window.toMillis(), now), limit, now);
+    }
+
+    @Override
+    public boolean tryCooldown(String key, Duration cooldown) {
+        AtomicLong until = cooldowns.computeIfAbsent(key, k -> new AtomicLong(Long.MIN_VALUE));
+        while (true) {
+            long now = clock.getAsLong();
+            long current = until.get();
+            if (now < current) {
+                return false;
+            }
+            if (until.compareAndSet(current, now + cooldown.toMillis())) {
+                return true;
+            }
+        }
+    }
+
+    // 把窗口滚动到 now 所在的窗口
+    private static Window roll(Window w, long length, long now) {
+        long start = now - now % length;
+        if (w.start() == start) {
+            return w;
+        }
+        if (w.start() == start - length) {
+            return new Window(length, start, w.current(), 0);
+        }
+        return new Window(length, start, 0, 0);
+    }
+
+    private static boolean allows(Window w, int limit, long now) {
+        double weight = (double) (w.length() - (now - w.start())) / w.length();
+        return w.previous() * weight + w.current() < limit;
+    }
+
+    int size() {
+        return windows.size() + cooldowns.size();
+    }
+
+    // 两个窗口内没有请求的 key 已不影响判断，直接移除
+    @Scheduled(fixedDelayString = "${security.ratelimit.cleanupMs:60000}")
+    public void evictIdle() {
+        long now = clock.getAsLong();
+        windows.entrySet().removeIf(e -> {
+            Window w = e.getValue().get();
+            return w.start() + 2 * w.length() <= now;
+        });
+        cooldowns.entrySet().removeIf(e -> e.getValue().get() <= now);
+    }
+}
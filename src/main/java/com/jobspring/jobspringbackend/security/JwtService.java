@@ -1,23 +1,58 @@
 package com.jobspring.jobspringbackend.security;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Service;
 
+import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Date;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
+/**
+ * 签发与校验 JWT。密钥和解析器只在启动时构建一次；
+ * 校验通过的 token 按 SHA-256 摘要缓存其 Authentication，同一会话的后续请求不再验签。
+ * 缓存按 LRU 淘汰，条目在 token 过期或 app.security.jwt-cache.ttl-seconds 到期（取较早者）后失效。
+ */
 @Service
 public class JwtService {
 
-    @Value("${SECURITY_JWT_SECRET:x4TgLq9z!mR2@N7uV6jYpQ0sWcE#Hb1KdFZt3XyG}")
-    private String secret;
-
     private static final long EXP_MS = 1000L * 60 * 60 * 24 * 7; // 7 days
 
+    private final SecretKey key;
+    private final JwtParser parser;
+    private final long cacheTtlMs;
+    private final Map<String, Verified> cache;
+
+    private record Verified(Authentication auth, long expiresAt) {
+    }
+
+    public JwtService(@Value("${SECURITY_JWT_SECRET:x4TgLq9z!mR2@N7uV6jYpQ0sWcE#Hb1KdFZt3XyG}") String secret,
+                      @Value("${app.security.jwt-cache.max-entries:10000}") int maxEntries,
+                      @Value("${app.security.jwt-cache.ttl-seconds:600}") long ttlSeconds) {
+        this.key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parserBuilder().setSigningKey(key).build();
+        this.cacheTtlMs = ttlSeconds * 1000L;
+        this.cache = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Verified> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
     public String generateToken(Long userId, String email, int role) {
         Date now = new Date();
         return Jwts.builder()
@@ -26,18 +61,54 @@ public class JwtService {
                 .setExpiration(new Date(now.getTime() + EXP_MS))
                 .claim("email", email)
                 .claim("role", role)
-                .signWith(
-                        Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8)),
-                        SignatureAlgorithm.HS256
-                )
+                .signWith(key, SignatureAlgorithm.HS256)
                 .compact();
     }
 
     public Claims parseToken(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8)))
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return parser.parseClaimsJws(token).getBody();
+    }
+
+    /**
+     * 校验 token 并返回已构建好的 Authentication；签名错误或已过期时抛出 JwtException。
+     */
+    public Authentication authenticate(String token) {
+        String digest = digest(token);
+        long now = System.currentTimeMillis();
+        synchronized (cache) {
+            Verified hit = cache.get(digest);
+            if (hit != null) {
+                if (hit.expiresAt() > now) {
+                    return hit.auth();
+                }
+                cache.remove(digest);
+            }
+        }
+
+        Claims claims = parseToken(token);
+        Integer roleInt = claims.get("role", Integer.class);
+        String roleName = RoleMapper.toRoleName(roleInt != null ? roleInt : -1);
+
+        UsernamePasswordAuthenticationToken auth = new UsernamePasswordAuthenticationToken(
+                claims.getSubject(), null, List.of(new SimpleGrantedAuthority(roleName)));
+        auth.setDetails(claims.get("email", String.class));
+
+        long expiresAt = now + cacheTtlMs;
+        if (claims.getExpiration() != null) {
+            expiresAt = Math.min(expiresAt, claims.getExpiration().getTime());
+        }
+        synchronized (cache) {
+            cache.put(digest, new Verified(auth, expiresAt));
+        }
+        return auth;
+    }
+
+    private static String digest(String token) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(md.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
     }
-}
\ No newline at end of file
+}
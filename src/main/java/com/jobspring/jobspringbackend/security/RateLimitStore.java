@@ -0,0 +1,26 @@
+package com.jobspring.jobspringbackend.security;
+
+import java.time.Duration;
+
+/**
+ * 限流计数的存储后端。默认实现保存在本机内存；多节点部署时提供一个共享实现
+ * （例如基于 Redis）并设置 security.ratelimit.store 即可替换。
+ */
+public interface RateLimitStore {
+
+    /**
+     * 在滑动窗口内为 key 记一次请求；窗口内已达到 limit 次时返回 false，且不计数。
+     */
+    boolean tryAcquire(String key, int limit, Duration window);
+
+    /**
+     * 只判断此刻 tryAcquire 是否会通过，不计数。用于多个限额都检查通过后再统一计数。
+     */
+    boolean wouldAcquire(String key, int limit, Duration window);
+
+    /**
+     * 冷却：距 key 上次成功调用不足 cooldown 时返回 false；否则记下本次时间并返回 true。
+     * 按上次时间判断，不受窗口边界影响。
+     */
+    boolean tryCooldown(String key, Duration cooldown);
+}
@@ -0,0 +1,86 @@
+package com.jobspring.jobspringbackend.security;
+
+import com.jobspring.jobspringbackend.exception.BizException;
+import com.jobspring.jobspringbackend.exception.ErrorCode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * 登录与验证码接口的限流，在查库和 BCrypt 校验之前拒绝滥用请求。
+ * 数据库中的每日上限和冷却检查仍然保留，作为重启或多节点下的最终保证。
+ */
+@Service
+public class RateLimiter {
+
+    private final RateLimitStore store;
+
+    @Value("${security.verification.perEmailCooldownSeconds:60}")
+    private int cooldownSeconds;
+
+    @Value("${security.verification.dailyLimit:10}")
+    private int dailyLimit;
+
+    @Value("${security.ratelimit.sendCodePerIpPerHour:30}")
+    private int sendCodePerIpPerHour;
+
+    @Value("${security.ratelimit.loginWindowSeconds:300}")
+    private int loginWindowSeconds;
+
+    @Value("${security.ratelimit.loginPerEmail:10}")
+    private int loginPerEmail;
+
+    @Value("${security.ratelimit.loginPerIp:50}")
+    private int loginPerIp;
+
+    public RateLimiter(RateLimitStore store) {
+        this.store = store;
+    }
+
+    private record Limit(String key, int limit, Duration window, String message) {
+    }
+
+    // 所有限额先只检查，全部通过后再计数，被任一限额拒绝的请求不消耗其它额度
+    public void checkSendCode(String email, String clientIp) {
+        String key = "code:email:" + normalize(email);
+        Limit ip = new Limit("code:ip:" + clientIp, sendCodePerIpPerHour, Duration.ofHours(1), "Too many requests. Please try again later.");
+        Limit day = new Limit(key + ":day", dailyLimit, Duration.ofDays(1), "Too many requests. Try again tomorrow.");
+        check(ip);
+        check(day);
+        // 冷却按上次发送时间判断；并发的两次请求只有一个能抢到
+        if (!store.tryCooldown(key, Duration.ofSeconds(cooldownSeconds))) {
+            throw new BizException(ErrorCode.TOO_MANY_REQUESTS, "Please wait before requesting another code.");
+        }
+        acquire(ip);
+        acquire(day);
+    }
+
+    public void checkLogin(String email, String clientIp) {
+        Duration window = Duration.ofSeconds(loginWindowSeconds);
+        Limit ip = new Limit("login:ip:" + clientIp, loginPerIp, window, "Too many login attempts. Please try again later.");
+        Limit account = new Limit("login:email:" + normalize(email), loginPerEmail, window, "Too many login attempts. Please try again later.");
+        check(ip);
+        check(account);
+        acquire(ip);
+        acquire(account);
+    }
+
+    private void check(Limit l) {
+        if (!store.wouldAcquire(l.key(), l.limit(), l.window())) {
+            throw new BizException(ErrorCode.TOO_MANY_REQUESTS, l.message());
+        }
+    }
+
+    // 检查与计数之间被并发请求用完时仍然拒绝
+    private void acquire(Limit l) {
+        if (!store.tryAcquire(l.key(), l.limit(), l.window())) {
+            throw new BizException(ErrorCode.TOO_MANY_REQUESTS, l.message());
+        }
+    }
+
+    private static String normalize(String email) {
+        return email == null ? "" : email.trim().toLowerCase(Locale.ROOT);
+    }
+}
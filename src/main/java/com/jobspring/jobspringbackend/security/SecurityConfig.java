@@ -1,6 +1,7 @@
 package com.jobspring.jobspringbackend.security;
 
 import com.jobspring.jobspringbackend.exception.ErrorCode;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -54,10 +55,15 @@ public class SecurityConfig {
                 .cors(Customizer.withDefaults())
                 .sessionManagement(sm -> sm.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
+                        // SSE 的异步派发沿用首次请求已通过的鉴权
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers(
                                 "/api/auth/**",
                                 "/api/job_seeker/job_list",
                                 "/api/job_seeker/job_list/search",
+                                "/api/job_seeker/job_list/scroll",
+                                "/api/job_seeker/job_list/search/scroll",
+                                "/api/files/logos/**",
                                 "/api/profile",
                                 "/api/skills").permitAll()
                         .anyRequest().authenticated()
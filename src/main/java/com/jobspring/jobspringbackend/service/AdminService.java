@@ -13,7 +13,6 @@ import com.jobspring.jobspringbackend.exception.ErrorCode;
 import com.jobspring.jobspringbackend.repository.CompanyRepository;
 
 import com.jobspring.jobspringbackend.repository.JobRepository;
-import com.jobspring.jobspringbackend.repository.SkillRepository;
 import com.jobspring.jobspringbackend.repository.UserRepository;
 import com.jobspring.jobspringbackend.repository.spec.UserSpecs;
 import jakarta.persistence.EntityNotFoundException;
@@ -34,6 +33,7 @@ import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -41,7 +41,7 @@ public class AdminService {
 
     private final JobRepository jobRepository;
 
-    private final SkillRepository skillRepository;
+    private final JobTagService jobTagService;
 
     private final UserRepository userRepository;
 
@@ -55,10 +55,11 @@ public class AdminService {
 
     public Page<JobDTO> searchJobs(String keyword, Pageable pageable) {
         Page<Job> jobs = jobRepository.adminSearchJobs(keyword, pageable);
-        return jobs.map(this::convertToJobSeekerDTO);
+        Map<Long, List<String>> tags = jobTagService.tagsFor(jobs.map(Job::getId).getContent());
+        return jobs.map(j -> convertToJobSeekerDTO(j, tags));
     }
 
-    private JobDTO convertToJobSeekerDTO(Job job) {
+    private JobDTO convertToJobSeekerDTO(Job job, Map<Long, List<String>> tags) {
         JobDTO dto = new JobDTO();
         dto.setId(job.getId());
         dto.setTitle(job.getTitle());
@@ -75,7 +76,7 @@ public class AdminService {
 
         dto.setDescription(job.getDescription());
 
-        dto.setTags(getJobTags(job.getId()));
+        dto.setTags(tags.getOrDefault(job.getId(), List.of()));
 
         return dto;
     }
@@ -91,11 +92,6 @@ public class AdminService {
     }
 
 
-    private List<String> getJobTags(Long jobId) {
-        return skillRepository.findSkillNamesByJobId(jobId);
-    }
-
-
     @Transactional
     public void makeHr(Long userId, PromoteToHrRequest req) {
 
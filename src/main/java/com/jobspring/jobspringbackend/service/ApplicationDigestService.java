@@ -0,0 +1,164 @@
+package com.jobspring.jobspringbackend.service;
+
+import com.jobspring.jobspringbackend.events.ApplicationSubmittedEvent;
+import com.jobspring.jobspringbackend.repository.CompanyMemberRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * HR 新投递通知的摘要模式：同一公司在 app.mail.digest.window-seconds 内的投递合并成一封邮件，
+ * 邮件量随公司数而不是投递数增长。窗口为 0 时每次投递立即通知。
+ * 未发出的摘要只在内存中，停机时会先全部发出。
+ * 摘要正文最多列出 MAX_DIGEST_LINES 条，其余只给数量，避免超出 mail_outbox.body（TEXT，64KB）。
+ */
+@Slf4j
+@Service
+public class ApplicationDigestService {
+
+    static final int MAX_DIGEST_LINES = 100;
+    static final int MAX_DIGEST_CHARS = 16_000;   // 按 UTF-8 最坏 3 字节/字符计，远低于 64KB
+
+    private final CompanyMemberRepository companyMembers;
+    private final MailOutboxService mailOutbox;
+    private final long windowMs;
+    private final LongSupplier clock;
+    private final ConcurrentHashMap<Long, Bucket> buckets = new ConcurrentHashMap<>();
+
+    @Value("${app.web.base-url:http://localhost:5173}")
+    private String webBaseUrl;
+
+    private record Bucket(long openedAt, List<ApplicationSubmittedEvent> events) {
+    }
+
+    @Autowired
+    public ApplicationDigestService(CompanyMemberRepository companyMembers,
+                                    MailOutboxService mailOutbox,
+                                    @Value("${app.mail.digest.window-seconds:300}") long windowSeconds) {
+        this(companyMembers, mailOutbox, windowSeconds, System::currentTimeMillis);
+    }
+
+    ApplicationDigestService(CompanyMemberRepository companyMembers, MailOutboxService mailOutbox,
+                             long windowSeconds, LongSupplier clock) {
+        this.companyMembers = companyMembers;
+        this.mailOutbox = mailOutbox;
+        this.windowMs = windowSeconds * 1000L;
+        this.clock = clock;
+    }
+
+    public boolean isImmediate() {
+        return windowMs <= 0;
+    }
+
+    public void submit(ApplicationSubmittedEvent e) {
+        if (windowMs <= 0) {
+            notifyHr(e.companyId(), List.of(e));
+            return;
+        }
+        // compute 对同一公司是原子的，和 flush 里的 remove 不会交错
+        buckets.compute(e.companyId(), (id, b) -> {
+            Bucket bucket = b != null ? b : new Bucket(clock.getAsLong(), new ArrayList<>());
+            bucket.events().add(e);
+            return bucket;
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${app.mail.digest.flush-ms:30000}")
+    public void flushDue() {
+        long now = clock.getAsLong();
+        for (Map.Entry<Long, Bucket> entry : buckets.entrySet()) {
+            Bucket b = entry.getValue();
+            if (now - b.openedAt() >= windowMs && buckets.remove(entry.getKey(), b)) {
+                send(entry.getKey(), b.events());
+            }
+        }
+    }
+
+    @PreDestroy
+    public void flushAll() {
+        for (Long companyId : List.copyOf(buckets.keySet())) {
+            Bucket b = buckets.remove(companyId);
+            if (b != null) {
+                send(companyId, b.events());
+            }
+        }
+    }
+
+    int pendingCompanies() {
+        return buckets.size();
+    }
+
+    private void send(Long companyId, List<ApplicationSubmittedEvent> events) {
+        try {
+            notifyHr(companyId, events);
+        } catch (Exception ex) {
+            log.error("Digest for company {} ({} applications) failed", companyId, events.size(), ex);
+        }
+    }
+
+    private void notifyHr(Long companyId, List<ApplicationSubmittedEvent> events) {
+        List<String> hrEmails = companyMembers.findHrEmailsByCompanyId(companyId);
+        if (hrEmails.isEmpty()) {
+            log.warn("No HR emails for company {}", companyId);
+            return;
+        }
+        if (events.size() == 1) {
+            ApplicationSubmittedEvent e = events.get(0);
+            mailOutbox.enqueueAll(hrEmails, "[JobSpring] New application for " + e.jobTitle(), single(e));
+            return;
+        }
+        mailOutbox.enqueueAll(hrEmails, "[JobSpring] " + events.size() + " new applications", digest(events));
+    }
+
+    private String single(ApplicationSubmittedEvent e) {
+        return """
+                A new application has been submitted.
+                
+                Job: %s
+                Applicant: %s (%s)
+                Application ID: %d
+                
+                Please log in to review:
+                %s
+                """.formatted(
+                e.jobTitle(),
+                e.applicantName(),
+                e.applicantEmail(),
+                e.applicationId(),
+                webBaseUrl
+        );
+    }
+
+    private String digest(List<ApplicationSubmittedEvent> events) {
+        StringBuilder lines = new StringBuilder();
+        int listed = 0;
+        for (ApplicationSubmittedEvent e : events) {
+            String line = "- Job: %s | Applicant: %s (%s) | Application ID: %d%n".formatted(
+                    e.jobTitle(), e.applicantName(), e.applicantEmail(), e.applicationId());
+            if (listed == MAX_DIGEST_LINES || lines.length() + line.length() > MAX_DIGEST_CHARS) {
+                break;
+            }
+            lines.append(line);
+            listed++;
+        }
+        if (listed < events.size()) {
+            lines.append("- ...and %d more%n".formatted(events.size() - listed));
+        }
+        return """
+                %d new applications have been submitted.
+                
+                %s
+                Please log in to review:
+                %s
+                """.formatted(events.size(), lines, webBaseUrl);
+    }
+}
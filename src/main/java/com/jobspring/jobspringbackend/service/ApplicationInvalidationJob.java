@@ -0,0 +1,118 @@
+package com.jobspring.jobspringbackend.service;
+
+import com.jobspring.jobspringbackend.dto.InvalidationProgress;
+import com.jobspring.jobspringbackend.events.ApplicationsInvalidatedEvent;
+import com.jobspring.jobspringbackend.events.JobDeactivatedEvent;
+import com.jobspring.jobspringbackend.repository.ApplicationRepository;
+import com.jobspring.jobspringbackend.repository.projection.ApplicationRefView;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 职位下线后把其下投递置为失效（status=4）。按 id 递增分批，每批一个短事务，
+ * 同一事务里写入求职者通知并发布 {@link ApplicationsInvalidatedEvent}，避免一条大 UPDATE 长时间锁行。
+ */
+@Slf4j
+@Component
+public class ApplicationInvalidationJob {
+
+    static final int INVALID = 4;
+
+    private final ApplicationRepository applicationRepository;
+    private final NotificationService notifications;
+    private final ApplicationEventPublisher publisher;
+    private final TransactionTemplate tx;
+    private final int chunkSize;
+    private final long retainMinutes;
+
+    private final Map<Long, InvalidationProgress> progress = new ConcurrentHashMap<>();
+
+    public ApplicationInvalidationJob(ApplicationRepository applicationRepository,
+                                      NotificationService notifications,
+                                      ApplicationEventPublisher publisher,
+                                      PlatformTransactionManager transactionManager,
+                                      @Value("${app.applications.invalidation.chunk-size:500}") int chunkSize,
+                                      @Value("${app.applications.invalidation.retain-minutes:60}") long retainMinutes) {
+        this.applicationRepository = applicationRepository;
+        this.notifications = notifications;
+        this.publisher = publisher;
+        this.tx = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.retainMinutes = retainMinutes;
+    }
+
+    @Async
+    public void runAsync(JobDeactivatedEvent e) {
+        try {
+            run(e);
+        } catch (Exception ex) {
+            log.warn("Invalidating applications of job {} aborted", e.jobId(), ex);
+        }
+    }
+
+    public int run(JobDeactivatedEvent e) {
+        LocalDateTime startedAt = LocalDateTime.now();
+        long total = applicationRepository.countByJobIdAndStatusNot(e.jobId(), INVALID);
+        progress.put(e.jobId(), new InvalidationProgress(e.companyId(), e.jobId(), total, 0, "RUNNING", startedAt, null));
+
+        int processed = 0;
+        long afterId = 0L;
+        try {
+            while (true) {
+                List<ApplicationRefView> chunk = applicationRepository.findRefsByJobIdAndStatusNot(
+                        e.jobId(), afterId, INVALID, PageRequest.of(0, chunkSize));
+                if (chunk.isEmpty()) {
+                    break;
+                }
+                Integer updated = tx.execute(status -> invalidate(e, chunk));
+                processed += updated != null ? updated : 0;
+                afterId = chunk.get(chunk.size() - 1).getId();
+                progress.put(e.jobId(), new InvalidationProgress(e.companyId(), e.jobId(),
+                        Math.max(total, processed), processed, "RUNNING", startedAt, null));
+            }
+        } catch (RuntimeException ex) {
+            progress.put(e.jobId(), new InvalidationProgress(e.companyId(), e.jobId(),
+                    total, processed, "FAILED", startedAt, LocalDateTime.now()));
+            throw ex;
+        }
+        progress.put(e.jobId(), new InvalidationProgress(e.companyId(), e.jobId(),
+                Math.max(total, processed), processed, "DONE", startedAt, LocalDateTime.now()));
+        return processed;
+    }
+
+    private int invalidate(JobDeactivatedEvent e, List<ApplicationRefView> chunk) {
+        int updated = applicationRepository.updateStatusByIds(chunk.stream().map(ApplicationRefView::getId).toList(), INVALID);
+        List<NotificationService.Recipient> recipients = chunk.stream()
+                .map(r -> new NotificationService.Recipient(r.getUserId(), r.getId()))
+                .toList();
+        notifications.createEach(recipients, NotificationService.APPLICATION_STATUS,
+                "Your application for " + e.jobTitle() + " is now Invalid");
+        publisher.publishEvent(new ApplicationsInvalidatedEvent(e.companyId(), e.jobId(),
+                chunk.stream().map(ApplicationRefView::getUserId).distinct().toList()));
+        return updated;
+    }
+
+    public Optional<InvalidationProgress> progress(Long companyId, Long jobId) {
+        return Optional.ofNullable(progress.get(jobId)).filter(p -> p.companyId().equals(companyId));
+    }
+
+    // 已结束的进度保留一段时间供查询
+    @Scheduled(fixedDelayString = "${app.applications.invalidation.evict-ms:600000}")
+    public void evictFinished() {
+        LocalDateTime cutoff = LocalDateTime.now().minusMinutes(retainMinutes);
+        progress.values().removeIf(p -> p.finishedAt() != null && p.finishedAt().isBefore(cutoff));
+    }
+}
@@ -10,6 +10,11 @@ import com.jobspring.jobspringbackend.repository.ApplicationRepository;
 import com.jobspring.jobspringbackend.repository.CompanyMemberRepository;
 import com.jobspring.jobspringbackend.repository.JobRepository;
 import com.jobspring.jobspringbackend.repository.UserRepository;
+import com.jobspring.jobspringbackend.exception.BizException;
+import com.jobspring.jobspringbackend.exception.ErrorCode;
+import com.jobspring.jobspringbackend.storage.ResumeDownload;
+import com.jobspring.jobspringbackend.storage.StoredFile;
+import com.jobspring.jobspringbackend.storage.ResumeStorage;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
@@ -21,6 +26,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -49,6 +55,7 @@ public class ApplicationService {
     private final UserRepository userRepository;
 
     private final ApplicationEventPublisher publisher;
+    private final ResumeStorage resumeStorage;
 
     @Transactional
     public Long apply(Long jobId, Long userId, ApplicationDTO form, MultipartFile file) {
@@ -83,13 +90,13 @@ public class ApplicationService {
 
             if (file != null && !file.isEmpty()) {
                 validateFile(file);
-                try {
-                    String ct = Optional.ofNullable(file.getContentType()).filter(s -> !s.isBlank()).orElse("application/octet-stream");
-                    String base64 = java.util.Base64.getEncoder().encodeToString(file.getBytes());
-                    resumeUrlToSave = "data:" + ct + ";base64," + base64;
+                // 流式写入内容寻址存储，不再整份读进内存转 base64
+                try (InputStream in = file.getInputStream()) {
+                    resumeUrlToSave = resumeStorage.store(in).reference();
                 } catch (IOException e) {
                     throw new IllegalStateException("Failed to read file", e);
                 }
+                app.setResumeContentType(Optional.ofNullable(file.getContentType()).filter(s -> !s.isBlank()).orElse("application/octet-stream"));
             }
 
             if (user.getProfile() != null) {
@@ -118,6 +125,7 @@ public class ApplicationService {
         }
     }
 
+    @Transactional
     public ApplicationDetailResponse getApplicationDetailForCompanyMember(Long userId, Long applicationId) {
 
         Application app = applicationRepository.findByIdWithJobAndCompany(applicationId).orElseThrow(() -> new EntityNotFoundException("Application not found"));
@@ -135,6 +143,45 @@ public class ApplicationService {
     }
 
 
+    // 投递人本人或该公司的 HR 可以下载
+    @Transactional
+    public ResumeDownload openResume(Long userId, Long applicationId) {
+        Application app = applicationRepository.findByIdWithJobAndCompany(applicationId).orElseThrow(() -> new EntityNotFoundException("Application not found"));
+
+        if (!app.getUser().getId().equals(userId)) {
+            Long userCompanyId = findCompanyIdForUser(userId);
+            if (!app.getJob().getCompany().getId().equals(userCompanyId)) {
+                throw new org.springframework.security.access.AccessDeniedException("Application does not belong to your company");
+            }
+        }
+
+        String url = app.getResumeUrl();
+        // 迁移任务还没处理到的历史 base64 数据，下载时顺带搬进存储
+        if (ResumeStorage.isDataUrl(url)) {
+            ResumeStorage.StoredResume stored = resumeStorage.storeDataUrl(url);
+            if (stored == null) {
+                throw new BizException(ErrorCode.NOT_FOUND, "Resume is not available");
+            }
+            // 读回校验失败就保留原始数据，本次请求报错
+            if (!resumeStorage.verify(stored)) {
+                throw new IllegalStateException("Stored resume failed verification");
+            }
+            app.setResumeUrl(stored.reference());
+            app.setResumeContentType(ResumeStorage.dataUrlContentType(url));
+            url = app.getResumeUrl();
+        }
+
+        String key = ResumeStorage.keyOf(url);
+        if (key != null) {
+            String ct = Optional.ofNullable(app.getResumeContentType()).orElse("application/octet-stream");
+            return ResumeDownload.stored(new StoredFile(key, resumeStorage.resolve(key), ct));
+        }
+        if (url != null && (url.startsWith("https://") || url.startsWith("http://"))) {
+            return ResumeDownload.redirect(url);
+        }
+        throw new BizException(ErrorCode.NOT_FOUND, "Resume is not available");
+    }
+
     private Long findCompanyIdForUser(Long userId) {
         return memberRepo.findCompanyIdByHrUserId(userId).orElseThrow(() -> new org.springframework.security.access.AccessDeniedException("Not HR or no company bound."));
     }
@@ -149,7 +196,7 @@ public class ApplicationService {
         r.setApplicantEmail(a.getUser().getEmail());
         r.setStatus(a.getStatus());
         r.setAppliedAt(a.getAppliedAt());
-        r.setResumeUrl(a.getResumeUrl());
+        r.setResumeUrl(ResumeStorage.downloadLink(a.getId()));
         r.setResumeProfile(a.getResumeProfile());
         return r;
     }
@@ -0,0 +1,178 @@
+package com.jobspring.jobspringbackend.service;
+
+import com.jobspring.jobspringbackend.dto.FunnelStatsResponse;
+import com.jobspring.jobspringbackend.dto.JobFunnelStats;
+import com.jobspring.jobspringbackend.events.ApplicationStatusBatchChangedEvent;
+import com.jobspring.jobspringbackend.events.ApplicationStatusChangedEvent;
+import com.jobspring.jobspringbackend.events.ApplicationSubmittedEvent;
+import com.jobspring.jobspringbackend.events.ApplicationsInvalidatedEvent;
+import com.jobspring.jobspringbackend.events.JobCreatedEvent;
+import com.jobspring.jobspringbackend.events.JobReplacedEvent;
+import com.jobspring.jobspringbackend.repository.ApplicationRepository;
+import com.jobspring.jobspringbackend.repository.projection.JobStatusCountView;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * 公司投递漏斗（职位 × 状态）计数。首次读取时一条 GROUP BY 查询装入内存，之后随投递、改状态事件增减；
+ * 定时对账任务重新统计最近被读取过的公司并替换内存值，长期不读的公司直接丢弃。
+ */
+@Slf4j
+@Service
+public class ApplicationStatsService {
+
+    private static final int STATUSES = 5; // 0 已投递 1 筛选中 2 通过 3 拒绝 4 失效
+
+    private final ApplicationRepository applicationRepository;
+    private final long reconcileMs;
+    private final LongSupplier clock;
+
+    private final Map<Long, Funnel> funnels = new ConcurrentHashMap<>();
+
+    private record JobCounts(String title, AtomicLongArray counts) {
+    }
+
+    private static final class Funnel {
+        final Map<Long, JobCounts> jobs;
+        final long loadedAt;
+        volatile long readAt;
+
+        Funnel(Map<Long, JobCounts> jobs, long loadedAt) {
+            this.jobs = jobs;
+            this.loadedAt = loadedAt;
+            this.readAt = loadedAt;
+        }
+    }
+
+    @Autowired
+    public ApplicationStatsService(ApplicationRepository applicationRepository,
+                                   @Value("${app.stats.reconcile-seconds:300}") long reconcileSeconds) {
+        this(applicationRepository, reconcileSeconds, System::currentTimeMillis);
+    }
+
+    ApplicationStatsService(ApplicationRepository applicationRepository, long reconcileSeconds, LongSupplier clock) {
+        this.applicationRepository = applicationRepository;
+        this.reconcileMs = reconcileSeconds * 1000L;
+        this.clock = clock;
+    }
+
+    public FunnelStatsResponse funnel(Long companyId) {
+        Funnel f = funnels.get(companyId);
+        if (f == null) {
+            f = load(companyId);
+            funnels.put(companyId, f);
+        }
+        f.readAt = clock.getAsLong();
+        return toResponse(companyId, f);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void on(ApplicationSubmittedEvent e) {
+        adjust(e.companyId(), e.jobId(), e.jobTitle(), null, 0);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void on(ApplicationStatusChangedEvent e) {
+        adjust(e.companyId(), e.jobId(), e.jobTitle(), e.oldStatus(), e.newStatus());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void on(ApplicationStatusBatchChangedEvent e) {
+        e.changes().forEach(this::on);
+    }
+
+    // 失效事件里没有原状态，丢弃缓存，下次读取重新统计
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void on(ApplicationsInvalidatedEvent e) {
+        funnels.remove(e.companyId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void on(JobCreatedEvent e) {
+        funnels.remove(e.companyId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void on(JobReplacedEvent e) {
+        funnels.remove(e.companyId());
+    }
+
+    /**
+     * 装入和事件之间存在竞争（查询期间提交的变更可能丢失），这里周期性地用数据库结果替换内存值。
+     */
+    @Scheduled(fixedDelayString = "${app.stats.reconcile-ms:60000}")
+    public void reconcile() {
+        long now = clock.getAsLong();
+        for (Map.Entry<Long, Funnel> entry : funnels.entrySet()) {
+            Funnel f = entry.getValue();
+            if (now - f.loadedAt < reconcileMs) {
+                continue;
+            }
+            if (now - f.readAt >= reconcileMs) {
+                funnels.remove(entry.getKey(), f);
+                continue;
+            }
+            Funnel fresh = load(entry.getKey());
+            fresh.readAt = f.readAt;
+            if (!toResponse(entry.getKey(), fresh).equals(toResponse(entry.getKey(), f))) {
+                log.info("Application funnel of company {} drifted, reloaded", entry.getKey());
+            }
+            funnels.replace(entry.getKey(), f, fresh);
+        }
+    }
+
+    private Funnel load(Long companyId) {
+        Map<Long, JobCounts> jobs = new ConcurrentHashMap<>();
+        for (JobStatusCountView row : applicationRepository.countFunnelByCompanyId(companyId)) {
+            JobCounts jc = jobs.computeIfAbsent(row.getJobId(), id -> new JobCounts(row.getJobTitle(), new AtomicLongArray(STATUSES)));
+            Integer status = row.getStatus();
+            if (status != null && status >= 0 && status < STATUSES) {
+                jc.counts().addAndGet(status, row.getTotal());
+            }
+        }
+        return new Funnel(jobs, clock.getAsLong());
+    }
+
+    private void adjust(Long companyId, Long jobId, String jobTitle, Integer oldStatus, Integer newStatus) {
+        Funnel f = funnels.get(companyId);
+        if (f == null || jobId == null) {
+            return;
+        }
+        JobCounts jc = f.jobs.computeIfAbsent(jobId, id -> new JobCounts(jobTitle, new AtomicLongArray(STATUSES)));
+        if (oldStatus != null && oldStatus >= 0 && oldStatus < STATUSES) {
+            jc.counts().decrementAndGet(oldStatus);
+        }
+        if (newStatus != null && newStatus >= 0 && newStatus < STATUSES) {
+            jc.counts().incrementAndGet(newStatus);
+        }
+    }
+
+    private static FunnelStatsResponse toResponse(Long companyId, Funnel f) {
+        long[] total = new long[STATUSES];
+        List<JobFunnelStats> jobs = new ArrayList<>(f.jobs.size());
+        for (Map.Entry<Long, JobCounts> e : f.jobs.entrySet()) {
+            long[] c = new long[STATUSES];
+            for (int s = 0; s < STATUSES; s++) {
+                c[s] = Math.max(e.getValue().counts().get(s), 0L);
+                total[s] += c[s];
+            }
+            jobs.add(new JobFunnelStats(e.getKey(), e.getValue().title(), c[0], c[1], c[2], c[3], c[4]));
+        }
+        jobs.sort(Comparator.comparing(JobFunnelStats::jobId).reversed());
+        return new FunnelStatsResponse(companyId,
+                new JobFunnelStats(null, null, total[0], total[1], total[2], total[3], total[4]), jobs);
+    }
+}
@@ -0,0 +1,129 @@
+package com.jobspring.jobspringbackend.service;
+
+import com.jobspring.jobspringbackend.dto.CompanyRatingDTO;
+import com.jobspring.jobspringbackend.entity.CompanyRating;
+import com.jobspring.jobspringbackend.entity.Review;
+import com.jobspring.jobspringbackend.repository.CompanyRatingRepository;
+import com.jobspring.jobspringbackend.repository.ReviewRepository;
+import com.jobspring.jobspringbackend.repository.projection.RatingCountView;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 公司评分（均分 + 1~5 星直方图）。评价审核通过时在同一事务里累加，读取时直接取汇总行；
+ * 汇总行缺失时按已通过评价重新统计，启动时为历史数据补齐。
+ */
+@Slf4j
+@Service
+public class CompanyRatingService {
+
+    private final CompanyRatingRepository ratingRepository;
+    private final ReviewRepository reviewRepository;
+    private final TransactionTemplate tx;
+    private final boolean backfill;
+
+    public CompanyRatingService(CompanyRatingRepository ratingRepository,
+                                ReviewRepository reviewRepository,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${app.ratings.backfill-on-startup:true}") boolean backfill) {
+        this.ratingRepository = ratingRepository;
+        this.reviewRepository = reviewRepository;
+        this.tx = new TransactionTemplate(transactionManager);
+        this.backfill = backfill;
+    }
+
+    // 由审核通过的事务调用，评价状态已改为 1
+    @Transactional
+    public void recordApproved(Review review) {
+        Integer rating = review.getRating();
+        if (rating == null || rating < 1 || rating > 5) {
+            return;
+        }
+        Long companyId = review.getApplication().getJob().getCompany().getId();
+        // 先用普通读判断，避免对不存在的行加锁产生间隙锁，两个首次审核的事务互相死锁
+        if (!ratingRepository.existsById(companyId)) {
+            // 统计查询前会先 flush，结果已包含本条评价；插入被忽略说明别的事务刚建好，转入下面加锁累加
+            if (ratingRepository.insertIfAbsent(rebuild(companyId)) == 1) {
+                return;
+            }
+        }
+        CompanyRating row = ratingRepository.lockByCompanyId(companyId)
+                .orElseThrow(() -> new IllegalStateException("Rating row missing for company " + companyId));
+        row.add(rating, 1);
+    }
+
+    @Transactional(readOnly = true)
+    public CompanyRatingDTO getRating(Long companyId) {
+        CompanyRating row = ratingRepository.findById(companyId).orElseGet(() -> {
+            CompanyRating empty = new CompanyRating();
+            empty.setCompanyId(companyId);
+            return empty;
+        });
+        return toDto(row);
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        if (!backfill) {
+            return;
+        }
+        try {
+            int created = backfill();
+            if (created > 0) {
+                log.info("Backfilled rating aggregates for {} companies", created);
+            }
+        } catch (Exception e) {
+            log.warn("Rating backfill aborted", e);
+        }
+    }
+
+    // 只补缺失的汇总行，已有的行由审核流程维护
+    public int backfill() {
+        Map<Long, CompanyRating> rows = new HashMap<>();
+        for (RatingCountView v : reviewRepository.countApprovedRatings(null)) {
+            rows.computeIfAbsent(v.getCompanyId(), this::newRow).add(v.getRating(), v.getTotal());
+        }
+        int created = 0;
+        for (CompanyRating row : rows.values()) {
+            // 与审核流程并发建行时以先插入的为准
+            Integer inserted = tx.execute(status -> ratingRepository.insertIfAbsent(row));
+            if (inserted != null && inserted == 1) {
+                created++;
+            }
+        }
+        return created;
+    }
+
+    private CompanyRating rebuild(Long companyId) {
+        CompanyRating row = newRow(companyId);
+        for (RatingCountView v : reviewRepository.countApprovedRatings(companyId)) {
+            row.add(v.getRating(), v.getTotal());
+        }
+        return row;
+    }
+
+    private CompanyRating newRow(Long companyId) {
+        CompanyRating row = new CompanyRating();
+        row.setCompanyId(companyId);
+        return row;
+    }
+
+    private static CompanyRatingDTO toDto(CompanyRating r) {
+        double average = r.getReviewCount() == 0 ? 0.0
+                : Math.round(r.getRatingSum() * 100.0 / r.getReviewCount()) / 100.0;
+        return new CompanyRatingDTO(r.getCompanyId(), average, r.getReviewCount(),
+                List.of(r.getStars1(), r.getStars2(), r.getStars3(), r.getStars4(), r.getStars5()));
+    }
+}
@@ -4,20 +4,20 @@ import com.jobspring.jobspringbackend.dto.CompanyDTO;
 import com.jobspring.jobspringbackend.dto.CompanyReviewDTO;
 import com.jobspring.jobspringbackend.dto.JobResponse;
 import com.jobspring.jobspringbackend.entity.Company;
-import com.jobspring.jobspringbackend.entity.Job;
-import com.jobspring.jobspringbackend.entity.Review;
 import com.jobspring.jobspringbackend.exception.BizException;
 import com.jobspring.jobspringbackend.exception.ErrorCode;
 import com.jobspring.jobspringbackend.repository.CompanyRepository;
 import com.jobspring.jobspringbackend.repository.JobRepository;
 import com.jobspring.jobspringbackend.repository.ReviewRepository;
+import com.jobspring.jobspringbackend.repository.projection.CompanyReviewView;
+import com.jobspring.jobspringbackend.repository.projection.CompanySummaryView;
+import com.jobspring.jobspringbackend.repository.projection.JobRowView;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
 
 @Service
 public class CompanyService {
@@ -31,6 +31,7 @@ public class CompanyService {
     @Autowired
     private ReviewRepository reviewRepository;
 
+    @Transactional(readOnly = true)
     public CompanyDTO getCompanyById(Long id) {
         Company company = companyRepository.findById(id).orElseThrow(() -> new RuntimeException("Company not found with id: " + id));
 
@@ -38,8 +39,19 @@ public class CompanyService {
     }
 
     public Page<CompanyDTO> getAllCompanies(Pageable pageable) {
-        Page<Company> companies = companyRepository.findAll(pageable);
-        return companies.map(this::convertToCompanyDTO);
+        return companyRepository.findAllSummaries(pageable).map(this::convertToCompanyDTO);
+    }
+
+    private CompanyDTO convertToCompanyDTO(CompanySummaryView c) {
+        CompanyDTO dto = new CompanyDTO();
+        dto.setId(c.getId());
+        dto.setName(c.getName());
+        dto.setWebsite(c.getWebsite());
+        dto.setSize(c.getSize());
+        dto.setLogoUrl(c.getLogoUrl());
+        dto.setDescription(c.getDescription());
+        dto.setCreatedBy(c.getCreatedBy());
+        return dto;
     }
 
 
@@ -56,14 +68,13 @@ public class CompanyService {
     }
 
     public Page<JobResponse> listCompanyJobs(Long companyId, Integer status, Pageable pageable) {
-        Page<Job> page = (status == null) ? jobRepository.findByCompanyId(companyId, pageable) : jobRepository.findByCompanyIdAndStatus(companyId, status, pageable);
-        return page.map(this::toResponse);
+        return jobRepository.findCompanyJobRows(companyId, status, pageable).map(this::toResponse);
     }
 
-    private JobResponse toResponse(Job j) {
+    private JobResponse toResponse(JobRowView j) {
         JobResponse r = new JobResponse();
         r.setId(j.getId());
-        r.setCompanyId(j.getCompany().getId());
+        r.setCompanyId(j.getCompanyId());
         r.setTitle(j.getTitle());
         r.setLocation(j.getLocation());
         r.setEmploymentType(j.getEmploymentType());
@@ -76,26 +87,21 @@ public class CompanyService {
     }
 
     public Page<CompanyReviewDTO> getCompanyReviews(Long companyId, Pageable pageable) {
-        Page<Review> reviews = reviewRepository.findByCompanyId(companyId, pageable);
-        List<CompanyReviewDTO> filtered = reviews.stream().filter(r -> r.getStatus() != null && r.getStatus() == 1).map(this::toDto).toList();
-        return new PageImpl<>(filtered, pageable, filtered.size());
+        // 只展示审核通过的评价，过滤在数据库里做，分页总数才准确
+        return reviewRepository.findByCompanyIdAndStatus(companyId, 1, pageable).map(this::toDto);
     }
 
 
-    private CompanyReviewDTO toDto(Review r) {
+    private CompanyReviewDTO toDto(CompanyReviewView r) {
         CompanyReviewDTO dto = new CompanyReviewDTO();
-        dto.setReviewId(r.getId());
+        dto.setReviewId(r.getReviewId());
+        dto.setCompanyId(r.getCompanyId());
         dto.setTitle(r.getTitle());
         dto.setContent(r.getContent());
         dto.setRating(r.getRating());
         dto.setPublicAt(r.getPublicAt());
         dto.setImageUrl(r.getImageUrl());
         dto.setStatus(r.getStatus());
-
-        if (r.getApplication() != null && r.getApplication().getJob() != null && r.getApplication().getJob().getCompany() != null) {
-            dto.setCompanyId(r.getApplication().getJob().getCompany().getId());
-        }
-
         return dto;
     }
 
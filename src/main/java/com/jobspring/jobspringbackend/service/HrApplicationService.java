@@ -1,16 +1,29 @@
 package com.jobspring.jobspringbackend.service;
 
 import com.jobspring.jobspringbackend.dto.ApplicationBriefResponse;
+import com.jobspring.jobspringbackend.dto.ApplicationStatusResult;
 import com.jobspring.jobspringbackend.entity.Application;
+import com.jobspring.jobspringbackend.events.ApplicationStatusBatchChangedEvent;
+import com.jobspring.jobspringbackend.events.ApplicationStatusChangedEvent;
 import com.jobspring.jobspringbackend.repository.ApplicationRepository;
+import com.jobspring.jobspringbackend.repository.projection.ApplicationBriefView;
+import com.jobspring.jobspringbackend.repository.projection.ApplicationStatusView;
+import com.jobspring.jobspringbackend.storage.ResumeStorage;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 @Service
@@ -19,12 +32,13 @@ public class HrApplicationService {
 
     private final ApplicationRepository applicationRepository;
     private final HrCompanyService hrCompanyService;
+    private final ApplicationEventPublisher publisher;
 
     public Page<ApplicationBriefResponse> listCompanyApplications(Long hrUserId, Long companyId, Long jobId, Integer status, Pageable pageable) {
 
         final Long effectiveCompanyId = (companyId == null) ? hrCompanyService.findCompanyIdByUserId(hrUserId) : validateAndReturn(hrUserId, companyId);
 
-        Page<Application> page = applicationRepository.searchByCompany(effectiveCompanyId, jobId, status, pageable);
+        Page<ApplicationBriefView> page = applicationRepository.searchByCompany(effectiveCompanyId, jobId, status, pageable);
         return page.map(this::toBrief);
     }
 
@@ -33,6 +47,19 @@ public class HrApplicationService {
         return companyId;
     }
 
+    private ApplicationBriefResponse toBrief(ApplicationBriefView v) {
+        ApplicationBriefResponse r = new ApplicationBriefResponse();
+        r.setId(v.getId());
+        r.setJobId(v.getJobId());
+        r.setJobTitle(v.getJobTitle());
+        r.setApplicantId(v.getApplicantId());
+        r.setApplicantName(v.getApplicantName());
+        r.setStatus(v.getStatus());
+        r.setAppliedAt(v.getAppliedAt());
+        r.setResumeUrl(ResumeStorage.downloadLink(v.getId()));
+        return r;
+    }
+
     private ApplicationBriefResponse toBrief(Application a) {
         ApplicationBriefResponse r = new ApplicationBriefResponse();
         r.setId(a.getId());
@@ -42,7 +69,7 @@ public class HrApplicationService {
         r.setApplicantName(a.getUser().getFullName());
         r.setStatus(a.getStatus());
         r.setAppliedAt(a.getAppliedAt());
-        r.setResumeUrl(a.getResumeUrl());
+        r.setResumeUrl(ResumeStorage.downloadLink(a.getId()));
         return r;
     }
 
@@ -69,8 +96,64 @@ public class HrApplicationService {
         }
 
 
+        Integer oldStatus = app.getStatus();
         app.setStatus(newStatus);
+        if (!newStatus.equals(oldStatus)) {
+            publisher.publishEvent(new ApplicationStatusChangedEvent(app.getId(), appCompanyId, app.getJob().getId(), app.getUser().getId(), app.getJob().getTitle(), oldStatus, newStatus));
+        }
 
         return toBrief(app);
     }
+
+    /**
+     * 批量改状态：一次查询校验归属，一条 UPDATE 写入，逐个返回结果而不是遇错整体失败。
+     */
+    @Transactional
+    public List<ApplicationStatusResult> updateStatuses(Long hrUserId, List<Long> applicationIds, Integer newStatus) {
+        if (newStatus == null || !ALLOWED.contains(newStatus)) {
+            throw new IllegalArgumentException("Illegal application status：" + newStatus);
+        }
+        Long hrCompanyId = hrCompanyService.findCompanyIdByUserId(hrUserId);
+
+        // 读到的行加了写锁，直到提交前状态都不会变，据此生成的结果和事件就是真正被改动的行
+        Map<Long, ApplicationStatusView> found = new HashMap<>();
+        for (ApplicationStatusView v : applicationRepository.findStatusViewsByIds(new LinkedHashSet<>(applicationIds))) {
+            found.put(v.getId(), v);
+        }
+
+        List<ApplicationStatusResult> results = new ArrayList<>(applicationIds.size());
+        List<Long> toUpdate = new ArrayList<>();
+        List<ApplicationStatusChangedEvent> changes = new ArrayList<>();
+        Set<Long> seen = new HashSet<>();
+        for (Long id : applicationIds) {
+            if (!seen.add(id)) {
+                continue;
+            }
+            ApplicationStatusView v = found.get(id);
+            if (v == null) {
+                results.add(new ApplicationStatusResult(id, ApplicationStatusResult.NOT_FOUND, null));
+            } else if (!hrCompanyId.equals(v.getCompanyId())) {
+                // 不暴露其他公司投递的当前状态
+                results.add(new ApplicationStatusResult(id, ApplicationStatusResult.FORBIDDEN, null));
+            } else if (v.getJobStatus() == null || v.getJobStatus() != 0) {
+                results.add(new ApplicationStatusResult(id, ApplicationStatusResult.JOB_INACTIVE, v.getStatus()));
+            } else if (newStatus.equals(v.getStatus())) {
+                results.add(new ApplicationStatusResult(id, ApplicationStatusResult.UNCHANGED, v.getStatus()));
+            } else {
+                toUpdate.add(id);
+                changes.add(new ApplicationStatusChangedEvent(id, hrCompanyId, v.getJobId(), v.getApplicantId(), v.getJobTitle(), v.getStatus(), newStatus));
+                results.add(new ApplicationStatusResult(id, ApplicationStatusResult.UPDATED, newStatus));
+            }
+        }
+
+        if (!toUpdate.isEmpty()) {
+            int updated = applicationRepository.updateStatusByIds(toUpdate, newStatus);
+            if (updated != toUpdate.size()) {
+                // 加锁后不应出现；宁可整体回滚也不返回与数据库不符的结果
+                throw new IllegalStateException("Application statuses changed concurrently, please retry");
+            }
+            publisher.publishEvent(new ApplicationStatusBatchChangedEvent(hrCompanyId, changes));
+        }
+        return results;
+    }
 }
\ No newline at end of file
@@ -1,34 +1,59 @@
 package com.jobspring.jobspringbackend.service;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobspring.jobspringbackend.constant.JobStatus;
+import com.jobspring.jobspringbackend.dto.CursorPage;
 import com.jobspring.jobspringbackend.dto.JobCreateRequest;
 import com.jobspring.jobspringbackend.dto.JobDTO;
 import com.jobspring.jobspringbackend.dto.JobResponse;
 import com.jobspring.jobspringbackend.dto.JobUpdateRequest;
 import com.jobspring.jobspringbackend.entity.Company;
 import com.jobspring.jobspringbackend.entity.Job;
+import com.jobspring.jobspringbackend.events.JobCreatedEvent;
+import com.jobspring.jobspringbackend.events.JobDeactivatedEvent;
+import com.jobspring.jobspringbackend.events.JobReplacedEvent;
 import com.jobspring.jobspringbackend.repository.*;
+import com.jobspring.jobspringbackend.repository.projection.JobRowView;
+import com.jobspring.jobspringbackend.repository.projection.JobStatusView;
+import com.jobspring.jobspringbackend.search.JobDocument;
+import com.jobspring.jobspringbackend.search.JobSearchIndex;
+import com.jobspring.jobspringbackend.util.KeysetCursor;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.context.ApplicationEventPublisher;
 
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDateTime;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 public class JobService {
 
+    private static final int MAX_SCROLL_SIZE = 100;
+    private static final int STATUS_FLUSH_EVERY = 500;
 
     private final JobRepository jobRepository;
 
 
-    private final SkillRepository skillRepository;
+    private final JobTagService jobTagService;
 
 
     private final CompanyMemberRepository companyMemberRepository;
@@ -38,7 +63,41 @@ public class JobService {
 
     private final ApplicationEventPublisher publisher;
 
-    public record JobDeactivatedEvent(Long companyId, Long jobId) {
+    private final JobSearchIndex jobSearchIndex;
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 以 JSON 数组逐行写出 id 大于 afterId 的职位状态，返回写出的行数。
+     * 游标查询边读边写，内存占用与表大小无关；连接中断时可用最后收到的 id 续传。
+     */
+    @Transactional
+    public long writeJobStatus(Long afterId, OutputStream out) throws IOException {
+        long written = 0;
+        try (JsonGenerator gen = objectMapper.getFactory().createGenerator(out);
+             Stream<JobStatusView> rows = jobRepository.streamStatusViews(afterId == null ? 0L : afterId)) {
+            // 中途出错时不自动补全括号，让客户端能识别出截断的响应
+            gen.configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+            gen.configure(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT, false);
+            gen.writeStartArray();
+            Iterator<JobStatusView> it = rows.iterator();
+            while (it.hasNext()) {
+                JobStatusView job = it.next();
+                gen.writeStartObject();
+                gen.writeNumberField("id", job.getId());
+                gen.writeStringField("title", job.getTitle());
+                gen.writeStringField("company", job.getCompanyName());
+                gen.writeObjectField("companyId", job.getCompanyId());
+                gen.writeObjectField("status", job.getStatus());
+                gen.writeEndObject();
+                if (++written % STATUS_FLUSH_EVERY == 0) {
+                    gen.flush();
+                }
+            }
+            gen.writeEndArray();
+        }
+        out.flush();
+        return written;
     }
 
     public List<Job> getAllJobs() {
@@ -48,17 +107,96 @@ public class JobService {
 
     public Page<JobDTO> getJobSeekerJobs(Pageable pageable) {
         Page<Job> jobs = jobRepository.findByStatus(0, pageable);
-        return jobs.map(this::convertToJobSeekerDTO);
+        Map<Long, List<String>> tags = jobTagService.tagsFor(jobs.map(Job::getId).getContent());
+        return jobs.map(j -> convertToJobSeekerDTO(j, tags));
     }
 
 
     public Page<JobDTO> searchJobSeekerJobs(String keyword, Pageable pageable) {
-        Page<Job> jobs = jobRepository.searchJobs(keyword, pageable);
-        return jobs.map(this::convertToJobSeekerDTO);
+        // 关键词里没有可检索的词（如空串）时与原 LIKE '%%' 一致，返回全部在线职位
+        if (JobSearchIndex.tokenize(keyword).isEmpty()) {
+            return getJobSeekerJobs(pageable);
+        }
+        // 索引加载完成前走数据库 LIKE；加载完成后以索引为准，不再回退到全表扫描
+        if (!jobSearchIndex.isReady()) {
+            Page<Job> jobs = jobRepository.searchJobs(keyword, pageable);
+            Map<Long, List<String>> tags = jobTagService.tagsFor(jobs.map(Job::getId).getContent());
+            return jobs.map(j -> convertToJobSeekerDTO(j, tags));
+        }
+
+        // 候选集和排序由内存索引给出，数据库只按主键取当前页
+        JobSearchIndex.Hits hits = jobSearchIndex.search(keyword, (int) pageable.getOffset(), pageable.getPageSize());
+        return new PageImpl<>(getJobSeekerJobsByIds(hits.ids()), pageable, hits.total());
+    }
+
+
+    public CursorPage<JobDTO> scrollJobSeekerJobs(String cursor, int size) {
+        Pageable limit = PageRequest.of(0, clampScrollSize(size));
+        Slice<Job> slice;
+        if (cursor == null || cursor.isBlank()) {
+            slice = jobRepository.findActiveLatest(limit);
+        } else {
+            KeysetCursor c = KeysetCursor.decode(cursor);
+            slice = jobRepository.findActiveBefore(c.postedAt(), c.id(), limit);
+        }
+        return toCursorPage(slice.getContent(), slice.hasNext());
+    }
+
+
+    public CursorPage<JobDTO> scrollSearchJobSeekerJobs(String keyword, String cursor, int size) {
+        if (JobSearchIndex.tokenize(keyword).isEmpty()) {
+            return scrollJobSeekerJobs(cursor, size);
+        }
+        int pageSize = clampScrollSize(size);
+        KeysetCursor c = (cursor == null || cursor.isBlank()) ? null : KeysetCursor.decode(cursor);
+
+        if (!jobSearchIndex.isReady()) {
+            Pageable limit = PageRequest.of(0, pageSize);
+            Slice<Job> slice = (c == null) ? jobRepository.searchActiveLatest(keyword, limit) : jobRepository.searchActiveBefore(keyword, c.postedAt(), c.id(), limit);
+            return toCursorPage(slice.getContent(), slice.hasNext());
+        }
+
+        // 多取一条判断是否还有下一页
+        List<Long> ids = jobSearchIndex.searchByRecency(keyword, c == null ? Long.MAX_VALUE : JobDocument.epochMillis(c.postedAt()), c == null ? Long.MAX_VALUE : c.id(), pageSize + 1);
+        boolean hasNext = ids.size() > pageSize;
+        List<Long> pageIds = hasNext ? ids.subList(0, pageSize) : ids;
+        if (pageIds.isEmpty()) {
+            return new CursorPage<>(List.of(), null, false);
+        }
+        Map<Long, Job> byId = jobRepository.findByIdIn(pageIds).stream().collect(Collectors.toMap(Job::getId, Function.identity()));
+        return toCursorPage(pageIds.stream().map(byId::get).filter(j -> j != null && Objects.equals(j.getStatus(), JobStatus.VALID)).toList(), hasNext);
+    }
+
+    // 按给定顺序返回仍在线的职位，用于内存索引给出排序后的回表
+    public List<JobDTO> getJobSeekerJobsByIds(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Job> byId = jobRepository.findByIdIn(ids).stream().collect(Collectors.toMap(Job::getId, Function.identity()));
+        Map<Long, List<String>> tags = jobTagService.tagsFor(ids);
+        return ids.stream().map(byId::get)
+                .filter(j -> j != null && Objects.equals(j.getStatus(), JobStatus.VALID))
+                .map(j -> convertToJobSeekerDTO(j, tags))
+                .toList();
+    }
+
+    private CursorPage<JobDTO> toCursorPage(List<Job> jobs, boolean hasNext) {
+        Map<Long, List<String>> tags = jobTagService.tagsFor(jobs.stream().map(Job::getId).toList());
+        List<JobDTO> content = jobs.stream().map(j -> convertToJobSeekerDTO(j, tags)).toList();
+        String next = null;
+        if (hasNext && !jobs.isEmpty()) {
+            Job last = jobs.get(jobs.size() - 1);
+            next = new KeysetCursor(last.getPostedAt(), last.getId()).encode();
+        }
+        return new CursorPage<>(content, next, next != null);
+    }
+
+    private int clampScrollSize(int size) {
+        return Math.max(1, Math.min(size, MAX_SCROLL_SIZE));
     }
 
 
-    private JobDTO convertToJobSeekerDTO(Job job) {
+    private JobDTO convertToJobSeekerDTO(Job job, Map<Long, List<String>> tags) {
         JobDTO dto = new JobDTO();
         dto.setId(job.getId());
         dto.setTitle(job.getTitle());
@@ -76,7 +214,7 @@ public class JobService {
 
         dto.setDescription(job.getDescription());
 
-        dto.setTags(getJobTags(job.getId()));
+        dto.setTags(tags.getOrDefault(job.getId(), List.of()));
 
         return dto;
     }
@@ -92,11 +230,6 @@ public class JobService {
         };
     }
 
-
-    private List<String> getJobTags(Long jobId) {
-        return skillRepository.findSkillNamesByJobId(jobId);
-    }
-
     private void validateSalaryRange(JobCreateRequest req) {
         if (req.getSalaryMin() != null && req.getSalaryMax() != null && req.getSalaryMin().compareTo(req.getSalaryMax()) > 0) {
             throw new IllegalArgumentException("salaryMin cannot be greater than salaryMax");
@@ -110,6 +243,21 @@ public class JobService {
     }
 
 
+    private JobResponse toResponse(JobRowView j) {
+        JobResponse r = new JobResponse();
+        r.setId(j.getId());
+        r.setCompanyId(j.getCompanyId());
+        r.setTitle(j.getTitle());
+        r.setLocation(j.getLocation());
+        r.setEmploymentType(j.getEmploymentType());
+        r.setSalaryMin(j.getSalaryMin());
+        r.setSalaryMax(j.getSalaryMax());
+        r.setDescription(j.getDescription());
+        r.setStatus(j.getStatus());
+        r.setPostedAt(j.getPostedAt());
+        return r;
+    }
+
     private JobResponse toResponse(Job j) {
         JobResponse r = new JobResponse();
         r.setId(j.getId());
@@ -145,6 +293,7 @@ public class JobService {
         j.setPostedAt(LocalDateTime.now());
 
         jobRepository.save(j);
+        publisher.publishEvent(new JobCreatedEvent(companyId, j.getId()));
         return toResponse(j);
     }
 
@@ -172,6 +321,8 @@ public class JobService {
 
         jobRepository.save(newJob);
 
+        publisher.publishEvent(new JobReplacedEvent(companyId, jobId, newJob.getId()));
+
         return toResponse(newJob);
     }
 
@@ -185,14 +336,13 @@ public class JobService {
         jobRepository.save(job);
 
 
-        publisher.publishEvent(new JobDeactivatedEvent(companyId, jobId));
+        publisher.publishEvent(new JobDeactivatedEvent(companyId, jobId, job.getTitle()));
         //applicationRepository.updateStatusByJobId(jobId, 4);
     }
 
 
     public Page<JobResponse> listJobs(Long companyId, Integer status, Pageable pageable) {
-        Page<Job> page = (status == null) ? jobRepository.findByCompanyId(companyId, pageable) : jobRepository.findByCompanyIdAndStatus(companyId, status, pageable);
-        return page.map(this::toResponse);
+        return jobRepository.findCompanyJobRows(companyId, status, pageable).map(this::toResponse);
     }
 
 
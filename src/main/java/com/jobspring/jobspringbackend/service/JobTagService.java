@@ -0,0 +1,91 @@
+package com.jobspring.jobspringbackend.service;
+
+import com.jobspring.jobspringbackend.repository.SkillRepository;
+import com.jobspring.jobspringbackend.repository.projection.JobTagView;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * 职位技能标签的批量解析：命中缓存的直接返回，其余职位合并成一条 IN 查询。
+ * 缓存按 LRU 淘汰，容量由 app.cache.job-tags.max-entries 控制；
+ * job_skills 在应用外维护，条目写入超过 app.cache.job-tags.ttl-seconds 后重新加载。
+ */
+@Service
+public class JobTagService {
+
+    private final SkillRepository skillRepository;
+    private final Map<Long, Cached> cache;
+    private final long ttlMs;
+    private final LongSupplier clock;
+
+    private record Cached(List<String> tags, long loadedAt) {
+    }
+
+    @Autowired
+    public JobTagService(SkillRepository skillRepository,
+                         @Value("${app.cache.job-tags.max-entries:10000}") int maxEntries,
+                         @Value("${app.cache.job-tags.ttl-seconds:300}") long ttlSeconds) {
+        this(skillRepository, maxEntries, ttlSeconds, System::currentTimeMillis);
+    }
+
+    JobTagService(SkillRepository skillRepository, int maxEntries, long ttlSeconds, LongSupplier clock) {
+        this.skillRepository = skillRepository;
+        this.ttlMs = ttlSeconds * 1000L;
+        this.clock = clock;
+        this.cache = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Cached> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    public Map<Long, List<String>> tagsFor(Collection<Long> jobIds) {
+        Map<Long, List<String>> result = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+        long now = clock.getAsLong();
+        synchronized (cache) {
+            for (Long id : jobIds) {
+                Cached cached = cache.get(id);
+                if (cached != null && now - cached.loadedAt() < ttlMs) {
+                    result.put(id, cached.tags());
+                } else {
+                    missing.add(id);
+                }
+            }
+        }
+        if (missing.isEmpty()) {
+            return result;
+        }
+
+        Map<Long, List<String>> loaded = new HashMap<>();
+        for (Long id : missing) {
+            loaded.put(id, new ArrayList<>());
+        }
+        for (JobTagView row : skillRepository.findTagsByJobIds(missing)) {
+            loaded.get(row.getJobId()).add(row.getName());
+        }
+
+        synchronized (cache) {
+            loaded.forEach((id, tags) -> {
+                List<String> frozen = List.copyOf(tags);
+                cache.put(id, new Cached(frozen, now));
+                result.put(id, frozen);
+            });
+        }
+        return result;
+    }
+
+    public List<String> tagsFor(Long jobId) {
+        return tagsFor(List.of(jobId)).getOrDefault(jobId, List.of());
+    }
+}
@@ -1,10 +1,9 @@
 package com.jobspring.jobspringbackend.service;
 
 import com.jobspring.jobspringbackend.dto.ApplicationBriefResponse;
-import com.jobspring.jobspringbackend.entity.Application;
-import com.jobspring.jobspringbackend.entity.Job;
-import com.jobspring.jobspringbackend.entity.Company;
 import com.jobspring.jobspringbackend.repository.ApplicationRepository;
+import com.jobspring.jobspringbackend.repository.projection.ApplicationBriefView;
+import com.jobspring.jobspringbackend.storage.ResumeStorage;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.*;
 import org.springframework.stereotype.Service;
@@ -18,29 +17,21 @@ public class JobseekerApplicationService {
 
     @Transactional(readOnly = true)
     public Page<ApplicationBriefResponse> listMine(Long userId, Integer status, Pageable pageable) {
-        Page<Application> page = (status == null) ? applicationRepository.findMyApplications(userId, pageable) : applicationRepository.findMyApplicationsByStatus(userId, status, pageable);
+        Page<ApplicationBriefView> page = (status == null) ? applicationRepository.findMyApplications(userId, pageable) : applicationRepository.findMyApplicationsByStatus(userId, status, pageable);
 
         return page.map(this::toBrief);
     }
 
-    private ApplicationBriefResponse toBrief(Application a) {
+    private ApplicationBriefResponse toBrief(ApplicationBriefView v) {
         ApplicationBriefResponse dto = new ApplicationBriefResponse();
-        dto.setId(a.getId());
-        dto.setStatus(a.getStatus());
-        dto.setAppliedAt(a.getAppliedAt());
-        dto.setResumeUrl(a.getResumeUrl());
-
-        Job j = a.getJob();
-        if (j != null) {
-            dto.setJobId(j.getId());
-            dto.setJobTitle(j.getTitle());
-
-            Company c = j.getCompany();
-            if (c != null) {
-                dto.setCompanyId(c.getId());
-                dto.setCompanyName(c.getName());
-            }
-        }
+        dto.setId(v.getId());
+        dto.setStatus(v.getStatus());
+        dto.setAppliedAt(v.getAppliedAt());
+        dto.setResumeUrl(ResumeStorage.downloadLink(v.getId()));
+        dto.setJobId(v.getJobId());
+        dto.setJobTitle(v.getJobTitle());
+        dto.setCompanyId(v.getCompanyId());
+        dto.setCompanyName(v.getCompanyName());
         return dto;
     }
-}
\ No newline at end of file
+}
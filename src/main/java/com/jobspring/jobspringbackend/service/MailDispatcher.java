@@ -0,0 +1,116 @@
+package com.jobspring.jobspringbackend.service;
+
+import com.jobspring.jobspringbackend.dto.MailQueueStats;
+import com.jobspring.jobspringbackend.dto.OutboundMail;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 邮件发送的专用执行器：每批邮件一个任务，在虚拟线程上并行发送。
+ * 队列有界，排满时由提交方线程自己发送（背压），同时用信号量限制同时打开的 SMTP 连接数。
+ */
+@Slf4j
+@Service
+public class MailDispatcher implements DisposableBean {
+
+    private final MailService mail;
+    private final ThreadPoolExecutor executor;
+    private final Semaphore smtpPermits;
+    private final int queueCapacity;
+    private final int maxConnections;
+
+    private final AtomicLong callerRuns = new AtomicLong();
+    private final AtomicLong sent = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    public MailDispatcher(MailService mail,
+                          @Value("${app.mail.workers:16}") int workers,
+                          @Value("${app.mail.queue-capacity:500}") int queueCapacity,
+                          @Value("${app.mail.max-connections:4}") int maxConnections) {
+        this.mail = mail;
+        this.queueCapacity = queueCapacity;
+        this.maxConnections = maxConnections;
+        this.smtpPermits = new Semaphore(maxConnections);
+        RejectedExecutionHandler callerRunsCounted = (task, pool) -> {
+            if (pool.isShutdown()) {
+                throw new RejectedExecutionException("Mail executor is shut down");
+            }
+            callerRuns.incrementAndGet();
+            task.run();
+        };
+        this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofVirtual().name("mail-", 0).factory(),
+                callerRunsCounted);
+    }
+
+    /**
+     * 提交一批邮件，在一个任务里通过同一个 SMTP 连接发送；future 的结果是失败的下标和异常。
+     * 队列排满时在调用方线程直接发送。
+     */
+    public CompletableFuture<Map<Integer, Exception>> submit(List<OutboundMail> mails) {
+        CompletableFuture<Map<Integer, Exception>> result = new CompletableFuture<>();
+        try {
+            executor.execute(() -> send(mails, result));
+        } catch (RejectedExecutionException e) {
+            result.completeExceptionally(e);
+        }
+        return result;
+    }
+
+    private void send(List<OutboundMail> mails, CompletableFuture<Map<Integer, Exception>> result) {
+        try {
+            smtpPermits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failed.addAndGet(mails.size());
+            result.completeExceptionally(e);
+            return;
+        }
+        try {
+            Map<Integer, Exception> failures = mail.sendBatch(mails);
+            sent.addAndGet(mails.size() - failures.size());
+            failed.addAndGet(failures.size());
+            result.complete(failures);
+        } catch (Exception ex) {
+            failed.addAndGet(mails.size());
+            result.completeExceptionally(ex);
+        } finally {
+            smtpPermits.release();
+        }
+    }
+
+    public MailQueueStats stats() {
+        return new MailQueueStats(
+                executor.getQueue().size(),
+                queueCapacity,
+                executor.getActiveCount(),
+                maxConnections - smtpPermits.availablePermits(),
+                executor.getCompletedTaskCount(),
+                callerRuns.get(),
+                sent.get(),
+                failed.get()
+        );
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+            log.warn("Mail executor did not drain in time, {} tasks dropped", executor.shutdownNow().size());
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.jobspring.jobspringbackend.service;
+
+import com.jobspring.jobspringbackend.dto.OutboundMail;
+import com.jobspring.jobspringbackend.entity.MailOutbox;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * 定时从发件箱认领一批邮件，切块交给 MailDispatcher 并行发送（每块复用一个 SMTP 连接），再逐条记录结果。
+ * 认领和记录各是一个短事务，SMTP 往返不占用数据库事务。
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.mail.enabled", havingValue = "true", matchIfMissing = true)
+public class MailOutboxDispatcher {
+
+    private final MailOutboxService outbox;
+    private final MailDispatcher mailDispatcher;
+
+    @Value("${app.mail.outbox.batch-size:50}")
+    private int batchSize;
+
+    @Value("${app.mail.outbox.per-connection:10}")
+    private int perConnection;
+
+    public MailOutboxDispatcher(MailOutboxService outbox, MailDispatcher mailDispatcher) {
+        this.outbox = outbox;
+        this.mailDispatcher = mailDispatcher;
+    }
+
+    @Scheduled(fixedDelayString = "${app.mail.outbox.poll-ms:2000}")
+    public void poll() {
+        List<MailOutbox> batch;
+        do {
+            batch = outbox.claimBatch(batchSize);
+            dispatch(batch);
+        } while (batch.size() == batchSize);
+    }
+
+    // 按 perConnection 切块，每块占用一个 SMTP 连接，块之间并行
+    void dispatch(List<MailOutbox> batch) {
+        List<List<MailOutbox>> chunks = new ArrayList<>();
+        List<CompletableFuture<Map<Integer, Exception>>> sends = new ArrayList<>();
+        for (int from = 0; from < batch.size(); from += perConnection) {
+            List<MailOutbox> chunk = batch.subList(from, Math.min(from + perConnection, batch.size()));
+            List<OutboundMail> mails = new ArrayList<>(chunk.size());
+            for (MailOutbox row : chunk) {
+                mails.add(new OutboundMail(row.getRecipient(), row.getSubject(), row.getBody()));
+            }
+            chunks.add(chunk);
+            sends.add(mailDispatcher.submit(mails));
+        }
+
+        for (int c = 0; c < chunks.size(); c++) {
+            List<MailOutbox> chunk = chunks.get(c);
+            Map<Integer, Exception> failures;
+            try {
+                failures = sends.get(c).join();
+            } catch (CompletionException e) {
+                Throwable cause = e.getCause() != null ? e.getCause() : e;
+                failures = new HashMap<>();
+                for (int i = 0; i < chunk.size(); i++) {
+                    failures.put(i, cause instanceof Exception ex ? ex : e);
+                }
+            }
+            for (int i = 0; i < chunk.size(); i++) {
+                Long id = chunk.get(i).getId();
+                Exception failure = failures.get(i);
+                if (failure == null) {
+                    outbox.markSent(id);
+                } else {
+                    log.warn("Outbox mail {} failed: {}", id, failure.getMessage());
+                    outbox.markFailed(id, failure.getMessage());
+                }
+            }
+        }
+    }
+}
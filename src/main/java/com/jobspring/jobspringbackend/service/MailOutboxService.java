@@ -0,0 +1,129 @@
+package com.jobspring.jobspringbackend.service;
+
+import com.jobspring.jobspringbackend.entity.MailOutbox;
+import com.jobspring.jobspringbackend.repository.MailOutboxRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 邮件发件箱：业务事务里只写一行记录，由 MailOutboxDispatcher 在事务外发送。
+ * 认领时把记录置为 SENDING 并设置租约，节点崩溃后租约到期会被重新认领。
+ */
+@Service
+public class MailOutboxService {
+
+    public static final int PENDING = 0;
+    public static final int SENT = 1;
+    public static final int FAILED = 2;
+    public static final int SENDING = 3;
+
+    private static final Duration BASE_BACKOFF = Duration.ofSeconds(30);
+    private static final Duration MAX_BACKOFF = Duration.ofHours(1);
+
+    private final MailOutboxRepository repo;
+
+    @Value("${app.mail.outbox.max-attempts:8}")
+    private int maxAttempts;
+
+    @Value("${app.mail.outbox.lease-seconds:300}")
+    private int leaseSeconds;
+
+    @Value("${app.mail.outbox.retention-days:7}")
+    private int retentionDays;
+
+    public MailOutboxService(MailOutboxRepository repo) {
+        this.repo = repo;
+    }
+
+    @Transactional
+    public void enqueue(String to, String subject, String body) {
+        repo.save(newRow(to, subject, body, LocalDateTime.now()));
+    }
+
+    @Transactional
+    public void enqueueAll(List<String> recipients, String subject, String body) {
+        LocalDateTime now = LocalDateTime.now();
+        List<MailOutbox> rows = new ArrayList<>(recipients.size());
+        for (String to : recipients) {
+            rows.add(newRow(to, subject, body, now));
+        }
+        repo.saveAll(rows);
+    }
+
+    @Transactional
+    public List<MailOutbox> claimBatch(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        List<MailOutbox> rows = repo.lockDue(now, limit);
+        List<MailOutbox> claimed = new ArrayList<>(rows.size());
+        for (MailOutbox row : rows) {
+            // 最后一次发送时节点崩溃、租约过期的记录不再重试
+            if (row.getAttempts() >= maxAttempts) {
+                row.setStatus(FAILED);
+                row.setLastError("Lease expired after " + row.getAttempts() + " attempts");
+                continue;
+            }
+            row.setStatus(SENDING);
+            row.setAttempts(row.getAttempts() + 1);
+            row.setNextAttemptAt(now.plusSeconds(leaseSeconds));
+            claimed.add(row);
+        }
+        return claimed;
+    }
+
+    @Transactional
+    public void markSent(Long id) {
+        repo.findById(id).ifPresent(row -> {
+            row.setStatus(SENT);
+            row.setSentAt(LocalDateTime.now());
+            row.setLastError(null);
+            // 正文可能含验证码等敏感内容，发出后不再保留
+            row.setBody("");
+        });
+    }
+
+    @Transactional
+    public void markFailed(Long id, String error) {
+        repo.findById(id).ifPresent(row -> {
+            row.setLastError(error == null ? null : error.substring(0, Math.min(error.length(), 500)));
+            if (row.getAttempts() >= maxAttempts) {
+                row.setStatus(FAILED);
+            } else {
+                row.setStatus(PENDING);
+                row.setNextAttemptAt(LocalDateTime.now().plus(backoff(row.getAttempts())));
+            }
+        });
+    }
+
+    // 已发送和已放弃的记录保留 retention-days 天后删除
+    @Scheduled(fixedDelayString = "${app.mail.outbox.purge-ms:3600000}")
+    @Transactional
+    public int purgeFinished() {
+        return repo.deleteFinishedBefore(List.of(SENT, FAILED), LocalDateTime.now().minusDays(retentionDays));
+    }
+
+    // 30s、1m、2m……翻倍，最多 1 小时
+    static Duration backoff(int attempts) {
+        int shift = Math.min(Math.max(attempts - 1, 0), 20);
+        Duration d = BASE_BACKOFF.multipliedBy(1L << shift);
+        return d.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : d;
+    }
+
+    private static MailOutbox newRow(String to, String subject, String body, LocalDateTime now) {
+        MailOutbox row = new MailOutbox();
+        row.setRecipient(to);
+        row.setSubject(subject);
+        row.setBody(body);
+        row.setStatus(PENDING);
+        row.setAttempts(0);
+        row.setNextAttemptAt(now);
+        row.setCreatedAt(now);
+        return row;
+    }
+}
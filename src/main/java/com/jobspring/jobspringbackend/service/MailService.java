@@ -1,34 +1,167 @@
 package com.jobspring.jobspringbackend.service;
 
+import com.jobspring.jobspringbackend.dto.OutboundMail;
+import jakarta.mail.MessagingException;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.mail.javamail.MimeMailMessage;
 import org.springframework.stereotype.Service;
 
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 @Service
-public class MailService {
+public class MailService implements DisposableBean {
 
     private final JavaMailSender mailSender;
+    private final SmtpConnectionPool pool;
 
     @Value("${app.mail.from:1649182810@qq.com}")
     private String from;
 
     public MailService(JavaMailSender mailSender) {
+        this(mailSender, 0, 0);
+    }
+
+    // JavaMailSenderImpl 时复用 SMTP 连接；其他实现（如测试桩）直接走 mailSender
+    @Autowired
+    public MailService(JavaMailSender mailSender,
+                       @Value("${app.mail.max-connections:4}") int maxConnections,
+                       @Value("${app.mail.pool.idle-seconds:30}") int idleSeconds) {
         this.mailSender = mailSender;
+        this.pool = mailSender instanceof JavaMailSenderImpl impl && maxConnections > 0
+                ? new SmtpConnectionPool(impl, maxConnections, idleSeconds * 1000L)
+                : null;
     }
 
     public void sendPlainText(String to, String subject, String text) {
-        SimpleMailMessage msg = new SimpleMailMessage();
-        msg.setFrom(from);
-        msg.setTo(to);
-        msg.setSubject(subject);
-        msg.setText(text);
+        if (pool == null) {
+            try {
+                mailSender.send(toMessage(new OutboundMail(to, subject, text)));
+            } catch (MailException e) {
+                throw new IllegalStateException("Failed to send mail: " + e.getMessage(), e);
+            }
+            return;
+        }
+        Exception failure = sendBatch(List.of(new OutboundMail(to, subject, text))).get(0);
+        if (failure != null) {
+            throw new IllegalStateException("Failed to send mail: " + failure.getMessage(), failure);
+        }
+    }
+
+    /**
+     * 通过同一个 SMTP 连接依次发送多封邮件，返回失败的下标和对应异常；全部成功时返回空 map。
+     */
+    public Map<Integer, Exception> sendBatch(List<OutboundMail> mails) {
+        Map<Integer, Exception> failures = new LinkedHashMap<>();
+        if (mails.isEmpty()) {
+            return failures;
+        }
+        if (pool == null) {
+            sendWithoutPool(mails, failures);
+            return failures;
+        }
 
+        Transport transport;
         try {
-            mailSender.send(msg);
+            transport = pool.borrow();
+        } catch (MessagingException e) {
+            for (int i = 0; i < mails.size(); i++) {
+                failures.put(i, e);
+            }
+            return failures;
+        }
+
+        for (int i = 0; i < mails.size(); i++) {
+            try {
+                send(transport, mails.get(i));
+            } catch (SendFailedException | RuntimeException e) {
+                // 收件人被拒或地址格式错误，连接本身仍可用
+                failures.put(i, e);
+            } catch (MessagingException e) {
+                // 多半是连接被服务端关闭：换一个新连接重试这一封
+                pool.discard(transport);
+                transport = null;
+                try {
+                    transport = pool.borrow();
+                    send(transport, mails.get(i));
+                } catch (SendFailedException | RuntimeException retry) {
+                    failures.put(i, retry);
+                } catch (MessagingException retry) {
+                    if (transport != null) {
+                        pool.discard(transport);
+                    }
+                    for (int j = i; j < mails.size(); j++) {
+                        failures.put(j, retry);
+                    }
+                    return failures;
+                }
+            }
+        }
+        pool.release(transport);
+        return failures;
+    }
+
+    private void send(Transport transport, OutboundMail mail) throws MessagingException {
+        JavaMailSenderImpl impl = (JavaMailSenderImpl) mailSender;
+        MimeMessage mime = impl.createMimeMessage();
+        toMessage(mail).copyTo(new MimeMailMessage(mime));
+        mime.setSentDate(new Date());
+        mime.saveChanges();
+        transport.sendMessage(mime, mime.getAllRecipients());
+    }
+
+    private void sendWithoutPool(List<OutboundMail> mails, Map<Integer, Exception> failures) {
+        SimpleMailMessage[] messages = new SimpleMailMessage[mails.size()];
+        for (int i = 0; i < messages.length; i++) {
+            messages[i] = toMessage(mails.get(i));
+        }
+        try {
+            mailSender.send(messages);
+        } catch (MailSendException e) {
+            if (e.getFailedMessages().isEmpty()) {
+                for (int i = 0; i < messages.length; i++) {
+                    failures.put(i, e);
+                }
+            }
+            e.getFailedMessages().forEach((msg, ex) -> {
+                for (int i = 0; i < messages.length; i++) {
+                    if (messages[i] == msg) {
+                        failures.put(i, ex);
+                    }
+                }
+            });
         } catch (MailException e) {
-            throw new IllegalStateException("Failed to send mail: " + e.getMessage(), e);
+            for (int i = 0; i < messages.length; i++) {
+                failures.put(i, e);
+            }
+        }
+    }
+
+    private SimpleMailMessage toMessage(OutboundMail mail) {
+        SimpleMailMessage msg = new SimpleMailMessage();
+        msg.setFrom(from);
+        msg.setTo(mail.to());
+        msg.setSubject(mail.subject());
+        msg.setText(mail.body());
+        return msg;
+    }
+
+    @Override
+    public void destroy() {
+        if (pool != null) {
+            pool.close();
         }
     }
 }
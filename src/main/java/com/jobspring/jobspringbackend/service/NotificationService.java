@@ -0,0 +1,194 @@
+package com.jobspring.jobspringbackend.service;
+
+import com.jobspring.jobspringbackend.dto.NotificationDTO;
+import com.jobspring.jobspringbackend.entity.Notification;
+import com.jobspring.jobspringbackend.entity.NotificationType;
+import com.jobspring.jobspringbackend.repository.NotificationRepository;
+import com.jobspring.jobspringbackend.repository.NotificationTypeRepository;
+import com.jobspring.jobspringbackend.repository.UserRepository;
+import com.jobspring.jobspringbackend.repository.projection.NotificationView;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 站内通知。未读数按用户缓存在内存里：写入和标记已读在事务提交后增减，
+ * 超过 app.notification.reconcile-seconds 的缓存值下次读取时从数据库重新统计。
+ */
+@Service
+public class NotificationService {
+
+    public static final String APPLICATION_SUBMITTED = "APPLICATION_SUBMITTED";
+    public static final String APPLICATION_STATUS = "APPLICATION_STATUS";
+    public static final String REVIEW_APPROVED = "REVIEW_APPROVED";
+    public static final String REVIEW_REJECTED = "REVIEW_REJECTED";
+
+    private static final Map<String, String> TITLES = Map.of(
+            APPLICATION_SUBMITTED, "New application",
+            APPLICATION_STATUS, "Application status updated",
+            REVIEW_APPROVED, "Review approved",
+            REVIEW_REJECTED, "Review rejected"
+    );
+
+    private final NotificationRepository notificationRepository;
+    private final NotificationTypeRepository typeRepository;
+    private final UserRepository userRepository;
+    private final long reconcileMs;
+    private final LongSupplier clock;
+
+    private final Map<Long, Counter> unread = new ConcurrentHashMap<>();
+    private final Set<String> knownTypes = ConcurrentHashMap.newKeySet();
+
+    private record Counter(AtomicLong value, long loadedAt) {
+    }
+
+    @Autowired
+    public NotificationService(NotificationRepository notificationRepository,
+                               NotificationTypeRepository typeRepository,
+                               UserRepository userRepository,
+                               @Value("${app.notification.reconcile-seconds:300}") long reconcileSeconds) {
+        this(notificationRepository, typeRepository, userRepository, reconcileSeconds, System::currentTimeMillis);
+    }
+
+    NotificationService(NotificationRepository notificationRepository, NotificationTypeRepository typeRepository,
+                        UserRepository userRepository, long reconcileSeconds, LongSupplier clock) {
+        this.notificationRepository = notificationRepository;
+        this.typeRepository = typeRepository;
+        this.userRepository = userRepository;
+        this.reconcileMs = reconcileSeconds * 1000L;
+        this.clock = clock;
+    }
+
+    // 一条通知的接收人和关联的业务对象
+    public record Recipient(Long userId, Long refId) {
+    }
+
+    @Transactional
+    public void create(Collection<Long> userIds, String type, Long refId, String message) {
+        createEach(userIds.stream().map(id -> new Recipient(id, refId)).toList(), type, message);
+    }
+
+    /**
+     * 同一类型、同一内容的通知批量写入，每个接收人可以关联不同的业务对象。
+     */
+    @Transactional
+    public void createEach(List<Recipient> recipients, String type, String message) {
+        if (recipients.isEmpty()) {
+            return;
+        }
+        NotificationType typeRef = ensureType(type);
+        LocalDateTime now = LocalDateTime.now();
+        List<Notification> rows = new ArrayList<>(recipients.size());
+        for (Recipient r : recipients) {
+            Notification n = new Notification();
+            n.setUser(userRepository.getReferenceById(r.userId()));
+            n.setNotificationType(typeRef);
+            n.setRefId(r.refId());
+            n.setMessage(message);
+            n.setIsRead(false);
+            n.setCreatedAt(now);
+            rows.add(n);
+        }
+        notificationRepository.saveAll(rows);
+
+        List<Long> userIds = recipients.stream().map(Recipient::userId).toList();
+        afterCommit(() -> userIds.forEach(id -> adjust(id, 1)));
+    }
+
+    @Transactional(readOnly = true)
+    public Page<NotificationDTO> inbox(Long userId, Pageable pageable) {
+        return notificationRepository.findInbox(userId, pageable).map(this::toDto);
+    }
+
+    public long unreadCount(Long userId) {
+        long now = clock.getAsLong();
+        Counter c = unread.get(userId);
+        if (c == null || now - c.loadedAt() >= reconcileMs) {
+            // 在 compute 里重新统计：同一用户的 adjust 会等统计完成后加到新计数上，不会落在被替换的旧计数里
+            c = unread.compute(userId, (id, old) -> old != null && now - old.loadedAt() < reconcileMs ? old
+                    : new Counter(new AtomicLong(notificationRepository.countByUserIdAndIsReadFalse(id)), now));
+        }
+        return Math.max(c.value().get(), 0L);
+    }
+
+    @Transactional
+    public int markRead(Long userId, Collection<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return 0;
+        }
+        int updated = notificationRepository.markRead(userId, ids);
+        afterCommit(() -> adjust(userId, -updated));
+        return updated;
+    }
+
+    @Transactional
+    public int markAllRead(Long userId) {
+        int updated = notificationRepository.markAllRead(userId);
+        afterCommit(() -> unread.put(userId, new Counter(new AtomicLong(0L), clock.getAsLong())));
+        return updated;
+    }
+
+    // 到了对账时间的条目直接丢弃，下次读取重新统计
+    @Scheduled(fixedDelayString = "${app.notification.evict-ms:60000}")
+    public void evictStale() {
+        long now = clock.getAsLong();
+        unread.values().removeIf(c -> now - c.loadedAt() >= reconcileMs);
+    }
+
+    private void adjust(Long userId, long delta) {
+        unread.computeIfPresent(userId, (id, c) -> {
+            c.value().addAndGet(delta);
+            return c;
+        });
+    }
+
+    // 首次使用某类型时插入（已存在则忽略），提交后才记为已知，回滚时下次仍会补插
+    private NotificationType ensureType(String type) {
+        if (!knownTypes.contains(type)) {
+            typeRepository.insertIfAbsent(type, TITLES.getOrDefault(type, type));
+            afterCommit(() -> knownTypes.add(type));
+        }
+        return typeRepository.getReferenceById(type);
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private NotificationDTO toDto(NotificationView v) {
+        NotificationDTO dto = new NotificationDTO();
+        dto.setId(v.getId());
+        dto.setType(v.getType());
+        dto.setTitle(v.getTitle());
+        dto.setMessage(v.getMessage());
+        dto.setRefId(v.getRefId());
+        dto.setRead(v.getIsRead());
+        dto.setCreatedAt(v.getCreatedAt());
+        return dto;
+    }
+}
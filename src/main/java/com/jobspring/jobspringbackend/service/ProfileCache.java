@@ -0,0 +1,26 @@
+package com.jobspring.jobspringbackend.service;
+
+import com.jobspring.jobspringbackend.dto.ProfileResponseDTO;
+import com.jobspring.jobspringbackend.events.ProfileUpdatedEvent;
+import com.jobspring.jobspringbackend.util.VersionedLruCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 按用户缓存完整简历响应，LRU 淘汰，容量由 app.cache.profiles.max-entries 控制。
+ * 读取方在查库前先取版本，写回时版本已变则丢弃（见 {@link VersionedLruCache}）；更新提交后写入失效标记。
+ */
+@Component
+public class ProfileCache extends VersionedLruCache<Long, ProfileResponseDTO> {
+
+    public ProfileCache(@Value("${app.cache.profiles.max-entries:10000}") int maxEntries) {
+        super(maxEntries);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void on(ProfileUpdatedEvent e) {
+        invalidate(e.userId());
+    }
+}
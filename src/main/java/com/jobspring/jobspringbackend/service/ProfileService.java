@@ -3,8 +3,11 @@ package com.jobspring.jobspringbackend.service;
 
 import com.jobspring.jobspringbackend.dto.*;
 import com.jobspring.jobspringbackend.entity.*;
+import com.jobspring.jobspringbackend.events.ProfileUpdatedEvent;
 import com.jobspring.jobspringbackend.repository.*;
+import com.jobspring.jobspringbackend.repository.projection.UserSkillView;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -12,7 +15,9 @@ import org.springframework.web.server.ResponseStatusException;
 
 import java.math.BigDecimal;
 import java.sql.Date;
+import java.time.LocalDate;
 import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -36,16 +41,30 @@ public class ProfileService {
     @Autowired
     private UserRepository userRepository;
 
-    public ProfileResponseDTO getCompleteProfile(Long userId) {
-        Profile profile = profileRepository.findByUserId(userId).orElseThrow(() -> new RuntimeException("Profile not found"));
+    @Autowired
+    private ProfileBatchRepository profileBatchRepository;
+
+    @Autowired
+    private ProfileCache profileCache;
 
-        List<ProfileEducation> educations = educationRepository.findByProfileId(profile.getId());
+    @Autowired
+    private ApplicationEventPublisher publisher;
+
+    // 缓存未命中时两条查询：简历连同教育/工作经历一条，技能一条；命中时不占用连接
+    public ProfileResponseDTO getCompleteProfile(Long userId) {
+        ProfileResponseDTO cached = profileCache.get(userId);
+        if (cached != null) {
+            return cached;
+        }
+        long version = profileCache.version(userId);
 
-        List<ProfileExperience> experiences = experienceRepository.findByProfileId(profile.getId());
+        Profile profile = profileRepository.findAggregateByUserId(userId).orElseThrow(() -> new RuntimeException("Profile not found"));
 
-        List<UserSkill> skills = userSkillRepository.findByUserId(userId);
+        List<UserSkillView> skills = userSkillRepository.findViewsByUserId(userId);
 
-        return convertToResponseDTO(profile, educations, experiences, skills);
+        ProfileResponseDTO response = convertToResponseDTO(profile, profile.getEducations(), profile.getExperiences(), skills);
+        profileCache.put(userId, version, response);
+        return response;
     }
 
     @Transactional
@@ -55,13 +74,14 @@ public class ProfileService {
             User user = userRepository.findById(userId).orElseThrow(() -> new RuntimeException("User not found: " + userId));
 
             Profile profile = handleProfile(user, request.getProfile());
+            // 新建时 IDENTITY 主键会立即 insert，子表插入前已拿到 id
             Profile savedProfile = profileRepository.save(profile);
 
-            profileRepository.flush();
-
             handleEducations(savedProfile, request.getEducation());
             handleExperiences(savedProfile, request.getExperience());
-            handleSkills(userId, request.getSkills());
+            handleSkills(user, request.getSkills());
+
+            publisher.publishEvent(new ProfileUpdatedEvent(userId));
 
             return new ProfileUpdateResponseDTO("success", "Profile updated successfully", savedProfile.getId());
 
@@ -70,7 +90,7 @@ public class ProfileService {
         }
     }
 
-    private ProfileResponseDTO convertToResponseDTO(Profile profile, List<ProfileEducation> educations, List<ProfileExperience> experiences, List<UserSkill> skills) {
+    private ProfileResponseDTO convertToResponseDTO(Profile profile, Collection<ProfileEducation> educations, Collection<ProfileExperience> experiences, List<UserSkillView> skills) {
         ProfileResponseDTO response = new ProfileResponseDTO();
 
         ProfileDTO profileDTO = new ProfileDTO();
@@ -111,10 +131,10 @@ public class ProfileService {
         return dto;
     }
 
-    private UserSkillDTO convertToUserSkillDTO(UserSkill userSkill) {
+    private UserSkillDTO convertToUserSkillDTO(UserSkillView userSkill) {
         UserSkillDTO dto = new UserSkillDTO();
-        dto.setSkillId(userSkill.getSkill() != null ? userSkill.getSkill().getId() : null);
-        dto.setSkillName(userSkill.getSkill() != null ? userSkill.getSkill().getName() : null);
+        dto.setSkillId(userSkill.getSkillId());
+        dto.setSkillName(userSkill.getSkillName());
         dto.setLevel(userSkill.getLevel());
         dto.setYears(userSkill.getYears().doubleValue());
         return dto;
@@ -134,50 +154,89 @@ public class ProfileService {
         return profile;
     }
 
+    // 教育/工作经历没有稳定的业务主键，按位置比对：内容相同的跳过，不同的原地更新（由 Hibernate 批量 update），
+    // 多出的旧行一次删除，新增的行走 JDBC 批量插入
     private void handleEducations(Profile profile, List<EducationDTO> educationDTOs) {
         if (educationDTOs == null) return;
 
-        Profile savedProfile = profileRepository.save(profile);
-
-        educationRepository.deleteByProfileId(savedProfile.getId());
-
-        for (EducationDTO dto : educationDTOs) {
-            ProfileEducation education = new ProfileEducation();
-            education.setProfile(savedProfile);
+        List<ProfileEducation> existing = educationRepository.findByProfileIdOrderByIdAsc(profile.getId());
+        List<ProfileEducation> inserts = new ArrayList<>();
+
+        for (int i = 0; i < educationDTOs.size(); i++) {
+            EducationDTO dto = educationDTOs.get(i);
+            ProfileEducation education = i < existing.size() ? existing.get(i) : new ProfileEducation();
+            LocalDate startDate = Date.valueOf(dto.getStartDate()).toLocalDate();
+            LocalDate endDate = Date.valueOf(dto.getEndDate()).toLocalDate();
+            BigDecimal gpa = dto.getGpa() != null ? BigDecimal.valueOf(dto.getGpa()) : null;
+
+            if (education.getId() != null
+                    && Objects.equals(education.getSchool(), dto.getSchool())
+                    && Objects.equals(education.getDegree(), dto.getDegree())
+                    && Objects.equals(education.getMajor(), dto.getMajor())
+                    && Objects.equals(education.getStartDate(), startDate)
+                    && Objects.equals(education.getEndDate(), endDate)
+                    && sameDecimal(education.getGpa(), gpa)
+                    && Objects.equals(education.getDescription(), dto.getDescription())) {
+                continue;
+            }
             education.setSchool(dto.getSchool());
             education.setDegree(dto.getDegree());
             education.setMajor(dto.getMajor());
-            education.setStartDate(Date.valueOf(dto.getStartDate()).toLocalDate());
-            education.setEndDate(Date.valueOf(dto.getEndDate()).toLocalDate());
-            education.setGpa(dto.getGpa() != null ? BigDecimal.valueOf(dto.getGpa()) : null);
+            education.setStartDate(startDate);
+            education.setEndDate(endDate);
+            education.setGpa(gpa);
             education.setDescription(dto.getDescription());
+            if (education.getId() == null) {
+                inserts.add(education);
+            }
+        }
 
-            educationRepository.save(education);
+        if (existing.size() > educationDTOs.size()) {
+            educationRepository.deleteAllByIdInBatch(ids(existing.subList(educationDTOs.size(), existing.size()), ProfileEducation::getId));
         }
+        profileBatchRepository.insertEducations(profile.getId(), inserts);
     }
 
     private void handleExperiences(Profile profile, List<ExperienceDTO> experienceDTOs) {
         if (experienceDTOs == null) return;
 
-        Profile savedProfile = profileRepository.save(profile);
-
-        experienceRepository.deleteByProfileId(savedProfile.getId());
-
-        for (ExperienceDTO dto : experienceDTOs) {
-            ProfileExperience experience = new ProfileExperience();
-            experience.setProfile(savedProfile);
+        List<ProfileExperience> existing = experienceRepository.findByProfileIdOrderByIdAsc(profile.getId());
+        List<ProfileExperience> inserts = new ArrayList<>();
+
+        for (int i = 0; i < experienceDTOs.size(); i++) {
+            ExperienceDTO dto = experienceDTOs.get(i);
+            ProfileExperience experience = i < existing.size() ? existing.get(i) : new ProfileExperience();
+            LocalDate startDate = Date.valueOf(dto.getStartDate()).toLocalDate();
+            LocalDate endDate = dto.getEndDate() != null ? Date.valueOf(dto.getEndDate()).toLocalDate() : null;
+
+            if (experience.getId() != null
+                    && Objects.equals(experience.getCompany(), dto.getCompany())
+                    && Objects.equals(experience.getTitle(), dto.getTitle())
+                    && Objects.equals(experience.getStartDate(), startDate)
+                    && Objects.equals(experience.getEndDate(), endDate)
+                    && Objects.equals(experience.getDescription(), dto.getDescription())
+                    && Objects.equals(experience.getAchievements(), dto.getAchievements())) {
+                continue;
+            }
             experience.setCompany(dto.getCompany());
             experience.setTitle(dto.getTitle());
-            experience.setStartDate(Date.valueOf(dto.getStartDate()).toLocalDate());
-            experience.setEndDate(dto.getEndDate() != null ? Date.valueOf(dto.getEndDate()).toLocalDate() : null);
+            experience.setStartDate(startDate);
+            experience.setEndDate(endDate);
             experience.setDescription(dto.getDescription());
             experience.setAchievements(dto.getAchievements());
+            if (experience.getId() == null) {
+                inserts.add(experience);
+            }
+        }
 
-            experienceRepository.save(experience);
+        if (existing.size() > experienceDTOs.size()) {
+            experienceRepository.deleteAllByIdInBatch(ids(existing.subList(experienceDTOs.size(), existing.size()), ProfileExperience::getId));
         }
+        profileBatchRepository.insertExperiences(profile.getId(), inserts);
     }
 
-    private void handleSkills(Long userId, List<UserSkillDTO> skillDTOs) {
+    // 技能按 skillId 比对：level/years 有变化才更新，请求中没有的删除，新增的批量插入
+    private void handleSkills(User user, List<UserSkillDTO> skillDTOs) {
         if (skillDTOs == null) return;
         if (skillDTOs.isEmpty()) {
             return;
@@ -198,19 +257,40 @@ public class ProfileService {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unknown skill_id(s): " + missing);
         }
 
-        userSkillRepository.deleteByUserId(userId);
-
-        User user = userRepository.findById(userId).orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "User not found: " + userId));
+        Map<Long, UserSkill> existing = new HashMap<>();
+        for (UserSkill us : userSkillRepository.findWithSkillByUserId(user.getId())) {
+            existing.put(us.getSkill().getId(), us);
+        }
 
+        List<UserSkill> inserts = new ArrayList<>();
         for (UserSkillDTO dto : deduped) {
-            Skill skill = skillMap.get(dto.getSkillId());
-            UserSkill us = new UserSkill();
-            us.setUser(user);
-            us.setSkill(skill);
+            BigDecimal years = BigDecimal.valueOf(dto.getYears());
+            UserSkill us = existing.remove(dto.getSkillId());
+            if (us == null) {
+                us = new UserSkill();
+                us.setUser(user);
+                us.setSkill(skillMap.get(dto.getSkillId()));
+                inserts.add(us);
+            } else if (Objects.equals(us.getLevel(), dto.getLevel()) && sameDecimal(us.getYears(), years)) {
+                continue;
+            }
             us.setLevel(dto.getLevel());
-            us.setYears(BigDecimal.valueOf(dto.getYears()));
-            userSkillRepository.save(us);
+            us.setYears(years);
+        }
+
+        if (!existing.isEmpty()) {
+            userSkillRepository.deleteAllByIdInBatch(ids(existing.values(), UserSkill::getId));
         }
+        profileBatchRepository.insertUserSkills(user.getId(), inserts);
+    }
+
+    // 数据库读回的小数带固定 scale，按数值比较
+    private static boolean sameDecimal(BigDecimal a, BigDecimal b) {
+        return a == null ? b == null : b != null && a.compareTo(b) == 0;
+    }
+
+    private static <T> List<Long> ids(Collection<T> rows, Function<T, Long> id) {
+        return rows.stream().map(id).toList();
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,186 @@
+package com.jobspring.jobspringbackend.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 按用户维护 SSE 连接。连接走 Servlet 异步，空闲时不占线程；
+ * 推送和心跳在虚拟线程上写出，慢连接不会拖住发布事件的线程。
+ * 每条连接有自己的有界发送队列，同一时刻最多一个任务在写，保证事件按发布顺序到达；
+ * 队列写满说明客户端读得太慢，直接断开，由前端重连后重新拉取。
+ */
+@Slf4j
+@Service
+public class PushService implements DisposableBean {
+
+    public static final String APPLICATION_SUBMITTED = "application.submitted";
+    public static final String APPLICATION_STATUS = "application.status";
+    public static final String APPLICATION_STATUS_BATCH = "application.status.batch";
+    public static final String APPLICATIONS_INVALIDATED = "applications.invalidated";
+
+    private final long timeoutMs;
+    private final int maxPerUser;
+    private final int bufferSize;
+    private final Executor sender;
+    private final Map<Long, Deque<Connection>> subscribers = new ConcurrentHashMap<>();
+
+    @Autowired
+    public PushService(@Value("${app.push.timeout-minutes:30}") long timeoutMinutes,
+                       @Value("${app.push.max-per-user:5}") int maxPerUser,
+                       @Value("${app.push.buffer-size:64}") int bufferSize) {
+        this(timeoutMinutes * 60_000L, maxPerUser, bufferSize,
+                Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("sse-", 0).factory()));
+    }
+
+    PushService(long timeoutMs, int maxPerUser, int bufferSize, Executor sender) {
+        this.timeoutMs = timeoutMs;
+        this.maxPerUser = maxPerUser;
+        this.bufferSize = bufferSize;
+        this.sender = sender;
+    }
+
+    private final class Connection {
+        final Long userId;
+        final SseEmitter emitter;
+        final LinkedBlockingQueue<SseEmitter.SseEventBuilder> pending = new LinkedBlockingQueue<>(bufferSize);
+        final AtomicBoolean draining = new AtomicBoolean();
+
+        Connection(Long userId, SseEmitter emitter) {
+            this.userId = userId;
+            this.emitter = emitter;
+        }
+
+        void enqueue(SseEmitter.SseEventBuilder event) {
+            if (!pending.offer(event)) {
+                log.debug("SSE buffer of user {} is full, dropping connection", userId);
+                close();
+                return;
+            }
+            schedule();
+        }
+
+        private void schedule() {
+            if (draining.compareAndSet(false, true)) {
+                sender.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                SseEmitter.SseEventBuilder event;
+                while ((event = pending.poll()) != null) {
+                    if (!send(event)) {
+                        pending.clear();
+                        return;
+                    }
+                }
+            } finally {
+                draining.set(false);
+            }
+            // 释放标记与入队之间可能有新事件进来，补一次调度
+            if (!pending.isEmpty()) {
+                schedule();
+            }
+        }
+
+        private boolean send(SseEmitter.SseEventBuilder event) {
+            try {
+                emitter.send(event);
+                return true;
+            } catch (IOException | IllegalStateException e) {
+                // 客户端已断开或连接已结束
+                remove(userId, emitter);
+                log.debug("Dropped SSE connection of user {}: {}", userId, e.getMessage());
+                return false;
+            }
+        }
+
+        void close() {
+            remove(userId, emitter);
+            pending.clear();
+            emitter.complete();
+        }
+    }
+
+    /**
+     * 为用户打开一条连接；同一用户超过上限时关闭最早的连接（通常是已关掉的旧标签页）。
+     */
+    public SseEmitter subscribe(Long userId) {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        emitter.onCompletion(() -> remove(userId, emitter));
+        emitter.onTimeout(() -> remove(userId, emitter));
+        emitter.onError(e -> remove(userId, emitter));
+
+        List<Connection> evicted = new ArrayList<>();
+        subscribers.compute(userId, (k, q) -> {
+            if (q == null) {
+                q = new ConcurrentLinkedDeque<>();
+            }
+            q.addLast(new Connection(userId, emitter));
+            while (q.size() > maxPerUser) {
+                evicted.add(q.pollFirst());
+            }
+            return q;
+        });
+        evicted.forEach(Connection::close);
+        return emitter;
+    }
+
+    public void push(Collection<Long> userIds, String event, Object data) {
+        for (Long userId : userIds) {
+            Deque<Connection> q = subscribers.get(userId);
+            if (q == null) {
+                continue;
+            }
+            for (Connection c : q) {
+                c.enqueue(SseEmitter.event().name(event).data(data, MediaType.APPLICATION_JSON));
+            }
+        }
+    }
+
+    // 代理和负载均衡通常会切断长时间无数据的连接，定期写一行注释保活
+    @Scheduled(fixedDelayString = "${app.push.heartbeat-ms:25000}")
+    public void heartbeat() {
+        subscribers.values().forEach(q -> q.forEach(c -> c.enqueue(SseEmitter.event().comment("ping"))));
+    }
+
+    public int connectionCount() {
+        return subscribers.values().stream().mapToInt(Deque::size).sum();
+    }
+
+    private void remove(Long userId, SseEmitter emitter) {
+        subscribers.computeIfPresent(userId, (k, q) -> {
+            q.removeIf(c -> c.emitter == emitter);
+            return q.isEmpty() ? null : q;
+        });
+    }
+
+    @Override
+    public void destroy() {
+        subscribers.values().forEach(q -> q.forEach(c -> c.emitter.complete()));
+        subscribers.clear();
+        if (sender instanceof ExecutorService es) {
+            es.shutdown();
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.jobspring.jobspringbackend.service;
+
+import com.jobspring.jobspringbackend.dto.JobDTO;
+import com.jobspring.jobspringbackend.dto.JobRecommendation;
+import com.jobspring.jobspringbackend.events.ProfileUpdatedEvent;
+import com.jobspring.jobspringbackend.recommend.SkillMatchIndex;
+import com.jobspring.jobspringbackend.recommend.UserVector;
+import com.jobspring.jobspringbackend.repository.UserSkillRepository;
+import com.jobspring.jobspringbackend.util.VersionedLruCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * “为你推荐”：按候选人技能向量在内存索引中取匹配度最高的在线职位。
+ * 用户向量按 LRU 缓存（app.cache.user-vectors.max-entries），与简历缓存相同按版本写回，简历更新提交后失效。
+ */
+@Service
+public class RecommendationService {
+
+    private static final int MAX_SIZE = 50;
+    private static final int OVERFETCH = 5;  // 索引与数据库之间可能有刚下线的职位，多取几条补位
+
+    private final SkillMatchIndex index;
+    private final UserSkillRepository userSkillRepository;
+    private final JobService jobService;
+    private final VersionedLruCache<Long, UserVector> vectors;
+
+    public RecommendationService(SkillMatchIndex index, UserSkillRepository userSkillRepository, JobService jobService,
+                                 @Value("${app.cache.user-vectors.max-entries:10000}") int maxEntries) {
+        this.index = index;
+        this.userSkillRepository = userSkillRepository;
+        this.jobService = jobService;
+        this.vectors = new VersionedLruCache<>(maxEntries);
+    }
+
+    // 索引未就绪或候选人没有填写技能时返回空列表
+    public List<JobRecommendation> recommend(Long userId, int size) {
+        int limit = Math.min(Math.max(size, 1), MAX_SIZE);
+        if (!index.isReady()) {
+            return List.of();
+        }
+        UserVector user = vectorFor(userId);
+        if (user.isEmpty()) {
+            return List.of();
+        }
+
+        List<SkillMatchIndex.Match> matches = index.recommend(user, limit + OVERFETCH);
+        if (matches.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Float> scores = matches.stream().collect(Collectors.toMap(SkillMatchIndex.Match::jobId, SkillMatchIndex.Match::score));
+        List<JobDTO> jobs = jobService.getJobSeekerJobsByIds(matches.stream().map(SkillMatchIndex.Match::jobId).toList());
+        return jobs.stream()
+                .limit(limit)
+                .map(j -> new JobRecommendation(j, scores.get(j.getId())))
+                .toList();
+    }
+
+    private UserVector vectorFor(Long userId) {
+        UserVector cached = vectors.get(userId);
+        if (cached != null) {
+            return cached;
+        }
+        // 先取版本再查库，查库期间简历被更新则不写回
+        long version = vectors.version(userId);
+        UserVector loaded = UserVector.of(userSkillRepository.findViewsByUserId(userId));
+        vectors.put(userId, version, loaded);
+        return loaded;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void on(ProfileUpdatedEvent e) {
+        vectors.invalidate(e.userId());
+    }
+}
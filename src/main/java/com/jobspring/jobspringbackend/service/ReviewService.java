@@ -1,25 +1,39 @@
 package com.jobspring.jobspringbackend.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobspring.jobspringbackend.dto.CursorPage;
 import com.jobspring.jobspringbackend.dto.JobSeekerReviewDTO;
 import com.jobspring.jobspringbackend.dto.ReviewDTO;
+import com.jobspring.jobspringbackend.dto.ReviewExportRow;
 import com.jobspring.jobspringbackend.entity.Application;
 import com.jobspring.jobspringbackend.entity.Review;
 import com.jobspring.jobspringbackend.entity.User;
+import com.jobspring.jobspringbackend.events.ReviewModeratedEvent;
 import com.jobspring.jobspringbackend.exception.BizException;
 import com.jobspring.jobspringbackend.exception.ErrorCode;
 import com.jobspring.jobspringbackend.repository.ApplicationRepository;
 import com.jobspring.jobspringbackend.repository.ReviewRepository;
 import com.jobspring.jobspringbackend.repository.UserRepository;
+import com.jobspring.jobspringbackend.repository.projection.ReviewExportView;
+import com.jobspring.jobspringbackend.repository.projection.ReviewQueueView;
+import com.jobspring.jobspringbackend.util.KeysetCursor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDateTime;
 import java.util.Base64;
+import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Service
 public class ReviewService {
@@ -33,11 +47,61 @@ public class ReviewService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private ApplicationEventPublisher publisher;
+
+    @Autowired
+    private CompanyRatingService companyRatingService;
 
-    public List<Review> getAllReviews() {
-        return reviewRepository.findAll();
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private static final int EXPORT_FLUSH_EVERY = 500;
+
+    // 审核队列，先提交的在前；列表行不带 content / imageUrl，详情走 getReviewById
+    @Transactional(readOnly = true)
+    public CursorPage<ReviewDTO> listReviewQueue(Integer status, String cursor, int size) {
+        Pageable limit = PageRequest.of(0, Math.max(1, size));
+        Slice<ReviewQueueView> slice;
+        if (cursor == null || cursor.isBlank()) {
+            slice = reviewRepository.findQueueFirst(status, limit);
+        } else {
+            KeysetCursor c = KeysetCursor.decode(cursor);
+            slice = reviewRepository.findQueueAfter(status, c.postedAt(), c.id(), limit);
+        }
+        List<ReviewQueueView> rows = slice.getContent();
+        String next = null;
+        if (slice.hasNext() && !rows.isEmpty()) {
+            ReviewQueueView last = rows.get(rows.size() - 1);
+            next = new KeysetCursor(last.getSubmittedAt(), last.getId()).encode();
+        }
+        return new CursorPage<>(rows.stream().map(this::toDto).toList(), next, next != null);
     }
 
+    /**
+     * 逐行写出 NDJSON，结果集以流的方式读取，内存占用与评价总数无关。
+     */
+    @Transactional(readOnly = true)
+    public long exportReviews(Integer status, OutputStream out) throws IOException {
+        long written = 0;
+        try (Stream<ReviewExportView> rows = reviewRepository.streamForExport(status)) {
+            Iterator<ReviewExportView> it = rows.iterator();
+            while (it.hasNext()) {
+                ReviewExportView v = it.next();
+                out.write(objectMapper.writeValueAsBytes(new ReviewExportRow(v.getId(), v.getApplicationId(), v.getCompanyId(),
+                        v.getTitle(), v.getContent(), v.getRating(), v.getStatus(), v.getSubmittedAt(),
+                        v.getReviewedById(), v.getReviewNote(), v.getPublicAt())));
+                out.write('\n');
+                if (++written % EXPORT_FLUSH_EVERY == 0) {
+                    out.flush();
+                }
+            }
+        }
+        out.flush();
+        return written;
+    }
+
+    @Transactional(readOnly = true)
     public ReviewDTO getReviewById(Long id) {
         Review review = reviewRepository.findById(id).orElseThrow(() -> new BizException(ErrorCode.NOT_FOUND, "Review not found"));
         return toDto(review);
@@ -82,6 +146,8 @@ public class ReviewService {
         review.setPublicAt(LocalDateTime.now());
 
         Review saved = reviewRepository.save(review);
+        companyRatingService.recordApproved(saved);
+        publisher.publishEvent(new ReviewModeratedEvent(saved.getId(), saved.getApplication().getUser().getId(), saved.getTitle(), true));
 
         return toDto(saved);
     }
@@ -102,10 +168,25 @@ public class ReviewService {
         review.setPublicAt(LocalDateTime.now());
 
         Review saved = reviewRepository.save(review);
+        publisher.publishEvent(new ReviewModeratedEvent(saved.getId(), saved.getApplication().getUser().getId(), saved.getTitle(), false));
 
         return toDto(saved);
     }
 
+    private ReviewDTO toDto(ReviewQueueView v) {
+        ReviewDTO dto = new ReviewDTO();
+        dto.setId(v.getId());
+        dto.setApplicationId(v.getApplicationId());
+        dto.setTitle(v.getTitle());
+        dto.setRating(v.getRating());
+        dto.setStatus(v.getStatus());
+        dto.setSubmittedAt(v.getSubmittedAt());
+        dto.setReviewedById(v.getReviewedById());
+        dto.setReviewNote(v.getReviewNote());
+        dto.setPublicAt(v.getPublicAt());
+        return dto;
+    }
+
     public ReviewDTO toDto(Review review) {
         ReviewDTO dto = new ReviewDTO();
         dto.setId(review.getId());
@@ -0,0 +1,72 @@
+package com.jobspring.jobspringbackend.service;
+
+import jakarta.mail.MessagingException;
+import jakarta.mail.Transport;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.util.concurrent.LinkedBlockingDeque;
+
+/**
+ * 已认证 SMTP 连接的复用池，避免每封邮件都重新握手 STARTTLS 和登录。
+ * 借出时优先取最近归还的连接，空闲超时的直接关闭；不发 NOOP 探活，连接被服务端断开时由 MailService 换新连接重试一次。
+ * 并发连接数由 MailDispatcher 的信号量控制，这里只限制保留的空闲连接数。
+ */
+class SmtpConnectionPool implements AutoCloseable {
+
+    private record Idle(Transport transport, long since) {
+    }
+
+    private final JavaMailSenderImpl sender;
+    private final LinkedBlockingDeque<Idle> idle;
+    private final long maxIdleMs;
+
+    SmtpConnectionPool(JavaMailSenderImpl sender, int maxIdle, long maxIdleMs) {
+        this.sender = sender;
+        this.idle = new LinkedBlockingDeque<>(Math.max(maxIdle, 1));
+        this.maxIdleMs = maxIdleMs;
+    }
+
+    Transport borrow() throws MessagingException {
+        long now = System.currentTimeMillis();
+        Idle i;
+        while ((i = idle.pollFirst()) != null) {
+            if (now - i.since() < maxIdleMs) {
+                return i.transport();
+            }
+            closeQuietly(i.transport());
+        }
+        Transport t = sender.getSession().getTransport(sender.getProtocol() != null ? sender.getProtocol() : "smtp");
+        t.connect(sender.getHost(), sender.getPort(), sender.getUsername(), sender.getPassword());
+        return t;
+    }
+
+    void release(Transport t) {
+        if (!idle.offerFirst(new Idle(t, System.currentTimeMillis()))) {
+            closeQuietly(t);
+        }
+    }
+
+    void discard(Transport t) {
+        closeQuietly(t);
+    }
+
+    int idleCount() {
+        return idle.size();
+    }
+
+    @Override
+    public void close() {
+        Idle i;
+        while ((i = idle.pollFirst()) != null) {
+            closeQuietly(i.transport());
+        }
+    }
+
+    private static void closeQuietly(Transport t) {
+        try {
+            t.close();
+        } catch (MessagingException ignored) {
+            // 连接已断开，无需处理
+        }
+    }
+}
@@ -19,7 +19,7 @@ public class VerificationService {
     public static final String PURPOSE_REGISTER = "REGISTER";
 
     private final EmailVerificationCodeRepository repo;
-    private final MailService mail;
+    private final MailOutboxService mailOutbox;
 
     @Value("${security.verification.expMinutes:10}")
     private int expMinutes;
@@ -33,9 +33,9 @@ public class VerificationService {
     @Value("${security.verification.maxAttempts:5}")
     private int maxAttempts;
 
-    public VerificationService(EmailVerificationCodeRepository repo, MailService mail) {
+    public VerificationService(EmailVerificationCodeRepository repo, MailOutboxService mailOutbox) {
         this.repo = repo;
-        this.mail = mail;
+        this.mailOutbox = mailOutbox;
     }
 
     @Transactional
@@ -67,7 +67,8 @@ public class VerificationService {
         evc.setVerifiedAt(null);
         repo.save(evc);
 
-        mail.sendPlainText(email, "Your JobSpring verification code", "Your verification code is: " + code + "\nIt expires in " + expMinutes + " minutes.");
+        // 与验证码同一事务写入发件箱，事务内不再等待 SMTP
+        mailOutbox.enqueue(email, "Your JobSpring verification code", "Your verification code is: " + code + "\nIt expires in " + expMinutes + " minutes.");
     }
 
     @Transactional
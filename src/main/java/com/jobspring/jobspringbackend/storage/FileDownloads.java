@@ -0,0 +1,145 @@
+package com.jobspring.jobspringbackend.storage;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 按内容哈希提供文件下载：强 ETag、If-None-Match 304、单段 Range 206，
+ * 正文优先交给 Tomcat sendfile，否则用 FileChannel.transferTo 写出，不经过堆内缓冲。
+ */
+public final class FileDownloads {
+
+    // 内容寻址，同一个 URL 的内容不会变
+    public static final String CACHE_PRIVATE = "private, max-age=31536000, immutable";
+    public static final String CACHE_PUBLIC = "public, max-age=31536000, immutable";
+
+    private static final Pattern SINGLE_RANGE = Pattern.compile("bytes=(\\d*)-(\\d*)");
+    private static final long SENDFILE_MIN_BYTES = 48 * 1024;
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private record Span(long start, long end) {
+    }
+
+    private static final Span UNSATISFIABLE = new Span(-1, -1);
+
+    private FileDownloads() {
+    }
+
+    public static void serve(HttpServletRequest req, HttpServletResponse resp, StoredFile file, String cacheControl) throws IOException {
+        long size = Files.size(file.path());
+        String etag = "\"" + file.sha256() + "\"";
+        resp.setHeader(HttpHeaders.ETAG, etag);
+        resp.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+        resp.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+        if (etagMatches(req.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            resp.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        long start = 0;
+        long end = size - 1;
+        String range = req.getHeader(HttpHeaders.RANGE);
+        String ifRange = req.getHeader(HttpHeaders.IF_RANGE);
+        // If-Range 不匹配时按 RFC 7233 返回完整内容
+        if (range != null && (ifRange == null || ifRange.equals(etag))) {
+            Span span = parseRange(range, size);
+            if (span == UNSATISFIABLE) {
+                resp.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                resp.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+                return;
+            }
+            if (span != null) {
+                start = span.start();
+                end = span.end();
+                resp.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                resp.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + size);
+            }
+        }
+
+        long length = end - start + 1;
+        resp.setContentType(file.contentType());
+        resp.setContentLengthLong(length);
+        if (HttpMethod.HEAD.matches(req.getMethod()) || length <= 0) {
+            return;
+        }
+
+        if (Boolean.TRUE.equals(req.getAttribute(SENDFILE_SUPPORT)) && length >= SENDFILE_MIN_BYTES) {
+            req.setAttribute(SENDFILE_FILENAME, file.path().toAbsolutePath().toString());
+            req.setAttribute(SENDFILE_START, start);
+            req.setAttribute(SENDFILE_END, start + length);
+            return;
+        }
+
+        try (FileChannel ch = FileChannel.open(file.path(), StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(resp.getOutputStream());
+            long pos = start;
+            long remaining = length;
+            while (remaining > 0) {
+                long n = ch.transferTo(pos, remaining, out);
+                if (n <= 0) {
+                    break;
+                }
+                pos += n;
+                remaining -= n;
+            }
+        }
+    }
+
+    static boolean etagMatches(String header, String etag) {
+        if (header == null) {
+            return false;
+        }
+        for (String candidate : header.split(",")) {
+            String c = candidate.trim();
+            if (c.equals("*") || c.equals(etag) || c.equals("W/" + etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 只支持单段；多段或语法不认识时返回 null，按完整内容处理
+    private static Span parseRange(String header, long size) {
+        Matcher m = SINGLE_RANGE.matcher(header.trim());
+        if (!m.matches() || (m.group(1).isEmpty() && m.group(2).isEmpty())) {
+            return null;
+        }
+        try {
+            if (m.group(1).isEmpty()) {
+                long suffix = Long.parseLong(m.group(2));
+                if (suffix == 0 || size == 0) {
+                    return UNSATISFIABLE;
+                }
+                return new Span(Math.max(0, size - suffix), size - 1);
+            }
+            long start = Long.parseLong(m.group(1));
+            // 显式写出的 last-pos 小于 first-pos 是无效写法，忽略 Range；起点越界才是 416
+            if (!m.group(2).isEmpty() && Long.parseLong(m.group(2)) < start) {
+                return null;
+            }
+            if (start >= size) {
+                return UNSATISFIABLE;
+            }
+            long end = m.group(2).isEmpty() ? size - 1 : Long.parseLong(m.group(2));
+            return new Span(start, Math.min(end, size - 1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
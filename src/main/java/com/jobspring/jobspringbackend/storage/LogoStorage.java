@@ -0,0 +1,92 @@
+package com.jobspring.jobspringbackend.storage;
+
+import com.jobspring.jobspringbackend.exception.BizException;
+import com.jobspring.jobspringbackend.exception.ErrorCode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * 公司 logo 存放在 app.upload.dir 下，通过 /api/files/logos/{filename} 下载。
+ * 内容哈希按 (文件大小, 修改时间) 缓存，文件被替换后会重新计算。
+ */
+@Service
+public class LogoStorage {
+
+    public static final String PUBLIC_PATH = "/api/files/logos/";
+
+    private static final Pattern SAFE_NAME = Pattern.compile("[A-Za-z0-9._-]+");
+    private static final Pattern UNSAFE_CHARS = Pattern.compile("[^A-Za-z0-9._-]");
+
+    private final Path root;
+    private final Map<String, Digest> digests = new ConcurrentHashMap<>();
+
+    private record Digest(long size, long modified, String sha256) {
+    }
+
+    public LogoStorage(@Value("${app.upload.dir:/tmp/uploads}") String uploadDir) {
+        this.root = Paths.get(uploadDir).toAbsolutePath().normalize();
+    }
+
+    public String store(MultipartFile file) throws IOException {
+        String original = file.getOriginalFilename() == null ? "logo" : Paths.get(file.getOriginalFilename()).getFileName().toString();
+        String filename = System.currentTimeMillis() + "_" + UNSAFE_CHARS.matcher(original).replaceAll("_");
+        Files.createDirectories(root);
+        try (InputStream in = file.getInputStream()) {
+            Files.copy(in, root.resolve(filename), StandardCopyOption.REPLACE_EXISTING);
+        }
+        return PUBLIC_PATH + filename;
+    }
+
+    public StoredFile open(String filename) {
+        if (filename == null || !SAFE_NAME.matcher(filename).matches() || filename.startsWith(".")) {
+            throw new BizException(ErrorCode.NOT_FOUND, "Logo not found");
+        }
+        Path path = root.resolve(filename);
+        if (!Files.isRegularFile(path)) {
+            throw new BizException(ErrorCode.NOT_FOUND, "Logo not found");
+        }
+        String contentType = MediaTypeFactory.getMediaType(filename).orElse(MediaType.APPLICATION_OCTET_STREAM).toString();
+        return new StoredFile(digestOf(filename, path), path, contentType);
+    }
+
+    private String digestOf(String filename, Path path) {
+        try {
+            long size = Files.size(path);
+            long modified = Files.getLastModifiedTime(path).toMillis();
+            Digest cached = digests.get(filename);
+            if (cached != null && cached.size() == size && cached.modified() == modified) {
+                return cached.sha256();
+            }
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            try (InputStream in = new DigestInputStream(Files.newInputStream(path), md)) {
+                in.transferTo(OutputStream.nullOutputStream());
+            }
+            String sha256 = HexFormat.of().formatHex(md.digest());
+            digests.put(filename, new Digest(size, modified, sha256));
+            return sha256;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.jobspring.jobspringbackend.storage;
+
+// 简历要么在本地存储里，要么是档案里填的外部链接
+public record ResumeDownload(StoredFile file, String redirectUrl) {
+
+    public static ResumeDownload stored(StoredFile file) {
+        return new ResumeDownload(file, null);
+    }
+
+    public static ResumeDownload redirect(String url) {
+        return new ResumeDownload(null, url);
+    }
+}
@@ -0,0 +1,100 @@
+package com.jobspring.jobspringbackend.storage;
+
+import com.jobspring.jobspringbackend.entity.Application;
+import com.jobspring.jobspringbackend.repository.ApplicationRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 把历史上以 base64 data URL 存在 applications.resume_url 里的简历搬进 {@link ResumeStorage}，
+ * 每条记录一个事务，失败的跳过并记录日志，重启后会再次尝试。
+ * 默认关闭：只有 app.resume.dir 指向持久化存储时才应开启，否则迁移后原始数据就丢了。
+ */
+@Slf4j
+@Component
+public class ResumeMigrationJob {
+
+    private static final int BATCH_SIZE = 20;   // LONGTEXT 单行可能十几 MB，批次不宜大
+
+    private final ApplicationRepository applicationRepository;
+    private final ResumeStorage resumeStorage;
+    private final TransactionTemplate tx;
+    private final boolean enabled;
+
+    public ResumeMigrationJob(ApplicationRepository applicationRepository,
+                              ResumeStorage resumeStorage,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${app.resume.migrate-on-startup:false}") boolean enabled) {
+        this.applicationRepository = applicationRepository;
+        this.resumeStorage = resumeStorage;
+        this.tx = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateOnStartup() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            int migrated = run();
+            if (migrated > 0) {
+                log.info("Migrated {} inline resumes to blob storage", migrated);
+            }
+        } catch (Exception e) {
+            log.warn("Resume migration aborted", e);
+        }
+    }
+
+    public int run() {
+        int migrated = 0;
+        long afterId = 0L;
+        while (true) {
+            List<Long> ids = applicationRepository.findInlineResumeIds(afterId, PageRequest.of(0, BATCH_SIZE));
+            if (ids.isEmpty()) {
+                return migrated;
+            }
+            for (Long id : ids) {
+                try {
+                    if (Boolean.TRUE.equals(tx.execute(status -> migrateOne(id)))) {
+                        migrated++;
+                    }
+                } catch (RuntimeException e) {
+                    log.warn("Failed to migrate resume of application {}", id, e);
+                }
+            }
+            afterId = ids.get(ids.size() - 1);
+        }
+    }
+
+    private boolean migrateOne(Long applicationId) {
+        Application app = applicationRepository.findById(applicationId).orElse(null);
+        if (app == null || !ResumeStorage.isDataUrl(app.getResumeUrl())) {
+            return false;
+        }
+        String dataUrl = app.getResumeUrl();
+        ResumeStorage.StoredResume stored = resumeStorage.storeDataUrl(dataUrl);
+        if (stored == null) {
+            log.warn("Application {} has a non-base64 data URL, skipped", applicationId);
+            return false;
+        }
+        // 读回校验通过之前保留原始 data URL，写坏了下次重启还能再迁
+        if (!resumeStorage.verify(stored)) {
+            log.warn("Stored resume of application {} failed verification, kept inline", applicationId);
+            return false;
+        }
+        app.setResumeUrl(stored.reference());
+        app.setResumeContentType(ResumeStorage.dataUrlContentType(dataUrl));
+        return true;
+    }
+}
@@ -0,0 +1,205 @@
+package com.jobspring.jobspringbackend.storage;
+
+import com.jobspring.jobspringbackend.exception.BizException;
+import com.jobspring.jobspringbackend.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.regex.Pattern;
+
+/**
+ * 简历内容寻址存储：文件按 SHA-256 命名，相同内容只落盘一次。
+ * Application.resumeUrl 只保存 "sha256:<hex>" 形式的引用。
+ */
+@Slf4j
+@Service
+public class ResumeStorage {
+
+    public static final String REF_PREFIX = "sha256:";
+
+    private static final String DATA_PREFIX = "data:";
+    private static final String BASE64_MARKER = ";base64,";
+
+    private static final Pattern KEY = Pattern.compile("[0-9a-f]{64}");
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Path root;
+
+    public record StoredResume(String key, long size) {
+
+        public String reference() {
+            return REF_PREFIX + key;
+        }
+    }
+
+    // 不能放进 app.upload.dir：那个目录整体作为静态资源对外映射，简历必须经过鉴权下载
+    public ResumeStorage(@Value("${app.resume.dir:resumes}") String dir) {
+        if (dir == null || dir.isBlank()) {
+            throw new IllegalStateException("app.resume.dir must be set");
+        }
+        this.root = Paths.get(dir).toAbsolutePath().normalize();
+    }
+
+    public static boolean isReference(String resumeUrl) {
+        return resumeUrl != null && resumeUrl.startsWith(REF_PREFIX);
+    }
+
+    public static String keyOf(String reference) {
+        return isReference(reference) ? reference.substring(REF_PREFIX.length()) : null;
+    }
+
+    public static boolean isDataUrl(String resumeUrl) {
+        return resumeUrl != null && resumeUrl.startsWith(DATA_PREFIX);
+    }
+
+    // 对外不暴露存储路径和原始内容，统一走带鉴权的下载接口
+    public static String downloadLink(Long applicationId) {
+        return "/api/applications/" + applicationId + "/resume";
+    }
+
+    public static String dataUrlContentType(String dataUrl) {
+        int marker = dataUrl.indexOf(BASE64_MARKER);
+        String ct = marker < 0 ? "" : dataUrl.substring(DATA_PREFIX.length(), marker);
+        return ct.isBlank() ? "application/octet-stream" : ct;
+    }
+
+    /**
+     * 把历史的 base64 data URL 解码后写入存储；不是 base64 编码的返回 null。
+     */
+    public StoredResume storeDataUrl(String dataUrl) {
+        int marker = isDataUrl(dataUrl) ? dataUrl.indexOf(BASE64_MARKER) : -1;
+        if (marker < 0) {
+            return null;
+        }
+        byte[] ascii = dataUrl.getBytes(StandardCharsets.US_ASCII);
+        int start = marker + BASE64_MARKER.length();
+        try (InputStream in = Base64.getMimeDecoder().wrap(new ByteArrayInputStream(ascii, start, ascii.length - start))) {
+            return store(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to decode resume", e);
+        }
+    }
+
+    /**
+     * 边读边算摘要写临时文件，完成后按摘要原子移动到目标位置；目标已存在说明内容重复，丢弃临时文件。
+     */
+    public StoredResume store(InputStream in) {
+        Path tmp = null;
+        try {
+            Files.createDirectories(root);
+            tmp = Files.createTempFile(root, "upload-", ".part");
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            long size = 0;
+            ByteBuffer buf = ByteBuffer.allocateDirect(BUFFER_SIZE);
+            try (ReadableByteChannel src = Channels.newChannel(in);
+                 FileChannel dst = FileChannel.open(tmp, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                while (src.read(buf) != -1) {
+                    buf.flip();
+                    digest.update(buf.duplicate());
+                    while (buf.hasRemaining()) {
+                        size += dst.write(buf);
+                    }
+                    buf.clear();
+                }
+                dst.force(false);
+            }
+
+            String key = HexFormat.of().formatHex(digest.digest());
+            Path target = pathFor(key);
+            if (Files.exists(target)) {
+                Files.delete(tmp);
+            } else {
+                Files.createDirectories(target.getParent());
+                try {
+                    Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE);
+                } catch (FileAlreadyExistsException e) {
+                    // 并发上传了同样的内容
+                    Files.deleteIfExists(tmp);
+                }
+            }
+            return new StoredResume(key, size);
+        } catch (IOException e) {
+            deleteQuietly(tmp);
+            throw new UncheckedIOException("Failed to store resume", e);
+        } catch (NoSuchAlgorithmException e) {
+            deleteQuietly(tmp);
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public boolean exists(String key) {
+        return Files.isRegularFile(pathFor(key));
+    }
+
+    /**
+     * 重新读一遍落盘的文件，大小和摘要都对得上才算写成功；删除原始数据之前必须先校验。
+     */
+    public boolean verify(StoredResume stored) {
+        Path p = pathFor(stored.key());
+        try (FileChannel ch = FileChannel.open(p, StandardOpenOption.READ)) {
+            if (ch.size() != stored.size()) {
+                return false;
+            }
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            ByteBuffer buf = ByteBuffer.allocateDirect(BUFFER_SIZE);
+            while (ch.read(buf) != -1) {
+                buf.flip();
+                digest.update(buf);
+                buf.clear();
+            }
+            return HexFormat.of().formatHex(digest.digest()).equals(stored.key());
+        } catch (IOException e) {
+            log.warn("Failed to read back resume {}", stored.key(), e);
+            return false;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public Path resolve(String key) {
+        Path p = pathFor(key);
+        if (!Files.isRegularFile(p)) {
+            throw new BizException(ErrorCode.NOT_FOUND, "Resume not found");
+        }
+        return p;
+    }
+
+    // 两级目录分散文件：ab/cd/abcd...
+    private Path pathFor(String key) {
+        if (key == null || !KEY.matcher(key).matches()) {
+            throw new IllegalArgumentException("Invalid resume key");
+        }
+        return root.resolve(key.substring(0, 2)).resolve(key.substring(2, 4)).resolve(key);
+    }
+
+    private static void deleteQuietly(Path p) {
+        if (p == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(p);
+        } catch (IOException e) {
+            log.warn("Failed to delete temp file {}", p, e);
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.jobspring.jobspringbackend.storage;
+
+import java.nio.file.Path;
+
+// sha256 同时用作强 ETag
+public record StoredFile(String sha256, Path path, String contentType) {
+}
@@ -0,0 +1,33 @@
+package com.jobspring.jobspringbackend.util;
+
+import com.jobspring.jobspringbackend.exception.BizException;
+import com.jobspring.jobspringbackend.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+// (时间, id) 游标，对外是不透明的 base64url 字符串；职位按 postedAt、审核队列按 submittedAt
+public record KeysetCursor(LocalDateTime postedAt, Long id) {
+
+    private static final String SEP = "|";
+
+    public String encode() {
+        String raw = postedAt + SEP + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static KeysetCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int i = raw.lastIndexOf(SEP);
+            if (i <= 0) {
+                throw new IllegalArgumentException("missing separator");
+            }
+            return new KeysetCursor(LocalDateTime.parse(raw.substring(0, i)), Long.parseLong(raw.substring(i + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BizException(ErrorCode.INVALID_ARGUMENT, "Invalid cursor");
+        }
+    }
+}
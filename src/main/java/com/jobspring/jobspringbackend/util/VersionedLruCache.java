@@ -0,0 +1,54 @@
+package com.jobspring.jobspringbackend.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 带版本号的 LRU 缓存，用于“查库后写回”的场景。
+ * 读取方在查库前先取版本，写回时版本已变（期间数据被更新）则丢弃，避免慢查询把旧数据写回缓存。
+ * 失效时写入一个更高版本的空条目作为标记；被淘汰条目的最大版本记为下限，不在缓存中的键以此为版本。
+ */
+public class VersionedLruCache<K, V> {
+
+    private record Entry<V>(long version, V value) {
+    }
+
+    private final Map<K, Entry<V>> entries;
+    private long clock;   // 全局递增的版本号
+    private long floor;   // 已淘汰条目中的最大版本
+
+    public VersionedLruCache(int maxEntries) {
+        this.entries = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                if (size() > maxEntries) {
+                    floor = Math.max(floor, eldest.getValue().version());
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public synchronized V get(K key) {
+        Entry<V> e = entries.get(key);
+        return e != null ? e.value() : null;
+    }
+
+    public synchronized long version(K key) {
+        Entry<V> e = entries.get(key);
+        return e != null ? e.version() : floor;
+    }
+
+    public synchronized void put(K key, long version, V value) {
+        Entry<V> e = entries.get(key);
+        long current = e != null ? e.version() : floor;
+        if (current == version) {
+            entries.put(key, new Entry<>(version, value));
+        }
+    }
+
+    public synchronized void invalidate(K key) {
+        entries.put(key, new Entry<>(++clock, null));
+    }
+}
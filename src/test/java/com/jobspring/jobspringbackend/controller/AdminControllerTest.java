@@ -1,10 +1,14 @@
 package com.jobspring.jobspringbackend.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.jobspring.jobspringbackend.dto.CompanyDTO;
+import com.jobspring.jobspringbackend.dto.CursorPage;
 import com.jobspring.jobspringbackend.dto.JobDTO;
-import com.jobspring.jobspringbackend.entity.Company;
-import com.jobspring.jobspringbackend.entity.Job;
+import com.jobspring.jobspringbackend.dto.MailQueueStats;
+import com.jobspring.jobspringbackend.dto.ReviewDTO;
+import com.jobspring.jobspringbackend.repository.projection.JobStatusView;
 import com.jobspring.jobspringbackend.service.*;
+import com.jobspring.jobspringbackend.storage.LogoStorage;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -13,19 +17,29 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Map;
 
 @WebMvcTest(AdminController.class)
 class AdminControllerTest {
@@ -40,30 +54,66 @@ class AdminControllerTest {
     @MockBean private ReviewService reviewService;
     @MockBean private HrApplicationService hrApplicationService;
     @MockBean private CompanyService companyService;
+    @MockBean private LogoStorage logoStorage;
+    @MockBean private MailDispatcher mailDispatcher;
+    @MockBean private ApplicationInvalidationJob invalidationJob;
 
     @Test
     @WithMockUser(roles = "ADMIN")
     void testGetAllJobStatus() throws Exception {
         // 模拟数据
-        Company company = new Company();
-        company.setId(1L);
-        company.setName("Test Company");
+        JobStatusView job = new SpelAwareProxyProjectionFactory().createProjection(JobStatusView.class,
+                Map.of("id", 100L, "title", "Java Developer", "companyId", 1L, "companyName", "Test Company", "status", 0));
 
-        Job job = new Job();
-        job.setId(100L);
-        job.setTitle("Java Developer");
-        job.setCompany(company);
-        job.setStatus(0);
+        Mockito.when(jobService.writeJobStatus(eq(0L), any(OutputStream.class))).thenAnswer(inv -> {
+            OutputStream out = inv.getArgument(1);
+            out.write(new ObjectMapper().writeValueAsBytes(List.of(Map.of("id", job.getId(), "title", job.getTitle(),
+                    "company", job.getCompanyName(), "companyId", job.getCompanyId(), "status", job.getStatus()))));
+            return 1L;
+        });
 
-        Mockito.when(jobService.getAllJobs()).thenReturn(List.of(job));
+        MvcResult started = mockMvc.perform(get("/api/admin/status"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
 
-        mockMvc.perform(get("/api/admin/status"))
+        mockMvc.perform(asyncDispatch(started))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$[0].title").value("Java Developer"))
                 .andExpect(jsonPath("$[0].company").value("Test Company"))
+                .andExpect(jsonPath("$[0].companyId").value(1))
                 .andExpect(jsonPath("$[0].status").value(0));
     }
 
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void testGetAllJobStatusWithCursor() throws Exception {
+        Mockito.when(jobService.writeJobStatus(eq(100L), any(OutputStream.class))).thenAnswer(inv -> {
+            OutputStream out = inv.getArgument(1);
+            out.write("[]".getBytes(StandardCharsets.UTF_8));
+            return 0L;
+        });
+
+        MvcResult started = mockMvc.perform(get("/api/admin/status").param("afterId", "100"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().json("[]"));
+    }
+
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void testGetMailQueueStats() throws Exception {
+        Mockito.when(mailDispatcher.stats()).thenReturn(new MailQueueStats(3, 500, 16, 4, 120, 0, 118, 2));
+
+        mockMvc.perform(get("/api/admin/mail/queue"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.queued").value(3))
+                .andExpect(jsonPath("$.smtpInFlight").value(4))
+                .andExpect(jsonPath("$.failed").value(2));
+    }
 
     @Test
     @WithMockUser(roles = "ADMIN")
@@ -94,6 +144,7 @@ class AdminControllerTest {
         mockCompany.setName("New Company");
 
         Mockito.when(companyService.createCompany(any(CompanyDTO.class))).thenReturn(mockCompany);
+        Mockito.when(logoStorage.store(any())).thenReturn("/api/files/logos/1_logo.png");
 
         String companyJson = "{\"name\": \"New Company\"}";
 
@@ -113,6 +164,8 @@ class AdminControllerTest {
                         .with(csrf())
                         .contentType(MediaType.MULTIPART_FORM_DATA))
                 .andExpect(status().isCreated());
+
+        Mockito.verify(companyService).createCompany(argThat(c -> "/api/files/logos/1_logo.png".equals(c.getLogoUrl())));
     }
 
 
@@ -125,4 +178,40 @@ class AdminControllerTest {
 
         Mockito.verify(jobService).deactivateJob(1L, 2L);
     }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void testCheckReviewQueue() throws Exception {
+        ReviewDTO dto = new ReviewDTO();
+        dto.setId(1L);
+        dto.setStatus(0);
+        Mockito.when(reviewService.listReviewQueue(0, "abc", 100))
+                .thenReturn(new CursorPage<>(List.of(dto), "next", true));
+
+        // 不传 status 时默认看待审核队列
+        mockMvc.perform(get("/api/admin/check_review").param("cursor", "abc").param("size", "500"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(1))
+                .andExpect(jsonPath("$.nextCursor").value("next"))
+                .andExpect(jsonPath("$.hasNext").value(true));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void testExportReviews() throws Exception {
+        Mockito.when(reviewService.exportReviews(eq(1), any(OutputStream.class))).thenAnswer(inv -> {
+            OutputStream out = inv.getArgument(1);
+            out.write("{\"id\":1}\n".getBytes(StandardCharsets.UTF_8));
+            return 1L;
+        });
+
+        MvcResult started = mockMvc.perform(get("/api/admin/reviews/export").param("status", "1"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "application/x-ndjson"))
+                .andExpect(content().string("{\"id\":1}\n"));
+    }
 }
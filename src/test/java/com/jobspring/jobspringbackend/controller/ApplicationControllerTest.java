@@ -3,6 +3,8 @@ package com.jobspring.jobspringbackend.controller;
 import com.jobspring.jobspringbackend.dto.ApplicationDTO;
 import com.jobspring.jobspringbackend.dto.ApplicationDetailResponse;
 import com.jobspring.jobspringbackend.service.ApplicationService;
+import com.jobspring.jobspringbackend.storage.ResumeDownload;
+import com.jobspring.jobspringbackend.storage.StoredFile;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -13,6 +15,8 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.mock.web.MockMultipartFile;
 
 import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
 
 import static org.mockito.ArgumentMatchers.*;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
@@ -71,4 +75,51 @@ class ApplicationControllerTest {
                 .andExpect(jsonPath("$.applicantId").value(88))
                 .andExpect(jsonPath("$.jobTitle").value("Backend Developer"));
     }
-}
\ No newline at end of file
+
+    @Test
+    @WithMockUser(username = "5", roles = "HR")
+    void testDownloadResume() throws Exception {
+        Path file = Files.createTempFile("resume", ".pdf");
+        Files.writeString(file, "PDFDATA");
+        Mockito.when(applicationService.openResume(eq(5L), eq(88L)))
+                .thenReturn(ResumeDownload.stored(new StoredFile("a".repeat(64), file, "application/pdf")));
+
+        mockMvc.perform(get("/api/applications/{applicationId}/resume", 88L))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/pdf"))
+                .andExpect(header().string("ETag", "\"" + "a".repeat(64) + "\""))
+                .andExpect(header().string("Cache-Control", "private, max-age=31536000, immutable"))
+                .andExpect(content().string("PDFDATA"));
+    }
+
+    @Test
+    @WithMockUser(username = "5", roles = "HR")
+    void testDownloadResume_conditionalAndRange() throws Exception {
+        String key = "a".repeat(64);
+        Path file = Files.createTempFile("resume", ".pdf");
+        Files.writeString(file, "PDFDATA");
+        Mockito.when(applicationService.openResume(eq(5L), eq(88L)))
+                .thenReturn(ResumeDownload.stored(new StoredFile(key, file, "application/pdf")));
+
+        mockMvc.perform(get("/api/applications/{applicationId}/resume", 88L)
+                        .header("If-None-Match", "\"" + key + "\""))
+                .andExpect(status().isNotModified());
+
+        mockMvc.perform(get("/api/applications/{applicationId}/resume", 88L)
+                        .header("Range", "bytes=3-"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string("Content-Range", "bytes 3-6/7"))
+                .andExpect(content().string("DATA"));
+    }
+
+    @Test
+    @WithMockUser(username = "5", roles = "HR")
+    void testDownloadResume_redirectsToExternalProfileLink() throws Exception {
+        Mockito.when(applicationService.openResume(eq(5L), eq(89L)))
+                .thenReturn(ResumeDownload.redirect("https://cdn.example.com/resume.pdf"));
+
+        mockMvc.perform(get("/api/applications/{applicationId}/resume", 89L))
+                .andExpect(status().isFound())
+                .andExpect(redirectedUrl("https://cdn.example.com/resume.pdf"));
+    }
+}
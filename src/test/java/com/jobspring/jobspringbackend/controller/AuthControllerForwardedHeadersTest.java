@@ -0,0 +1,48 @@
+package com.jobspring.jobspringbackend.controller;
+
+import com.jobspring.jobspringbackend.security.RateLimiter;
+import com.jobspring.jobspringbackend.service.MailService;
+import com.jobspring.jobspringbackend.service.VerificationService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.verify;
+
+// 需要真实的 Tomcat 才能走到 RemoteIpValve，MockMvc 覆盖不到
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"app.mail.enabled=false", "server.forward-headers-strategy=native"})
+class AuthControllerForwardedHeadersTest {
+
+    @Autowired
+    private TestRestTemplate rest;
+
+    @MockBean
+    private MailService mailService;
+    @MockBean
+    private VerificationService verificationService;
+    @MockBean
+    private RateLimiter rateLimiter;
+
+    @Test
+    void sendCode_shouldLimitOnClientAddressAppendedByProxy() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        // 最左边是客户端自己带的伪造值，最右边是前置代理追加的真实地址
+        headers.add("X-Forwarded-For", "198.51.100.7, 203.0.113.9");
+
+        ResponseEntity<Void> resp = rest.postForEntity("/api/auth/send-code",
+                new HttpEntity<>("{\"email\":\"a@b.com\"}", headers), Void.class);
+
+        assertEquals(HttpStatus.NO_CONTENT, resp.getStatusCode());
+        verify(rateLimiter).checkSendCode("a@b.com", "203.0.113.9");
+    }
+}
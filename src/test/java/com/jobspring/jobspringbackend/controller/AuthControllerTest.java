@@ -2,7 +2,10 @@ package com.jobspring.jobspringbackend.controller;
 
 import com.jobspring.jobspringbackend.entity.User;
 import com.jobspring.jobspringbackend.repository.UserRepository;
+import com.jobspring.jobspringbackend.exception.BizException;
+import com.jobspring.jobspringbackend.exception.ErrorCode;
 import com.jobspring.jobspringbackend.security.JwtService;
+import com.jobspring.jobspringbackend.security.RateLimiter;
 import com.jobspring.jobspringbackend.service.VerificationService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -15,7 +18,11 @@ import org.springframework.test.web.servlet.MockMvc;
 import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -35,6 +42,8 @@ class AuthControllerTest {
     private JwtService jwtService;
     @MockBean
     private VerificationService verificationService;
+    @MockBean
+    private RateLimiter rateLimiter;
 
     @Test
     void send_code_noContent() throws Exception {
@@ -129,4 +138,35 @@ class AuthControllerTest {
                 .andExpect(jsonPath("$.user.email").value("a@b.com"))
                 .andExpect(jsonPath("$.user.fullName").value("Alice"));
     }
+
+    @Test
+    void login_tooManyRequests_skipsPasswordCheck() throws Exception {
+        doThrow(new BizException(ErrorCode.TOO_MANY_REQUESTS, "Too many login attempts. Please try again later."))
+                .when(rateLimiter).checkLogin(anyString(), anyString());
+
+        String reqJson = """
+                {"email":"a@b.com","password":"Passw0rd!"}
+                """;
+
+        mvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(reqJson))
+                .andExpect(status().isTooManyRequests());
+
+        verify(userRepository, never()).findByEmail(anyString());
+        verify(passwordEncoder, never()).matches(any(), any());
+    }
+
+    @Test
+    void send_code_tooManyRequests() throws Exception {
+        doThrow(new BizException(ErrorCode.TOO_MANY_REQUESTS, "Please wait before requesting another code."))
+                .when(rateLimiter).checkSendCode(anyString(), anyString());
+
+        mvc.perform(post("/api/auth/send-code")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"a@b.com\"}"))
+                .andExpect(status().isTooManyRequests());
+
+        verify(verificationService, never()).sendRegisterCode(anyString());
+    }
 }
@@ -1,9 +1,11 @@
 package com.jobspring.jobspringbackend.controller;
 
+import com.jobspring.jobspringbackend.dto.CompanyRatingDTO;
 import com.jobspring.jobspringbackend.dto.CompanyReviewDTO;
 import com.jobspring.jobspringbackend.dto.JobResponse;
 import com.jobspring.jobspringbackend.entity.Company;
 import com.jobspring.jobspringbackend.repository.CompanyRepository;
+import com.jobspring.jobspringbackend.service.CompanyRatingService;
 import com.jobspring.jobspringbackend.service.CompanyService;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -34,6 +36,9 @@ class CompanyControllerTest {
     @MockBean
     private CompanyService companyService;
 
+    @MockBean
+    private CompanyRatingService companyRatingService;
+
     @Test
     @WithMockUser(username = "1", roles = "USER")
     void testCreateCompany() throws Exception {
@@ -92,4 +97,17 @@ class CompanyControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.content[0].content").value("Great company!"));
     }
-}
\ No newline at end of file
+
+    @Test
+    @WithMockUser(username = "1", roles = "USER")
+    void testGetCompanyRating() throws Exception {
+        Mockito.when(companyRatingService.getRating(1L))
+                .thenReturn(new CompanyRatingDTO(1L, 4.25, 4, List.of(0L, 0L, 1L, 1L, 2L)));
+
+        mockMvc.perform(get("/api/companies/{companyId}/rating", 1L))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.average").value(4.25))
+                .andExpect(jsonPath("$.reviewCount").value(4))
+                .andExpect(jsonPath("$.histogram[4]").value(2));
+    }
+}
@@ -0,0 +1,52 @@
+package com.jobspring.jobspringbackend.controller;
+
+import com.jobspring.jobspringbackend.exception.BizException;
+import com.jobspring.jobspringbackend.exception.ErrorCode;
+import com.jobspring.jobspringbackend.storage.LogoStorage;
+import com.jobspring.jobspringbackend.storage.StoredFile;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(FileController.class)
+class FileControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private LogoStorage logoStorage;
+
+    @Test
+    @WithMockUser
+    void testDownloadLogo() throws Exception {
+        Path file = Files.createTempFile("logo", ".png");
+        Files.write(file, new byte[]{1, 2, 3});
+        Mockito.when(logoStorage.open("1_logo.png")).thenReturn(new StoredFile("f".repeat(64), file, "image/png"));
+
+        mockMvc.perform(get("/api/files/logos/{filename}", "1_logo.png"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("image/png"))
+                .andExpect(header().string("Cache-Control", "public, max-age=31536000, immutable"))
+                .andExpect(header().string("Accept-Ranges", "bytes"));
+    }
+
+    @Test
+    @WithMockUser
+    void testDownloadLogo_notFound() throws Exception {
+        Mockito.when(logoStorage.open("missing.png")).thenThrow(new BizException(ErrorCode.NOT_FOUND, "Logo not found"));
+
+        mockMvc.perform(get("/api/files/logos/{filename}", "missing.png"))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -1,8 +1,12 @@
 package com.jobspring.jobspringbackend.controller;
 
 import com.jobspring.jobspringbackend.dto.ApplicationBriefResponse;
+import com.jobspring.jobspringbackend.dto.ApplicationStatusResult;
+import com.jobspring.jobspringbackend.dto.FunnelStatsResponse;
+import com.jobspring.jobspringbackend.dto.JobFunnelStats;
 import com.jobspring.jobspringbackend.dto.HrJobResponse;
 import com.jobspring.jobspringbackend.dto.JobResponse;
+import com.jobspring.jobspringbackend.service.ApplicationStatsService;
 import com.jobspring.jobspringbackend.service.HrApplicationService;
 import com.jobspring.jobspringbackend.service.HrCompanyService;
 import com.jobspring.jobspringbackend.service.HrJobService;
@@ -41,6 +45,9 @@ class HrControllerTest {
     @MockBean
     private HrJobService hrJobService;
 
+    @MockBean
+    private ApplicationStatsService applicationStatsService;
+
     @Test
     @WithMockUser(username = "8", roles = "HR")
     void testListMineApplications() throws Exception {
@@ -58,6 +65,21 @@ class HrControllerTest {
                 .andExpect(jsonPath("$.content[0].jobTitle").value("Java Developer"));
     }
 
+    @Test
+    @WithMockUser(username = "9", roles = "HR")
+    void testStats() throws Exception {
+        Mockito.when(hrCompanyService.findCompanyIdByUserId(9L)).thenReturn(77L);
+        Mockito.when(applicationStatsService.funnel(77L)).thenReturn(new FunnelStatsResponse(77L,
+                new JobFunnelStats(null, null, 4, 1, 0, 2, 0),
+                List.of(new JobFunnelStats(5L, "Java Developer", 4, 1, 0, 2, 0))));
+
+        mockMvc.perform(get("/api/hr/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total.applied").value(4))
+                .andExpect(jsonPath("$.jobs[0].jobTitle").value("Java Developer"))
+                .andExpect(jsonPath("$.jobs[0].rejected").value(2));
+    }
+
     @Test
     @WithMockUser(username = "9", roles = "HR")
     void testGetMyCompanyId() throws Exception {
@@ -92,6 +114,43 @@ class HrControllerTest {
                 .andExpect(jsonPath("$.status").value(2));
     }
 
+    @Test
+    @WithMockUser(username = "5", roles = "HR")
+    void testUpdateStatuses() throws Exception {
+        Mockito.when(hrApplicationService.updateStatuses(5L, List.of(44L, 45L), 3)).thenReturn(List.of(
+                new ApplicationStatusResult(44L, ApplicationStatusResult.UPDATED, 3),
+                new ApplicationStatusResult(45L, ApplicationStatusResult.FORBIDDEN, null)));
+
+        mockMvc.perform(post("/api/hr/applications/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\": [44, 45], \"status\": 3}")
+                        .with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].result").value("UPDATED"))
+                .andExpect(jsonPath("$[1].result").value("FORBIDDEN"));
+    }
+
+    @Test
+    @WithMockUser(username = "5", roles = "HR")
+    void testUpdateStatuses_nullId() throws Exception {
+        mockMvc.perform(post("/api/hr/applications/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\": [44, null], \"status\": 3}")
+                        .with(csrf()))
+                .andExpect(status().isBadRequest());
+        Mockito.verifyNoInteractions(hrApplicationService);
+    }
+
+    @Test
+    @WithMockUser(username = "5", roles = "HR")
+    void testUpdateStatuses_emptyIds() throws Exception {
+        mockMvc.perform(post("/api/hr/applications/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\": [], \"status\": 3}")
+                        .with(csrf()))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @WithMockUser(username = "3", roles = "HR")
     void testMyCompanyName() throws Exception {
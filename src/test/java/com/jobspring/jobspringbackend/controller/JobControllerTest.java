@@ -1,8 +1,10 @@
 package com.jobspring.jobspringbackend.controller;
 
+import com.jobspring.jobspringbackend.dto.InvalidationProgress;
 import com.jobspring.jobspringbackend.dto.JobCreateRequest;
 import com.jobspring.jobspringbackend.dto.JobResponse;
 import com.jobspring.jobspringbackend.dto.JobUpdateRequest;
+import com.jobspring.jobspringbackend.service.ApplicationInvalidationJob;
 import com.jobspring.jobspringbackend.service.JobService;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -16,7 +18,9 @@ import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.net.URI;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.*;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
@@ -32,6 +36,9 @@ class JobControllerTest {
     @MockBean
     private JobService jobService;
 
+    @MockBean
+    private ApplicationInvalidationJob invalidationJob;
+
     @Test
     @WithMockUser(username = "5", roles = "HR")
     void testCreateJob() throws Exception {
@@ -94,6 +101,41 @@ class JobControllerTest {
         Mockito.verify(jobService).deactivateJob(1L, 100L);
     }
 
+    @Test
+    @WithMockUser(username = "5", roles = "HR")
+    void testInvalidationProgress() throws Exception {
+        Mockito.when(jobService.findCompanyIdByUserId(5L)).thenReturn(1L);
+        Mockito.when(invalidationJob.progress(1L, 100L)).thenReturn(Optional.of(
+                new InvalidationProgress(1L, 100L, 1200, 500, "RUNNING", LocalDateTime.now(), null)));
+
+        mockMvc.perform(get("/api/hr/companies/{companyId}/jobs/{jobId}/invalidation", 1L, 100L))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(1200))
+                .andExpect(jsonPath("$.processed").value(500))
+                .andExpect(jsonPath("$.state").value("RUNNING"));
+    }
+
+    @Test
+    @WithMockUser(username = "5", roles = "HR")
+    void testInvalidationProgress_notFound() throws Exception {
+        Mockito.when(jobService.findCompanyIdByUserId(5L)).thenReturn(1L);
+        Mockito.when(invalidationJob.progress(1L, 100L)).thenReturn(Optional.empty());
+
+        mockMvc.perform(get("/api/hr/companies/{companyId}/jobs/{jobId}/invalidation", 1L, 100L))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @WithMockUser(username = "5", roles = "HR")
+    void testInvalidationProgress_otherCompanyIsNotFound() throws Exception {
+        Mockito.when(jobService.findCompanyIdByUserId(5L)).thenReturn(2L);
+
+        mockMvc.perform(get("/api/hr/companies/{companyId}/jobs/{jobId}/invalidation", 1L, 100L))
+                .andExpect(status().isNotFound());
+
+        Mockito.verifyNoInteractions(invalidationJob);
+    }
+
     @Test
     @WithMockUser(username = "5", roles = "HR")
     void testListJobs() throws Exception {
@@ -32,6 +32,7 @@ class JobSeekerControllerTest {
     @MockBean private ReviewService reviewService;
     @MockBean private UserRepository userRepository;
     @MockBean private JobseekerApplicationService jobseekerApplicationService;
+    @MockBean private RecommendationService recommendationService;
 
     @Test
     @WithMockUser(username = "8", roles = "CANDIDATE")
@@ -66,6 +67,25 @@ class JobSeekerControllerTest {
                 .andExpect(jsonPath("$.content[0].title").value("Backend Engineer"));
     }
 
+    @Test
+    @WithMockUser(username = "8", roles = "CANDIDATE")
+    void testScrollJobList() throws Exception {
+        JobDTO job = new JobDTO();
+        job.setId(3L);
+        job.setTitle("Data Engineer");
+
+        Mockito.when(jobService.scrollJobSeekerJobs(eq("abc"), eq(20)))
+                .thenReturn(new CursorPage<>(List.of(job), "next", true));
+
+        mockMvc.perform(get("/api/job_seeker/job_list/scroll")
+                        .param("cursor", "abc")
+                        .param("size", "20"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].title").value("Data Engineer"))
+                .andExpect(jsonPath("$.nextCursor").value("next"))
+                .andExpect(jsonPath("$.hasNext").value(true));
+    }
+
     @Test
     @WithMockUser(username = "8", roles = "CANDIDATE")
     void testGetCompany() throws Exception {
@@ -119,4 +139,20 @@ class JobSeekerControllerTest {
         mockMvc.perform(get("/api/job_seeker/applications"))
                 .andExpect(status().isOk());
     }
-}
\ No newline at end of file
+
+    @Test
+    @WithMockUser(username = "8", roles = "CANDIDATE")
+    void testRecommendations() throws Exception {
+        JobDTO job = new JobDTO();
+        job.setId(3L);
+        job.setTitle("Java Developer");
+
+        Mockito.when(recommendationService.recommend(8L, 5))
+                .thenReturn(List.of(new JobRecommendation(job, 0.9)));
+
+        mockMvc.perform(get("/api/job_seeker/recommendations").param("size", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].job.title").value("Java Developer"))
+                .andExpect(jsonPath("$[0].score").value(0.9));
+    }
+}
@@ -0,0 +1,94 @@
+package com.jobspring.jobspringbackend.controller;
+
+import com.jobspring.jobspringbackend.dto.NotificationDTO;
+import com.jobspring.jobspringbackend.service.NotificationService;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(NotificationController.class)
+class NotificationControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private NotificationService notificationService;
+
+    @Test
+    @WithMockUser(username = "11")
+    void testInbox() throws Exception {
+        NotificationDTO dto = new NotificationDTO();
+        dto.setId(5L);
+        dto.setType(NotificationService.APPLICATION_STATUS);
+        dto.setRefId(100L);
+        dto.setRead(false);
+        Mockito.when(notificationService.inbox(eq(11L), eq(PageRequest.of(0, 20))))
+                .thenReturn(new PageImpl<>(List.of(dto)));
+
+        mockMvc.perform(get("/api/notifications"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(5))
+                .andExpect(jsonPath("$.content[0].refId").value(100))
+                .andExpect(jsonPath("$.content[0].read").value(false));
+    }
+
+    @Test
+    @WithMockUser(username = "11")
+    void testUnreadCount() throws Exception {
+        Mockito.when(notificationService.unreadCount(11L)).thenReturn(3L);
+
+        mockMvc.perform(get("/api/notifications/unread-count"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.unread").value(3));
+    }
+
+    @Test
+    @WithMockUser(username = "11")
+    void testMarkRead() throws Exception {
+        Mockito.when(notificationService.markRead(11L, List.of(1L, 2L))).thenReturn(2);
+
+        mockMvc.perform(post("/api/notifications/read")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\":[1,2]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updated").value(2));
+    }
+
+    @Test
+    @WithMockUser(username = "11")
+    void testMarkRead_rejectsEmptyIds() throws Exception {
+        mockMvc.perform(post("/api/notifications/read")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\":[]}"))
+                .andExpect(status().isBadRequest());
+
+        Mockito.verifyNoInteractions(notificationService);
+    }
+
+    @Test
+    @WithMockUser(username = "11")
+    void testMarkAllRead() throws Exception {
+        Mockito.when(notificationService.markAllRead(11L)).thenReturn(4);
+
+        mockMvc.perform(post("/api/notifications/read-all").with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updated").value(4));
+    }
+}
@@ -0,0 +1,42 @@
+package com.jobspring.jobspringbackend.controller;
+
+import com.jobspring.jobspringbackend.service.PushService;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(PushController.class)
+class PushControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private PushService pushService;
+
+    @Test
+    @WithMockUser(username = "11")
+    void testStream() throws Exception {
+        Mockito.when(pushService.subscribe(11L)).thenReturn(new SseEmitter(60_000L));
+
+        mockMvc.perform(get("/api/push/stream").accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted());
+
+        Mockito.verify(pushService).subscribe(11L);
+    }
+
+    @Test
+    void testStream_requiresLogin() throws Exception {
+        mockMvc.perform(get("/api/push/stream"))
+                .andExpect(status().isUnauthorized());
+    }
+}
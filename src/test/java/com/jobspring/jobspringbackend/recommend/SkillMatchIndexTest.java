@@ -0,0 +1,81 @@
+package com.jobspring.jobspringbackend.recommend;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SkillMatchIndexTest {
+
+    private SkillMatchIndex index;
+
+    @BeforeEach
+    void setup() {
+        index = new SkillMatchIndex();
+        index.load(List.of(
+                // Java(1) 必需，Spring(2) 加分
+                new JobVector(1L, 100L, new int[]{1, 2}, new float[]{8, 2}, new boolean[]{true, false}),
+                // React(3) 必需
+                new JobVector(2L, 200L, new int[]{1, 3}, new float[]{5, 5}, new boolean[]{false, true}),
+                // 只要 Spring，无必需技能
+                new JobVector(3L, 300L, new int[]{2}, new float[]{10}, new boolean[]{false})
+        ));
+    }
+
+    private UserVector user(int[] skills, float[] strengths) {
+        return new UserVector(skills, strengths);
+    }
+
+    @Test
+    void recommend_shouldGateOnRequiredSkillsAndRankByWeightedOverlap() {
+        List<SkillMatchIndex.Match> matches = index.recommend(user(new int[]{1, 2}, new float[]{1f, 0.5f}), 10);
+
+        // 职位 2 缺少必需的 React，被排除
+        assertEquals(List.of(1L, 3L), matches.stream().map(SkillMatchIndex.Match::jobId).toList());
+        assertEquals(0.9f, matches.get(0).score(), 1e-6);
+        assertEquals(0.5f, matches.get(1).score(), 1e-6);
+    }
+
+    @Test
+    void recommend_shouldBreakTiesByRecencyAndRespectLimit() {
+        List<SkillMatchIndex.Match> matches = index.recommend(user(new int[]{1, 2, 3}, new float[]{1f, 1f, 1f}), 2);
+
+        assertEquals(List.of(3L, 2L), matches.stream().map(SkillMatchIndex.Match::jobId).toList());
+    }
+
+    @Test
+    void apply_shouldReplaceAndRemoveVectors() {
+        index.apply(List.of(new JobVector(3L, 300L, new int[]{4}, new float[]{10}, new boolean[]{false})), List.of(1L));
+
+        assertEquals(2, index.size());
+        assertTrue(index.recommend(user(new int[]{1, 2}, new float[]{1f, 1f}), 10).isEmpty());
+        assertEquals(List.of(3L), index.recommend(user(new int[]{4}, new float[]{1f}), 10).stream().map(SkillMatchIndex.Match::jobId).toList());
+    }
+
+    @Test
+    void apply_shouldStayConsistentAcrossCompaction() {
+        // 超过压实阈值，增量段被并回基础快照
+        List<JobVector> batch = new ArrayList<>();
+        for (long id = 10; id < 1200; id++) {
+            batch.add(new JobVector(id, id, new int[]{5}, new float[]{1}, new boolean[]{false}));
+        }
+        index.apply(batch, List.of(2L));
+        index.apply(List.of(new JobVector(10L, 10L, new int[]{6}, new float[]{1}, new boolean[]{false})), List.of(11L));
+
+        assertEquals(1191, index.size());
+        List<SkillMatchIndex.Match> matches = index.recommend(user(new int[]{5, 6}, new float[]{1f, 1f}), 3);
+        assertEquals(List.of(1199L, 1198L, 1197L), matches.stream().map(SkillMatchIndex.Match::jobId).toList());
+        assertEquals(List.of(10L), index.recommend(user(new int[]{6}, new float[]{1f}), 10).stream().map(SkillMatchIndex.Match::jobId).toList());
+    }
+
+    @Test
+    void userVector_shouldScaleStrengthByLevelAndYears() {
+        assertEquals(1.0f, UserVector.strength(5, BigDecimal.valueOf(8)), 1e-6);
+        assertEquals(0.36f, UserVector.strength(3, null), 1e-6);
+        assertEquals(0f, UserVector.strength(null, BigDecimal.ONE), 1e-6);
+    }
+}
@@ -0,0 +1,101 @@
+package com.jobspring.jobspringbackend.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JobSearchIndexTest {
+
+    private JobSearchIndex index;
+
+    @BeforeEach
+    void setup() {
+        index = new JobSearchIndex();
+        index.upsert(new JobDocument(1L, 100L, "Java Developer", "Singapore", "OpenAI SG", "Backend services", List.of("Spring Boot")));
+        index.upsert(new JobDocument(2L, 200L, "Frontend Engineer", "Sydney", "Atlassian", "React and Java tooling", List.of("React")));
+        index.upsert(new JobDocument(3L, 300L, "Data Analyst", "Singapore", "Grab", "SQL reports", List.of("Python")));
+    }
+
+    @Test
+    void tokenize_shouldLowercaseAndSplitOnPunctuation() {
+        assertEquals(List.of("spring", "boot", "c++"), JobSearchIndex.tokenize("Spring-Boot, C++"));
+        assertEquals(List.of("c#", ".net", "asp", "net", "node", "js"), JobSearchIndex.tokenize("C# .NET ASP.NET Node.js"));
+        assertTrue(JobSearchIndex.tokenize("  ").isEmpty());
+        assertTrue(JobSearchIndex.tokenize("!!!").isEmpty());
+    }
+
+    @Test
+    void tokenize_shouldSplitCjkIntoBigrams() {
+        assertEquals(List.of("高级", "java", "工程", "程师"), JobSearchIndex.tokenize("高级Java工程师"));
+    }
+
+    @Test
+    void search_shouldKeepSymbolTokensWhole() {
+        index.upsert(new JobDocument(4L, 400L, "C++ Engineer", "Sydney", "Canva", null, List.of()));
+
+        assertEquals(List.of(4L), index.search("C++", 0, 10).ids());
+        // 单字符只做完整匹配，不会展开成所有 c 开头的词
+        assertTrue(index.search("c", 0, 10).ids().isEmpty());
+    }
+
+    @Test
+    void search_shouldMatchCjkInsideWords() {
+        index.upsert(new JobDocument(5L, 500L, "高级Java工程师", "上海", "字节跳动", null, List.of()));
+
+        assertEquals(List.of(5L), index.search("工程师", 0, 10).ids());
+        assertEquals(List.of(5L), index.search("程", 0, 10).ids());
+    }
+
+    @Test
+    void search_shouldRankTitleHitAboveDescriptionHit() {
+        JobSearchIndex.Hits hits = index.search("java", 0, 10);
+
+        assertEquals(2, hits.total());
+        assertEquals(List.of(1L, 2L), hits.ids());
+    }
+
+    @Test
+    void search_shouldMatchPrefix() {
+        JobSearchIndex.Hits hits = index.search("sing", 0, 10);
+
+        assertEquals(2, hits.total());
+        // 同分按发布时间倒序
+        assertEquals(List.of(3L, 1L), hits.ids());
+    }
+
+    @Test
+    void search_shouldIntersectTokens() {
+        JobSearchIndex.Hits hits = index.search("singapore python", 0, 10);
+
+        assertEquals(List.of(3L), hits.ids());
+    }
+
+    @Test
+    void search_shouldPage() {
+        JobSearchIndex.Hits hits = index.search("singapore", 1, 1);
+
+        assertEquals(2, hits.total());
+        assertEquals(List.of(1L), hits.ids());
+    }
+
+    @Test
+    void searchByRecency_shouldOrderByPostedAtAndSeekPastCursor() {
+        assertEquals(List.of(3L), index.searchByRecency("singapore", Long.MAX_VALUE, Long.MAX_VALUE, 1));
+        assertEquals(List.of(1L), index.searchByRecency("singapore", 300L, 3L, 10));
+        assertTrue(index.searchByRecency("singapore", 100L, 1L, 10).isEmpty());
+    }
+
+    @Test
+    void upsertAndRemove_shouldKeepPostingsConsistent() {
+        index.upsert(new JobDocument(1L, 100L, "Go Developer", "Singapore", "OpenAI SG", null, List.of()));
+        assertTrue(index.search("java", 0, 10).ids().stream().noneMatch(id -> id == 1L));
+        assertEquals(List.of(1L), index.search("go", 0, 10).ids());
+
+        index.remove(1L);
+        assertTrue(index.search("go", 0, 10).ids().isEmpty());
+        assertEquals(2, index.size());
+    }
+}
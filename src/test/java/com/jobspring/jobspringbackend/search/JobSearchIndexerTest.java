@@ -0,0 +1,74 @@
+package com.jobspring.jobspringbackend.search;
+
+import com.jobspring.jobspringbackend.entity.Company;
+import com.jobspring.jobspringbackend.entity.Job;
+import com.jobspring.jobspringbackend.events.JobReplacedEvent;
+import com.jobspring.jobspringbackend.repository.JobRepository;
+import com.jobspring.jobspringbackend.repository.SkillRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JobSearchIndexerTest {
+
+    @Mock private JobRepository jobRepository;
+    @Mock private SkillRepository skillRepository;
+
+    private JobSearchIndex index;
+    private JobSearchIndexer indexer;
+
+    @BeforeEach
+    void setup() {
+        index = new JobSearchIndex();
+        indexer = new JobSearchIndexer(jobRepository, skillRepository, index);
+        index.upsert(new JobDocument(1L, 0L, "Java Developer", "Singapore", "OpenAI SG", null, List.of()));
+    }
+
+    private Job job(Long id, String title, int status) {
+        Company c = new Company();
+        c.setId(10L);
+        c.setName("OpenAI SG");
+        Job j = new Job();
+        j.setId(id);
+        j.setTitle(title);
+        j.setStatus(status);
+        j.setCompany(c);
+        j.setPostedAt(LocalDateTime.now());
+        return j;
+    }
+
+    @Test
+    void flush_shouldWaitUntilIndexIsReady() {
+        indexer.on(new JobReplacedEvent(10L, 1L, 2L));
+
+        indexer.flush();
+
+        verifyNoInteractions(jobRepository);
+    }
+
+    @Test
+    void flush_shouldApplyReplacementAsOneBatch() {
+        index.markReady();
+        when(jobRepository.findByIdIn(anyCollection())).thenReturn(List.of(job(1L, "Java Developer", 1), job(2L, "Senior Java Developer", 0)));
+        when(skillRepository.findTagsByJobIds(List.of(2L))).thenReturn(List.of());
+
+        indexer.on(new JobReplacedEvent(10L, 1L, 2L));
+        indexer.flush();
+
+        assertEquals(List.of(2L), index.search("java", 0, 10).ids());
+        verify(jobRepository, times(1)).findByIdIn(anyCollection());
+
+        indexer.flush();
+        verifyNoMoreInteractions(jobRepository);
+    }
+}
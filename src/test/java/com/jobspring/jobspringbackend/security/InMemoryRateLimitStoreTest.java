@@ -0,0 +1,126 @@
+package com.jobspring.jobspringbackend.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemoryRateLimitStoreTest {
+
+    private final AtomicLong now = new AtomicLong(60_000L);
+    private InMemoryRateLimitStore store;
+
+    @BeforeEach
+    void setup() {
+        store = new InMemoryRateLimitStore(now::get);
+    }
+
+    @Test
+    void tryAcquire_shouldRejectOnceLimitReached() {
+        Duration minute = Duration.ofMinutes(1);
+
+        assertTrue(store.tryAcquire("k", 2, minute));
+        assertTrue(store.tryAcquire("k", 2, minute));
+        assertFalse(store.tryAcquire("k", 2, minute));
+        // 不同 key 互不影响
+        assertTrue(store.tryAcquire("other", 2, minute));
+    }
+
+    @Test
+    void tryAcquire_shouldWeighPreviousWindow() {
+        Duration minute = Duration.ofMinutes(1);
+        store.tryAcquire("k", 2, minute);
+        store.tryAcquire("k", 2, minute);
+
+        now.addAndGet(60_000L + 15_000L);      // 上一窗口还占 75%，折算 1.5 次
+        assertTrue(store.tryAcquire("k", 2, minute));
+        assertFalse(store.tryAcquire("k", 2, minute));
+
+        now.addAndGet(30_000L);                // 只占 25%，折算 0.5 次，加上本窗口 1 次
+        assertTrue(store.tryAcquire("k", 2, minute));
+        assertFalse(store.tryAcquire("k", 2, minute));
+    }
+
+    @Test
+    void tryAcquire_shouldResetAfterTwoWindows() {
+        Duration minute = Duration.ofMinutes(1);
+        store.tryAcquire("k", 1, minute);
+        assertFalse(store.tryAcquire("k", 1, minute));
+
+        now.addAndGet(120_000L);
+        assertTrue(store.tryAcquire("k", 1, minute));
+    }
+
+    @Test
+    void tryCooldown_shouldHoldFullDurationAcrossWindowBoundary() {
+        Duration cooldown = Duration.ofSeconds(60);
+        now.set(119_999L);                     // 距下一个 60s 窗口边界只剩 1ms
+
+        assertTrue(store.tryCooldown("c", cooldown));
+        now.addAndGet(2L);
+        assertFalse(store.tryCooldown("c", cooldown));
+        now.addAndGet(59_990L);
+        assertFalse(store.tryCooldown("c", cooldown));
+        now.addAndGet(8L);                     // 恰好 60s
+        assertTrue(store.tryCooldown("c", cooldown));
+    }
+
+    @Test
+    void wouldAcquire_shouldNotCount() {
+        Duration minute = Duration.ofMinutes(1);
+
+        assertTrue(store.wouldAcquire("k", 1, minute));
+        assertTrue(store.wouldAcquire("k", 1, minute));
+        assertTrue(store.tryAcquire("k", 1, minute));
+        assertFalse(store.wouldAcquire("k", 1, minute));
+    }
+
+    @Test
+    void evictIdle_shouldDropStaleKeys() {
+        store.tryAcquire("old", 5, Duration.ofMinutes(1));
+        now.addAndGet(90_000L);
+        store.tryAcquire("fresh", 5, Duration.ofMinutes(1));
+
+        now.addAndGet(60_000L);
+        store.evictIdle();
+
+        assertEquals(1, store.size());
+    }
+
+    @Test
+    void evictIdle_shouldDropExpiredCooldowns() {
+        store.tryCooldown("old", Duration.ofSeconds(60));
+        now.addAndGet(30_000L);
+        store.tryCooldown("fresh", Duration.ofSeconds(60));
+
+        now.addAndGet(30_000L);
+        store.evictIdle();
+
+        assertEquals(1, store.size());
+    }
+
+    @Test
+    void tryAcquire_shouldNotOvercountUnderContention() throws Exception {
+        Duration hour = Duration.ofHours(1);
+        Thread[] threads = new Thread[8];
+        AtomicLong granted = new AtomicLong();
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(() -> {
+                for (int j = 0; j < 100; j++) {
+                    if (store.tryAcquire("hot", 250, hour)) {
+                        granted.incrementAndGet();
+                    }
+                }
+            });
+            threads[i].start();
+        }
+        for (Thread t : threads) {
+            t.join();
+        }
+
+        assertEquals(250, granted.get());
+    }
+}
@@ -0,0 +1,68 @@
+package com.jobspring.jobspringbackend.security;
+
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.Authentication;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtServiceTest {
+
+    private static final String SECRET = "x4TgLq9z!mR2@N7uV6jYpQ0sWcE#Hb1KdFZt3XyG";
+
+    private JwtService service;
+
+    @BeforeEach
+    void setup() {
+        service = new JwtService(SECRET, 2, 600);
+    }
+
+    @Test
+    void authenticate_shouldBuildPrincipalFromClaims() {
+        String token = service.generateToken(42L, "a@b.com", 1);
+
+        Authentication auth = service.authenticate(token);
+
+        assertEquals("42", auth.getPrincipal());
+        assertEquals("a@b.com", auth.getDetails());
+        assertEquals(RoleMapper.toRoleName(1), auth.getAuthorities().iterator().next().getAuthority());
+        assertTrue(auth.isAuthenticated());
+    }
+
+    @Test
+    void authenticate_shouldReuseVerifiedToken() {
+        String token = service.generateToken(42L, "a@b.com", 1);
+
+        assertSame(service.authenticate(token), service.authenticate(token));
+    }
+
+    @Test
+    void authenticate_shouldEvictLeastRecentlyUsed() {
+        String t1 = service.generateToken(1L, "1@b.com", 0);
+        String t2 = service.generateToken(2L, "2@b.com", 0);
+        String t3 = service.generateToken(3L, "3@b.com", 0);
+
+        Authentication first = service.authenticate(t1);
+        service.authenticate(t2);
+        service.authenticate(t3);              // 容量为 2，t1 被淘汰
+
+        assertNotSame(first, service.authenticate(t1));
+    }
+
+    @Test
+    void authenticate_shouldNotCacheWhenTtlIsZero() {
+        JwtService noCache = new JwtService(SECRET, 10, 0);
+        String token = noCache.generateToken(42L, "a@b.com", 1);
+
+        assertNotSame(noCache.authenticate(token), noCache.authenticate(token));
+    }
+
+    @Test
+    void authenticate_shouldRejectForeignSignature() {
+        String foreign = new JwtService("another-secret-that-is-long-enough-for-hs256", 10, 600)
+                .generateToken(42L, "a@b.com", 1);
+
+        assertThrows(JwtException.class, () -> service.authenticate(foreign));
+    }
+}
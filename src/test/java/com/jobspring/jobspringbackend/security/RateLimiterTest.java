@@ -0,0 +1,59 @@
+package com.jobspring.jobspringbackend.security;
+
+import com.jobspring.jobspringbackend.exception.BizException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimiterTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+    private RateLimiter limiter;
+
+    @BeforeEach
+    void setup() {
+        limiter = new RateLimiter(new InMemoryRateLimitStore(now::get));
+        ReflectionTestUtils.setField(limiter, "cooldownSeconds", 60);
+        ReflectionTestUtils.setField(limiter, "dailyLimit", 10);
+        ReflectionTestUtils.setField(limiter, "sendCodePerIpPerHour", 2);
+        ReflectionTestUtils.setField(limiter, "loginWindowSeconds", 300);
+        ReflectionTestUtils.setField(limiter, "loginPerEmail", 1);
+        ReflectionTestUtils.setField(limiter, "loginPerIp", 5);
+    }
+
+    @Test
+    void checkSendCode_cooldownRejectionShouldNotChargeIpBudget() {
+        limiter.checkSendCode("a@x.com", "1.1.1.1");
+        // 冷却中的重复请求被拒绝，但不占用 IP 每小时额度
+        for (int i = 0; i < 5; i++) {
+            assertThrows(BizException.class, () -> limiter.checkSendCode("a@x.com", "1.1.1.1"));
+        }
+
+        limiter.checkSendCode("b@x.com", "1.1.1.1");
+        assertThrows(BizException.class, () -> limiter.checkSendCode("c@x.com", "1.1.1.1"));
+    }
+
+    @Test
+    void checkSendCode_shouldEnforceCooldownAcrossWindowBoundary() {
+        now.set(119_999L);
+        limiter.checkSendCode("a@x.com", "1.1.1.1");
+
+        now.addAndGet(2L);
+        assertThrows(BizException.class, () -> limiter.checkSendCode("a@x.com", "1.1.1.2"));
+    }
+
+    @Test
+    void checkLogin_accountRejectionShouldNotChargeIpBudget() {
+        limiter.checkLogin("a@x.com", "1.1.1.1");
+        for (int i = 0; i < 10; i++) {
+            assertThrows(BizException.class, () -> limiter.checkLogin("a@x.com", "1.1.1.1"));
+        }
+
+        // IP 只计了第一次，还能登录别的账号
+        limiter.checkLogin("b@x.com", "1.1.1.1");
+    }
+}
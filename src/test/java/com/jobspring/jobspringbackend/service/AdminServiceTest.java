@@ -11,7 +11,6 @@ import com.jobspring.jobspringbackend.entity.User;
 import com.jobspring.jobspringbackend.repository.CompanyMemberRepository;
 import com.jobspring.jobspringbackend.repository.CompanyRepository;
 import com.jobspring.jobspringbackend.repository.JobRepository;
-import com.jobspring.jobspringbackend.repository.SkillRepository;
 import com.jobspring.jobspringbackend.repository.UserRepository;
 import com.jobspring.jobspringbackend.repository.spec.UserSpecs;
 import jakarta.persistence.EntityNotFoundException;
@@ -26,6 +25,7 @@ import org.springframework.data.domain.*;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -37,7 +37,7 @@ import org.springframework.data.jpa.domain.Specification;
 class AdminServiceTest {
 
     @Mock JobRepository jobRepository;
-    @Mock SkillRepository skillRepository;
+    @Mock JobTagService jobTagService;
     @Mock UserRepository userRepository;
     @Mock CompanyRepository companyRepository;
     @Mock CompanyMemberRepository companyMemberRepository;
@@ -78,8 +78,8 @@ class AdminServiceTest {
 
         when(jobRepository.adminSearchJobs(eq("java"), any()))
                 .thenReturn(new PageImpl<>(List.of(j), pageable, 1));
-        when(skillRepository.findSkillNamesByJobId(123L))
-                .thenReturn(List.of("Spring", "Docker"));
+        when(jobTagService.tagsFor(List.of(123L)))
+                .thenReturn(Map.of(123L, List.of("Spring", "Docker")));
 
         Page<JobDTO> page = adminService.searchJobs("java", pageable);
 
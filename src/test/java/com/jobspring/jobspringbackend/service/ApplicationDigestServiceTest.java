@@ -0,0 +1,126 @@
+package com.jobspring.jobspringbackend.service;
+
+import com.jobspring.jobspringbackend.events.ApplicationSubmittedEvent;
+import com.jobspring.jobspringbackend.repository.CompanyMemberRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ApplicationDigestServiceTest {
+
+    @Mock
+    private CompanyMemberRepository companyMembers;
+
+    @Mock
+    private MailOutboxService mailOutbox;
+
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+
+    private ApplicationDigestService service(long windowSeconds) {
+        return new ApplicationDigestService(companyMembers, mailOutbox, windowSeconds, now::get);
+    }
+
+    private ApplicationSubmittedEvent event(Long appId, Long companyId) {
+        return new ApplicationSubmittedEvent(appId, 10L, companyId, "Java Developer", 7L, "Alice", "alice@x.com");
+    }
+
+    @Test
+    void isImmediate_shouldFollowWindow() {
+        assertTrue(service(0).isImmediate());
+        assertFalse(service(300).isImmediate());
+    }
+
+    @Test
+    void submit_withoutWindow_shouldNotifyImmediately() {
+        when(companyMembers.findHrEmailsByCompanyId(1L)).thenReturn(List.of("hr1@x.com", "hr2@x.com"));
+
+        service(0).submit(event(100L, 1L));
+
+        verify(mailOutbox).enqueueAll(eq(List.of("hr1@x.com", "hr2@x.com")),
+                eq("[JobSpring] New application for Java Developer"), contains("Application ID: 100"));
+    }
+
+    @Test
+    void flushDue_shouldSendOneDigestPerCompanyAfterWindow() {
+        ApplicationDigestService service = service(300);
+        when(companyMembers.findHrEmailsByCompanyId(1L)).thenReturn(List.of("hr@x.com"));
+
+        service.submit(event(100L, 1L));
+        service.submit(event(101L, 1L));
+        service.submit(event(102L, 1L));
+
+        service.flushDue();
+        verifyNoInteractions(mailOutbox);
+
+        now.addAndGet(300_000L);
+        service.flushDue();
+
+        ArgumentCaptor<String> body = ArgumentCaptor.forClass(String.class);
+        verify(mailOutbox, times(1)).enqueueAll(eq(List.of("hr@x.com")), eq("[JobSpring] 3 new applications"), body.capture());
+        assertTrue(body.getValue().contains("Application ID: 100"));
+        assertTrue(body.getValue().contains("Application ID: 102"));
+        assertEquals(0, service.pendingCompanies());
+    }
+
+    @Test
+    void flushDue_shouldKeepCompaniesWhoseWindowIsStillOpen() {
+        ApplicationDigestService service = service(300);
+        when(companyMembers.findHrEmailsByCompanyId(1L)).thenReturn(List.of("hr1@x.com"));
+
+        service.submit(event(100L, 1L));
+        now.addAndGet(200_000L);
+        service.submit(event(200L, 2L));
+        now.addAndGet(100_000L);
+        service.flushDue();
+
+        verify(mailOutbox).enqueueAll(eq(List.of("hr1@x.com")), contains("New application"), anyString());
+        verify(companyMembers, never()).findHrEmailsByCompanyId(2L);
+        assertEquals(1, service.pendingCompanies());
+    }
+
+    @Test
+    void flushDue_shouldCapDigestBodyForLargeBuckets() {
+        ApplicationDigestService service = service(300);
+        when(companyMembers.findHrEmailsByCompanyId(1L)).thenReturn(List.of("hr@x.com"));
+
+        for (long id = 1; id <= 2000; id++) {
+            service.submit(event(id, 1L));
+        }
+        now.addAndGet(300_000L);
+        service.flushDue();
+
+        ArgumentCaptor<String> body = ArgumentCaptor.forClass(String.class);
+        verify(mailOutbox).enqueueAll(eq(List.of("hr@x.com")), eq("[JobSpring] 2000 new applications"), body.capture());
+        String text = body.getValue();
+        // mail_outbox.body 是 TEXT，上限 64KB
+        assertTrue(text.getBytes(StandardCharsets.UTF_8).length < 65_535);
+        assertTrue(text.contains("Application ID: " + ApplicationDigestService.MAX_DIGEST_LINES + System.lineSeparator()));
+        assertFalse(text.contains("Application ID: " + (ApplicationDigestService.MAX_DIGEST_LINES + 1)));
+        assertTrue(text.contains("...and " + (2000 - ApplicationDigestService.MAX_DIGEST_LINES) + " more"));
+    }
+
+    @Test
+    void flushAll_shouldDrainEverythingAndIsolateFailures() {
+        ApplicationDigestService service = service(300);
+        when(companyMembers.findHrEmailsByCompanyId(1L)).thenThrow(new IllegalStateException("db down"));
+        when(companyMembers.findHrEmailsByCompanyId(2L)).thenReturn(List.of("hr2@x.com"));
+
+        service.submit(event(100L, 1L));
+        service.submit(event(200L, 2L));
+        service.flushAll();
+
+        verify(mailOutbox).enqueueAll(eq(List.of("hr2@x.com")), anyString(), anyString());
+        assertEquals(0, service.pendingCompanies());
+    }
+}
@@ -0,0 +1,98 @@
+package com.jobspring.jobspringbackend.service;
+
+import com.jobspring.jobspringbackend.dto.InvalidationProgress;
+import com.jobspring.jobspringbackend.events.ApplicationsInvalidatedEvent;
+import com.jobspring.jobspringbackend.events.JobDeactivatedEvent;
+import com.jobspring.jobspringbackend.repository.ApplicationRepository;
+import com.jobspring.jobspringbackend.repository.projection.ApplicationRefView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ApplicationInvalidationJobTest {
+
+    @Mock
+    private ApplicationRepository applicationRepository;
+    @Mock
+    private NotificationService notifications;
+    @Mock
+    private ApplicationEventPublisher publisher;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ApplicationInvalidationJob job;
+
+    private final JobDeactivatedEvent event = new JobDeactivatedEvent(10L, 99L, "Java Developer");
+
+    @BeforeEach
+    void setup() {
+        job = new ApplicationInvalidationJob(applicationRepository, notifications, publisher, transactionManager, 2, 60);
+    }
+
+    private ApplicationRefView ref(Long id, Long userId) {
+        return new SpelAwareProxyProjectionFactory().createProjection(ApplicationRefView.class, Map.of("id", id, "userId", userId));
+    }
+
+    @Test
+    void run_shouldInvalidateInIdRangedChunks() {
+        when(applicationRepository.countByJobIdAndStatusNot(99L, 4)).thenReturn(3L);
+        when(applicationRepository.findRefsByJobIdAndStatusNot(99L, 0L, 4, PageRequest.of(0, 2)))
+                .thenReturn(List.of(ref(1L, 31L), ref(5L, 32L)));
+        when(applicationRepository.findRefsByJobIdAndStatusNot(99L, 5L, 4, PageRequest.of(0, 2)))
+                .thenReturn(List.of(ref(8L, 33L)));
+        when(applicationRepository.findRefsByJobIdAndStatusNot(99L, 8L, 4, PageRequest.of(0, 2)))
+                .thenReturn(List.of());
+        when(applicationRepository.updateStatusByIds(anyCollection(), eq(4))).thenAnswer(inv -> ((List<?>) inv.getArgument(0)).size());
+
+        assertEquals(3, job.run(event));
+
+        verify(applicationRepository).updateStatusByIds(List.of(1L, 5L), 4);
+        verify(applicationRepository).updateStatusByIds(List.of(8L), 4);
+        verify(notifications).createEach(eq(List.of(new NotificationService.Recipient(31L, 1L), new NotificationService.Recipient(32L, 5L))),
+                eq(NotificationService.APPLICATION_STATUS), contains("Java Developer"));
+        verify(publisher).publishEvent(new ApplicationsInvalidatedEvent(10L, 99L, List.of(33L)));
+        verify(transactionManager, times(2)).commit(any());
+
+        InvalidationProgress p = job.progress(10L, 99L).orElseThrow();
+        assertEquals("DONE", p.state());
+        assertEquals(3, p.processed());
+        assertNotNull(p.finishedAt());
+    }
+
+    @Test
+    void run_shouldRecordFailure() {
+        when(applicationRepository.countByJobIdAndStatusNot(99L, 4)).thenReturn(2L);
+        when(applicationRepository.findRefsByJobIdAndStatusNot(eq(99L), eq(0L), eq(4), any()))
+                .thenReturn(List.of(ref(1L, 31L)));
+        when(applicationRepository.updateStatusByIds(anyCollection(), eq(4))).thenThrow(new IllegalStateException("lock timeout"));
+
+        assertThrows(IllegalStateException.class, () -> job.run(event));
+
+        assertEquals("FAILED", job.progress(10L, 99L).orElseThrow().state());
+    }
+
+    @Test
+    void progress_shouldBeScopedToCompany() {
+        when(applicationRepository.countByJobIdAndStatusNot(99L, 4)).thenReturn(0L);
+        when(applicationRepository.findRefsByJobIdAndStatusNot(anyLong(), anyLong(), anyInt(), any())).thenReturn(List.of());
+
+        job.run(event);
+
+        assertTrue(job.progress(10L, 99L).isPresent());
+        assertTrue(job.progress(11L, 99L).isEmpty());
+    }
+}
@@ -5,6 +5,9 @@ import com.jobspring.jobspringbackend.dto.ApplicationDetailResponse;
 import com.jobspring.jobspringbackend.entity.*;
 import com.jobspring.jobspringbackend.events.ApplicationSubmittedEvent;
 import com.jobspring.jobspringbackend.repository.*;
+import com.jobspring.jobspringbackend.storage.ResumeDownload;
+import com.jobspring.jobspringbackend.storage.StoredFile;
+import com.jobspring.jobspringbackend.storage.ResumeStorage;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -15,7 +18,9 @@ import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.ByteArrayInputStream;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.time.LocalDateTime;
 import java.util.Optional;
 
@@ -40,6 +45,7 @@ class ApplicationServiceTest {
     @Mock CompanyMemberRepository memberRepo;
     @Mock HrCompanyService hrCompanyService; // 本类中未用到，但构造器需要
     @Mock ApplicationEventPublisher publisher;
+    @Mock ResumeStorage resumeStorage;
 
 
     private Job jobValid;
@@ -97,7 +103,7 @@ class ApplicationServiceTest {
 
 
     @Test
-    void apply_usesUploadedFileBase64_whenNoProfileFileUrl() throws Exception {
+    void apply_storesUploadedFile_whenNoProfileFileUrl() throws Exception {
         // ✅ mock user
         User userBasic = mock(User.class);
         when(userBasic.getId()).thenReturn(20L);
@@ -111,8 +117,10 @@ class ApplicationServiceTest {
 
         MultipartFile file = mock(MultipartFile.class);
         when(file.getContentType()).thenReturn("application/pdf");
-        when(file.getBytes()).thenReturn("PDFDATA".getBytes(StandardCharsets.UTF_8));
+        when(file.getInputStream()).thenReturn(new ByteArrayInputStream("PDFDATA".getBytes(StandardCharsets.UTF_8)));
         when(file.isEmpty()).thenReturn(false);
+        String key = "a".repeat(64);
+        when(resumeStorage.store(any())).thenReturn(new ResumeStorage.StoredResume(key, 7L));
 
         when(appRepo.save(any(Application.class))).thenAnswer(inv -> {
             Application a = inv.getArgument(0);
@@ -126,7 +134,11 @@ class ApplicationServiceTest {
         Long id = service.apply(10L, 20L, dto, file);
 
         assertEquals(999L, id);
-        verify(appRepo).save(any(Application.class));
+        ArgumentCaptor<Application> saved = ArgumentCaptor.forClass(Application.class);
+        verify(appRepo).save(saved.capture());
+        assertEquals("sha256:" + key, saved.getValue().getResumeUrl());
+        assertEquals("application/pdf", saved.getValue().getResumeContentType());
+        verify(file, never()).getBytes();
         verify(publisher).publishEvent(any(ApplicationSubmittedEvent.class));
     }
 
@@ -205,7 +217,7 @@ class ApplicationServiceTest {
 
         assertEquals(700L, r.getId());
         assertEquals("p", r.getResumeProfile());
-        assertEquals("u", r.getResumeUrl());
+        assertEquals("/api/applications/700/resume", r.getResumeUrl());
         assertEquals(20L, r.getApplicantId());
     }
 
@@ -244,6 +256,82 @@ class ApplicationServiceTest {
                 () -> service.getApplicationDetailForCompanyMember(20L, 702L));
     }
 
+    // =============== resume 下载 =================
+
+    @Test
+    void openResume_allowsApplicant_andExposesDownloadLink() {
+        String key = "b".repeat(64);
+        Application app = new Application();
+        app.setId(703L);
+        app.setJob(jobValid);
+        app.setUser(userBasic);
+        app.setResumeUrl("sha256:" + key);
+        app.setResumeContentType("application/pdf");
+
+        when(appRepo.findByIdWithJobAndCompany(703L)).thenReturn(Optional.of(app));
+        when(resumeStorage.resolve(key)).thenReturn(Path.of("/tmp", key));
+
+        StoredFile f = service.openResume(20L, 703L).file();
+
+        assertEquals(key, f.sha256());
+        assertEquals("application/pdf", f.contentType());
+        verify(memberRepo, never()).findCompanyIdByHrUserId(any());
+    }
+
+    @Test
+    void openResume_migratesInlineDataUrlOnFirstDownload() {
+        String key = "d".repeat(64);
+        String dataUrl = "data:application/pdf;base64,UERGREFUQQ==";
+        Application app = new Application();
+        app.setId(705L);
+        app.setJob(jobValid);
+        app.setUser(userBasic);
+        app.setResumeUrl(dataUrl);
+
+        when(appRepo.findByIdWithJobAndCompany(705L)).thenReturn(Optional.of(app));
+        ResumeStorage.StoredResume stored = new ResumeStorage.StoredResume(key, 7L);
+        when(resumeStorage.storeDataUrl(dataUrl)).thenReturn(stored);
+        when(resumeStorage.verify(stored)).thenReturn(true);
+        when(resumeStorage.resolve(key)).thenReturn(Path.of("/tmp", key));
+
+        ResumeDownload d = service.openResume(20L, 705L);
+
+        assertEquals(key, d.file().sha256());
+        assertEquals("sha256:" + key, app.getResumeUrl());
+        assertEquals("application/pdf", app.getResumeContentType());
+    }
+
+    @Test
+    void openResume_redirectsToExternalProfileLink() {
+        Application app = new Application();
+        app.setId(706L);
+        app.setJob(jobValid);
+        app.setUser(userBasic);
+        app.setResumeUrl("https://cdn.example.com/resume.pdf");
+
+        when(appRepo.findByIdWithJobAndCompany(706L)).thenReturn(Optional.of(app));
+
+        ResumeDownload d = service.openResume(20L, 706L);
+
+        assertNull(d.file());
+        assertEquals("https://cdn.example.com/resume.pdf", d.redirectUrl());
+    }
+
+    @Test
+    void openResume_denied_forOtherCompanyHr() {
+        Application app = new Application();
+        app.setId(704L);
+        app.setJob(jobValid);
+        app.setUser(userBasic);
+        app.setResumeUrl("sha256:" + "c".repeat(64));
+
+        when(appRepo.findByIdWithJobAndCompany(704L)).thenReturn(Optional.of(app));
+        when(memberRepo.findCompanyIdByHrUserId(30L)).thenReturn(Optional.of(999L));
+
+        assertThrows(AccessDeniedException.class, () -> service.openResume(30L, 704L));
+        verify(resumeStorage, never()).resolve(any());
+    }
+
     // --------- helper ---------
 
     private ApplicationDTO dto(String profile) {
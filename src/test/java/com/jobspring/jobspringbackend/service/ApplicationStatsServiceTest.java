@@ -0,0 +1,116 @@
+package com.jobspring.jobspringbackend.service;
+
+import com.jobspring.jobspringbackend.dto.FunnelStatsResponse;
+import com.jobspring.jobspringbackend.dto.JobFunnelStats;
+import com.jobspring.jobspringbackend.events.ApplicationStatusBatchChangedEvent;
+import com.jobspring.jobspringbackend.events.ApplicationStatusChangedEvent;
+import com.jobspring.jobspringbackend.events.ApplicationSubmittedEvent;
+import com.jobspring.jobspringbackend.events.ApplicationsInvalidatedEvent;
+import com.jobspring.jobspringbackend.repository.ApplicationRepository;
+import com.jobspring.jobspringbackend.repository.projection.JobStatusCountView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ApplicationStatsServiceTest {
+
+    @Mock
+    private ApplicationRepository applicationRepository;
+
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+    private ApplicationStatsService service;
+
+    @BeforeEach
+    void setup() {
+        service = new ApplicationStatsService(applicationRepository, 300, now::get);
+    }
+
+    private JobStatusCountView row(Long jobId, String title, Integer status, long total) {
+        Map<String, Object> m = new HashMap<>();
+        m.put("jobId", jobId);
+        m.put("jobTitle", title);
+        m.put("status", status);
+        m.put("total", total);
+        return new SpelAwareProxyProjectionFactory().createProjection(JobStatusCountView.class, m);
+    }
+
+    private void stubCounts() {
+        when(applicationRepository.countFunnelByCompanyId(10L)).thenReturn(List.of(
+                row(1L, "Java Developer", 0, 4),
+                row(1L, "Java Developer", 3, 2),
+                row(2L, "Data Analyst", null, 0)));
+    }
+
+    @Test
+    void funnel_shouldLoadOnceAndGroupByJob() {
+        stubCounts();
+
+        FunnelStatsResponse first = service.funnel(10L);
+        service.funnel(10L);
+
+        assertEquals(List.of(
+                new JobFunnelStats(2L, "Data Analyst", 0, 0, 0, 0, 0),
+                new JobFunnelStats(1L, "Java Developer", 4, 0, 0, 2, 0)), first.jobs());
+        assertEquals(new JobFunnelStats(null, null, 4, 0, 0, 2, 0), first.total());
+        verify(applicationRepository, times(1)).countFunnelByCompanyId(10L);
+    }
+
+    @Test
+    void events_shouldMoveCountsBetweenStatuses() {
+        stubCounts();
+        service.funnel(10L);
+
+        service.on(new ApplicationSubmittedEvent(100L, 2L, 10L, "Data Analyst", 30L, "Alice", "a@x.com"));
+        service.on(new ApplicationStatusChangedEvent(101L, 10L, 1L, 31L, "Java Developer", 0, 1));
+        service.on(new ApplicationStatusBatchChangedEvent(10L, List.of(
+                new ApplicationStatusChangedEvent(102L, 10L, 1L, 32L, "Java Developer", 0, 2),
+                new ApplicationStatusChangedEvent(103L, 10L, 1L, 33L, "Java Developer", 0, 3))));
+
+        FunnelStatsResponse stats = service.funnel(10L);
+        assertEquals(new JobFunnelStats(1L, "Java Developer", 1, 1, 1, 3, 0), stats.jobs().get(1));
+        assertEquals(new JobFunnelStats(2L, "Data Analyst", 1, 0, 0, 0, 0), stats.jobs().get(0));
+        verify(applicationRepository, times(1)).countFunnelByCompanyId(10L);
+    }
+
+    @Test
+    void invalidation_shouldDropCachedFunnel() {
+        stubCounts();
+        service.funnel(10L);
+
+        service.on(new ApplicationsInvalidatedEvent(10L, 1L, List.of(30L)));
+        service.funnel(10L);
+
+        verify(applicationRepository, times(2)).countFunnelByCompanyId(10L);
+    }
+
+    @Test
+    void reconcile_shouldReloadReadFunnelsAndDropIdleOnes() {
+        stubCounts();
+        when(applicationRepository.countFunnelByCompanyId(20L)).thenReturn(List.of());
+        service.funnel(10L);
+        service.funnel(20L);
+
+        now.addAndGet(200_000L);
+        service.funnel(10L);
+        now.addAndGet(200_000L);
+        service.reconcile();
+        service.funnel(10L);
+        service.funnel(20L);
+
+        // 10 被重新统计一次；20 长期未读被丢弃，再读时重新装入
+        verify(applicationRepository, times(2)).countFunnelByCompanyId(10L);
+        verify(applicationRepository, times(2)).countFunnelByCompanyId(20L);
+    }
+}
@@ -0,0 +1,156 @@
+package com.jobspring.jobspringbackend.service;
+
+import com.jobspring.jobspringbackend.dto.CompanyRatingDTO;
+import com.jobspring.jobspringbackend.entity.Application;
+import com.jobspring.jobspringbackend.entity.Company;
+import com.jobspring.jobspringbackend.entity.CompanyRating;
+import com.jobspring.jobspringbackend.entity.Job;
+import com.jobspring.jobspringbackend.entity.Review;
+import com.jobspring.jobspringbackend.repository.CompanyRatingRepository;
+import com.jobspring.jobspringbackend.repository.ReviewRepository;
+import com.jobspring.jobspringbackend.repository.projection.RatingCountView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CompanyRatingServiceTest {
+
+    @Mock
+    private CompanyRatingRepository ratingRepository;
+    @Mock
+    private ReviewRepository reviewRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private CompanyRatingService service;
+
+    @BeforeEach
+    void setup() {
+        service = new CompanyRatingService(ratingRepository, reviewRepository, transactionManager, false);
+    }
+
+    private Review review(Long companyId, Integer rating) {
+        Company company = new Company();
+        company.setId(companyId);
+        Job job = new Job();
+        job.setCompany(company);
+        Application app = new Application();
+        app.setJob(job);
+        Review r = new Review();
+        r.setApplication(app);
+        r.setRating(rating);
+        return r;
+    }
+
+    private RatingCountView count(Long companyId, int rating, long total) {
+        return new SpelAwareProxyProjectionFactory().createProjection(RatingCountView.class,
+                Map.of("companyId", companyId, "rating", rating, "total", total));
+    }
+
+    @Test
+    void recordApproved_shouldIncrementExistingRow() {
+        CompanyRating row = new CompanyRating();
+        row.setCompanyId(1L);
+        row.add(5, 2);
+        when(ratingRepository.existsById(1L)).thenReturn(true);
+        when(ratingRepository.lockByCompanyId(1L)).thenReturn(Optional.of(row));
+
+        service.recordApproved(review(1L, 3));
+
+        assertEquals(3L, row.getReviewCount());
+        assertEquals(13L, row.getRatingSum());
+        assertEquals(1L, row.getStars3());
+        verifyNoInteractions(reviewRepository);
+    }
+
+    @Test
+    void recordApproved_shouldRebuildWhenRowMissing() {
+        when(ratingRepository.existsById(1L)).thenReturn(false);
+        when(reviewRepository.countApprovedRatings(1L)).thenReturn(List.of(count(1L, 4, 2), count(1L, 1, 1)));
+        when(ratingRepository.insertIfAbsent(any())).thenReturn(1);
+
+        service.recordApproved(review(1L, 4));
+
+        ArgumentCaptor<CompanyRating> inserted = ArgumentCaptor.forClass(CompanyRating.class);
+        verify(ratingRepository).insertIfAbsent(inserted.capture());
+        assertEquals(3L, inserted.getValue().getReviewCount());
+        assertEquals(2L, inserted.getValue().getStars4());
+        verify(ratingRepository, never()).lockByCompanyId(any());
+    }
+
+    @Test
+    void recordApproved_shouldIncrementWhenConcurrentInsertWon() {
+        // 另一个事务抢先建好了汇总行，本事务的插入被忽略
+        CompanyRating row = new CompanyRating();
+        row.setCompanyId(1L);
+        row.add(5, 1);
+        when(ratingRepository.existsById(1L)).thenReturn(false);
+        when(reviewRepository.countApprovedRatings(1L)).thenReturn(List.of(count(1L, 4, 1)));
+        when(ratingRepository.insertIfAbsent(any())).thenReturn(0);
+        when(ratingRepository.lockByCompanyId(1L)).thenReturn(Optional.of(row));
+
+        service.recordApproved(review(1L, 4));
+
+        assertEquals(2L, row.getReviewCount());
+        assertEquals(1L, row.getStars4());
+        verify(ratingRepository, never()).save(any());
+    }
+
+    @Test
+    void recordApproved_shouldIgnoreMissingRating() {
+        service.recordApproved(review(1L, null));
+
+        verifyNoInteractions(ratingRepository);
+    }
+
+    @Test
+    void getRating_shouldReturnAverageAndHistogram() {
+        CompanyRating row = new CompanyRating();
+        row.setCompanyId(1L);
+        row.add(5, 2);
+        row.add(4, 1);
+        when(ratingRepository.findById(1L)).thenReturn(Optional.of(row));
+
+        CompanyRatingDTO dto = service.getRating(1L);
+
+        assertEquals(4.67, dto.average());
+        assertEquals(3, dto.reviewCount());
+        assertEquals(List.of(0L, 0L, 0L, 1L, 2L), dto.histogram());
+    }
+
+    @Test
+    void getRating_shouldBeEmptyWithoutReviews() {
+        when(ratingRepository.findById(2L)).thenReturn(Optional.empty());
+
+        CompanyRatingDTO dto = service.getRating(2L);
+
+        assertEquals(0.0, dto.average());
+        assertEquals(0, dto.reviewCount());
+    }
+
+    @Test
+    void backfill_shouldCreateOnlyMissingRows() {
+        when(reviewRepository.countApprovedRatings(null)).thenReturn(List.of(count(1L, 5, 3), count(2L, 2, 1)));
+        // 公司 1 已有汇总行，插入被忽略
+        when(ratingRepository.insertIfAbsent(any())).thenAnswer(inv -> inv.<CompanyRating>getArgument(0).getCompanyId().equals(2L) ? 1 : 0);
+
+        assertEquals(1, service.backfill());
+
+        verify(ratingRepository).insertIfAbsent(argThat((CompanyRating r) -> r.getCompanyId().equals(2L) && r.getStars2() == 1L));
+        verify(ratingRepository, never()).save(any());
+    }
+}
@@ -9,6 +9,9 @@ import com.jobspring.jobspringbackend.exception.ErrorCode;
 import com.jobspring.jobspringbackend.repository.CompanyRepository;
 import com.jobspring.jobspringbackend.repository.JobRepository;
 import com.jobspring.jobspringbackend.repository.ReviewRepository;
+import com.jobspring.jobspringbackend.repository.projection.CompanyReviewView;
+import com.jobspring.jobspringbackend.repository.projection.CompanySummaryView;
+import com.jobspring.jobspringbackend.repository.projection.JobRowView;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -16,10 +19,14 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.*;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -36,6 +43,7 @@ class CompanyServiceTest {
     private CompanyService service;
 
     private Company company;
+    private final ProjectionFactory projections = new SpelAwareProxyProjectionFactory();
 
     @BeforeEach
     void setup() {
@@ -72,88 +80,84 @@ class CompanyServiceTest {
 
     @Test
     void getAllCompanies_returnsPage() {
-        Page<Company> mockPage = new PageImpl<>(List.of(company));
-        when(companyRepository.findAll(any(Pageable.class))).thenReturn(mockPage);
+        CompanySummaryView summary = projections.createProjection(CompanySummaryView.class,
+                Map.of("id", 1L, "name", "OpenAI SG", "description", "AI Research"));
+        when(companyRepository.findAllSummaries(any(Pageable.class))).thenReturn(new PageImpl<>(List.of(summary)));
 
         Page<CompanyDTO> page = service.getAllCompanies(PageRequest.of(0, 10));
 
         assertEquals(1, page.getTotalElements());
         assertEquals("OpenAI SG", page.getContent().get(0).getName());
+        assertEquals("AI Research", page.getContent().get(0).getDescription());
+        verify(companyRepository, never()).findAll(any(Pageable.class));
     }
 
     // ========== listCompanyJobs ==========
 
     @Test
     void listCompanyJobs_withStatus() {
-        Job job = new Job();
-        job.setId(10L);
-        job.setTitle("Java Developer");
-        job.setLocation("Singapore");
-        job.setEmploymentType(1);
-        job.setSalaryMin(BigDecimal.valueOf(5000));
-        job.setSalaryMax(BigDecimal.valueOf(10000));
-        job.setDescription("Develop AI tools");
-        job.setStatus(0);
-        job.setCompany(company);
-        job.setPostedAt(LocalDateTime.now());
-
-        Page<Job> mockPage = new PageImpl<>(List.of(job));
-        when(jobRepository.findByCompanyIdAndStatus(1L, 0, PageRequest.of(0, 5)))
+        Map<String, Object> row = new HashMap<>();
+        row.put("id", 10L);
+        row.put("companyId", 1L);
+        row.put("title", "Java Developer");
+        row.put("location", "Singapore");
+        row.put("employmentType", 1);
+        row.put("salaryMin", BigDecimal.valueOf(5000));
+        row.put("salaryMax", BigDecimal.valueOf(10000));
+        row.put("description", "Develop AI tools");
+        row.put("status", 0);
+        row.put("postedAt", LocalDateTime.now());
+
+        Page<JobRowView> mockPage = new PageImpl<>(List.of(projections.createProjection(JobRowView.class, row)));
+        when(jobRepository.findCompanyJobRows(1L, 0, PageRequest.of(0, 5)))
                 .thenReturn(mockPage);
 
         Page<JobResponse> result = service.listCompanyJobs(1L, 0, PageRequest.of(0, 5));
 
         assertEquals(1, result.getTotalElements());
         assertEquals("Java Developer", result.getContent().get(0).getTitle());
+        assertEquals("Develop AI tools", result.getContent().get(0).getDescription());
+        assertEquals(1L, result.getContent().get(0).getCompanyId());
     }
 
     @Test
     void listCompanyJobs_withoutStatus() {
-        Company company = new Company();
-        company.setId(1L);
+        JobRowView job = projections.createProjection(JobRowView.class,
+                Map.of("id", 10L, "companyId", 1L, "title", "Java Developer", "status", 0));
 
-        Job job = new Job();
-        job.setId(10L);
-        job.setTitle("Java Developer");
-        job.setCompany(company); // ✅ 必须加这行
-        job.setStatus(0);
+        Page<JobRowView> mockPage = new PageImpl<>(List.of(job));
 
-        Page<Job> mockPage = new PageImpl<>(List.of(job));
-
-        when(jobRepository.findByCompanyId(1L, PageRequest.of(0, 5)))
+        when(jobRepository.findCompanyJobRows(1L, null, PageRequest.of(0, 5)))
                 .thenReturn(mockPage);
 
         Page<JobResponse> result = service.listCompanyJobs(1L, null, PageRequest.of(0, 5));
 
         assertEquals(1, result.getTotalElements());
         assertEquals("Java Developer", result.getContent().get(0).getTitle());
-        verify(jobRepository).findByCompanyId(1L, PageRequest.of(0, 5));
+        verify(jobRepository).findCompanyJobRows(1L, null, PageRequest.of(0, 5));
     }
 
 
     @Test
     void getCompanyReviews_success() {
-        Review review = new Review();
-        review.setId(300L);
-        review.setTitle("Good company");
-        review.setContent("Great environment");
-        review.setRating(5);
-        review.setPublicAt(LocalDateTime.now());
-        review.setImageUrl("img.png");
-        review.setStatus(1);
-
-        Application app = new Application();
-        Job job = new Job();
-        job.setCompany(company);
-        app.setJob(job);
-        review.setApplication(app);
-
-        Page<Review> mockPage = new PageImpl<>(List.of(review));
-        when(reviewRepository.findByCompanyId(1L, PageRequest.of(0, 10))).thenReturn(mockPage);
+        Map<String, Object> review = new HashMap<>();
+        review.put("reviewId", 300L);
+        review.put("companyId", 1L);
+        review.put("title", "Good company");
+        review.put("content", "Great environment");
+        review.put("rating", 5);
+        review.put("publicAt", LocalDateTime.now());
+        review.put("imageUrl", "img.png");
+        review.put("status", 1);
+
+        // 总数来自数据库的 count，而不是当前页的条数
+        Page<CompanyReviewView> mockPage = new PageImpl<>(List.of(projections.createProjection(CompanyReviewView.class, review)), PageRequest.of(0, 10), 25);
+        when(reviewRepository.findByCompanyIdAndStatus(1L, 1, PageRequest.of(0, 10))).thenReturn(mockPage);
 
         Page<CompanyReviewDTO> result = service.getCompanyReviews(1L, PageRequest.of(0, 10));
 
-        assertEquals(1, result.getTotalElements());
+        assertEquals(25, result.getTotalElements());
+        assertEquals(3, result.getTotalPages());
         assertEquals("Good company", result.getContent().get(0).getTitle());
         assertEquals(1L, result.getContent().get(0).getCompanyId());
     }
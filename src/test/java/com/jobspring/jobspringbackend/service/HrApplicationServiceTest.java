@@ -1,15 +1,22 @@
 package com.jobspring.jobspringbackend.service;
 
 import com.jobspring.jobspringbackend.dto.ApplicationBriefResponse;
+import com.jobspring.jobspringbackend.dto.ApplicationStatusResult;
 import com.jobspring.jobspringbackend.entity.*;
+import com.jobspring.jobspringbackend.events.ApplicationStatusBatchChangedEvent;
+import com.jobspring.jobspringbackend.events.ApplicationStatusChangedEvent;
 import com.jobspring.jobspringbackend.repository.ApplicationRepository;
+import com.jobspring.jobspringbackend.repository.projection.ApplicationBriefView;
+import com.jobspring.jobspringbackend.repository.projection.ApplicationStatusView;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.*;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 import org.springframework.security.access.AccessDeniedException;
 
 import java.time.LocalDateTime;
@@ -28,6 +35,9 @@ class HrApplicationServiceTest {
     @Mock
     private HrCompanyService hrCompanyService;
 
+    @Mock
+    private ApplicationEventPublisher publisher;
+
     @InjectMocks
     private HrApplicationService service;
 
@@ -66,7 +76,7 @@ class HrApplicationServiceTest {
     @Test
     void listCompanyApplications_shouldUseInferredCompanyId_whenCompanyIdNull() {
         Pageable pageable = PageRequest.of(0, 5);
-        Page<Application> mockPage = new PageImpl<>(List.of(app));
+        Page<ApplicationBriefView> mockPage = new PageImpl<>(List.of(view(100L, 1, 20L, "Backend Engineer", 10L, "OpenAI SG")));
 
         when(hrCompanyService.findCompanyIdByUserId(1L)).thenReturn(10L);
         when(applicationRepository.searchByCompany(10L, null, null, pageable))
@@ -78,6 +88,7 @@ class HrApplicationServiceTest {
         assertEquals(1, result.getTotalElements());
         assertEquals(app.getId(), result.getContent().get(0).getId());
         assertEquals("Backend Engineer", result.getContent().get(0).getJobTitle());
+        assertEquals("/api/applications/100/resume", result.getContent().get(0).getResumeUrl());
         verify(hrCompanyService).findCompanyIdByUserId(1L);
         verify(applicationRepository).searchByCompany(10L, null, null, pageable);
     }
@@ -85,7 +96,7 @@ class HrApplicationServiceTest {
     @Test
     void listCompanyApplications_shouldValidateHrBelongsToCompany_whenCompanyIdProvided() {
         Pageable pageable = PageRequest.of(0, 5);
-        Page<Application> mockPage = new PageImpl<>(List.of(app));
+        Page<ApplicationBriefView> mockPage = new PageImpl<>(List.of(view(100L, 1, 20L, "Backend Engineer", 10L, "OpenAI SG")));
 
         doNothing().when(hrCompanyService).assertHrInCompany(1L, 10L);
         when(applicationRepository.searchByCompany(10L, null, null, pageable))
@@ -114,6 +125,19 @@ class HrApplicationServiceTest {
         assertEquals(app.getId(), result.getId());
         assertEquals("Backend Engineer", result.getJobTitle());
         verify(applicationRepository).findByIdWithJobAndCompany(100L);
+        verify(publisher).publishEvent(new ApplicationStatusChangedEvent(100L, 10L, 20L, 30L, "Backend Engineer", 1, 3));
+    }
+
+    @Test
+    void updateStatus_shouldNotPublish_whenStatusUnchanged() {
+        when(applicationRepository.findByIdWithJobAndCompany(100L))
+                .thenReturn(Optional.of(app));
+        when(hrCompanyService.findCompanyIdByUserId(1L))
+                .thenReturn(10L);
+
+        service.updateStatus(1L, 100L, 1);
+
+        verifyNoInteractions(publisher);
     }
 
     @Test
@@ -151,4 +175,117 @@ class HrApplicationServiceTest {
         assertThrows(IllegalStateException.class,
                 () -> service.updateStatus(1L, 100L, 2));
     }
+
+    // ========== updateStatuses ==========
+
+    @Test
+    void updateStatuses_shouldValidateInOneQueryAndUpdateInOneStatement() {
+        when(hrCompanyService.findCompanyIdByUserId(1L)).thenReturn(10L);
+        when(applicationRepository.findStatusViewsByIds(anyCollection())).thenReturn(List.of(
+                statusView(100L, 1, 31L, 10L, 0),
+                statusView(101L, 3, 32L, 10L, 0),
+                statusView(102L, 1, 33L, 11L, 0),
+                statusView(103L, 1, 34L, 10L, 1),
+                statusView(104L, 0, 35L, 10L, 0)));
+        when(applicationRepository.updateStatusByIds(List.of(100L, 104L), 3)).thenReturn(2);
+
+        List<ApplicationStatusResult> results = service.updateStatuses(1L, List.of(100L, 101L, 102L, 103L, 104L, 105L, 100L), 3);
+
+        assertEquals(List.of(
+                new ApplicationStatusResult(100L, ApplicationStatusResult.UPDATED, 3),
+                new ApplicationStatusResult(101L, ApplicationStatusResult.UNCHANGED, 3),
+                new ApplicationStatusResult(102L, ApplicationStatusResult.FORBIDDEN, null),
+                new ApplicationStatusResult(103L, ApplicationStatusResult.JOB_INACTIVE, 1),
+                new ApplicationStatusResult(104L, ApplicationStatusResult.UPDATED, 3),
+                new ApplicationStatusResult(105L, ApplicationStatusResult.NOT_FOUND, null)), results);
+        verify(applicationRepository, times(1)).findStatusViewsByIds(anyCollection());
+        verify(applicationRepository).updateStatusByIds(List.of(100L, 104L), 3);
+        verify(publisher).publishEvent(new ApplicationStatusBatchChangedEvent(10L, List.of(
+                new ApplicationStatusChangedEvent(100L, 10L, 20L, 31L, "Backend Engineer", 1, 3),
+                new ApplicationStatusChangedEvent(104L, 10L, 20L, 35L, "Backend Engineer", 0, 3))));
+    }
+
+    @Test
+    void updateStatuses_shouldSkipWriteWhenNothingChanges() {
+        when(hrCompanyService.findCompanyIdByUserId(1L)).thenReturn(10L);
+        when(applicationRepository.findStatusViewsByIds(anyCollection())).thenReturn(List.of(statusView(100L, 3, 31L, 10L, 0)));
+
+        service.updateStatuses(1L, List.of(100L), 3);
+
+        verify(applicationRepository, never()).updateStatusByIds(anyCollection(), anyInt());
+        verifyNoInteractions(publisher);
+    }
+
+    @Test
+    void updateStatuses_shouldFailWithoutEventsWhenRowsChangedUnderneath() {
+        when(hrCompanyService.findCompanyIdByUserId(1L)).thenReturn(10L);
+        when(applicationRepository.findStatusViewsByIds(anyCollection())).thenReturn(List.of(
+                statusView(100L, 1, 31L, 10L, 0),
+                statusView(104L, 0, 35L, 10L, 0)));
+        when(applicationRepository.updateStatusByIds(List.of(100L, 104L), 3)).thenReturn(1);
+
+        assertThrows(IllegalStateException.class, () -> service.updateStatuses(1L, List.of(100L, 104L), 3));
+        verifyNoInteractions(publisher);
+    }
+
+    @Test
+    void updateStatuses_shouldRejectIllegalStatus() {
+        assertThrows(IllegalArgumentException.class, () -> service.updateStatuses(1L, List.of(100L), 9));
+        verifyNoInteractions(applicationRepository);
+    }
+
+    private ApplicationStatusView statusView(Long id, Integer status, Long applicantId, Long companyId, Integer jobStatus) {
+        return new SpelAwareProxyProjectionFactory().createProjection(ApplicationStatusView.class, Map.of(
+                "id", id, "status", status, "applicantId", applicantId, "companyId", companyId,
+                "jobId", 20L, "jobTitle", "Backend Engineer", "jobStatus", jobStatus));
+    }
+
+    private ApplicationBriefView view(Long id, Integer status, Long jobId, String jobTitle, Long companyId, String companyName) {
+        return new ApplicationBriefView() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Integer getStatus() {
+                return status;
+            }
+
+            @Override
+            public LocalDateTime getAppliedAt() {
+                return LocalDateTime.of(2025, 1, 1, 9, 0);
+            }
+
+            @Override
+            public Long getJobId() {
+                return jobId;
+            }
+
+            @Override
+            public String getJobTitle() {
+                return jobTitle;
+            }
+
+            @Override
+            public Long getCompanyId() {
+                return companyId;
+            }
+
+            @Override
+            public String getCompanyName() {
+                return companyName;
+            }
+
+            @Override
+            public Long getApplicantId() {
+                return 30L;
+            }
+
+            @Override
+            public String getApplicantName() {
+                return "Alice";
+            }
+        };
+    }
 }
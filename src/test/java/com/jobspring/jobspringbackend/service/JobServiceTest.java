@@ -1,8 +1,16 @@
 package com.jobspring.jobspringbackend.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.jobspring.jobspringbackend.dto.*;
 import com.jobspring.jobspringbackend.entity.*;
+import com.jobspring.jobspringbackend.events.JobCreatedEvent;
+import com.jobspring.jobspringbackend.exception.BizException;
+import com.jobspring.jobspringbackend.events.JobDeactivatedEvent;
+import com.jobspring.jobspringbackend.events.JobReplacedEvent;
 import com.jobspring.jobspringbackend.repository.*;
+import com.jobspring.jobspringbackend.repository.projection.JobRowView;
+import com.jobspring.jobspringbackend.repository.projection.JobStatusView;
+import com.jobspring.jobspringbackend.search.JobSearchIndex;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -10,10 +18,14 @@ import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.*;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 
+import java.io.ByteArrayOutputStream;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -23,9 +35,11 @@ import static org.mockito.Mockito.*;
 class JobServiceTest {
 
     @Mock private JobRepository jobRepository;
-    @Mock private SkillRepository skillRepository;
+    @Mock private JobTagService jobTagService;
     @Mock private CompanyMemberRepository companyMemberRepository;
     @Mock private ApplicationEventPublisher publisher;
+    @Mock private JobSearchIndex jobSearchIndex;
+    @Spy private ObjectMapper objectMapper = new ObjectMapper();
 
     @InjectMocks
     private JobService service;
@@ -63,14 +77,42 @@ class JobServiceTest {
         assertEquals("Java Developer", result.get(0).getTitle());
     }
 
+    // ========== writeJobStatus() ==========
+    @Test
+    void writeJobStatus_shouldStreamJsonArrayAfterCursor() throws Exception {
+        SpelAwareProxyProjectionFactory factory = new SpelAwareProxyProjectionFactory();
+        when(jobRepository.streamStatusViews(5L)).thenReturn(Stream.of(
+                factory.createProjection(JobStatusView.class, Map.of("id", 6L, "title", "Java Developer", "companyId", 10L, "companyName", "OpenAI SG", "status", 0)),
+                factory.createProjection(JobStatusView.class, Map.of("id", 9L, "title", "Data Analyst", "companyId", 10L, "companyName", "OpenAI SG", "status", 1))));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long written = service.writeJobStatus(5L, out);
+
+        assertEquals(2, written);
+        assertEquals("[{\"id\":6,\"title\":\"Java Developer\",\"company\":\"OpenAI SG\",\"companyId\":10,\"status\":0},"
+                + "{\"id\":9,\"title\":\"Data Analyst\",\"company\":\"OpenAI SG\",\"companyId\":10,\"status\":1}]",
+                out.toString(StandardCharsets.UTF_8));
+        verify(jobRepository, never()).findAll();
+    }
+
+    @Test
+    void writeJobStatus_shouldWriteEmptyArrayWhenNothingLeft() throws Exception {
+        when(jobRepository.streamStatusViews(0L)).thenReturn(Stream.empty());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        assertEquals(0, service.writeJobStatus(null, out));
+        assertEquals("[]", out.toString(StandardCharsets.UTF_8));
+    }
+
     // ========== getJobSeekerJobs() ==========
     @Test
     void getJobSeekerJobs_shouldMapToDTO() {
         Pageable pageable = PageRequest.of(0, 5);
         when(jobRepository.findByStatus(eq(0), eq(pageable)))
                 .thenReturn(new PageImpl<>(List.of(job)));
-        when(skillRepository.findSkillNamesByJobId(99L))
-                .thenReturn(List.of("Spring Boot", "Java"));
+        when(jobTagService.tagsFor(List.of(99L)))
+                .thenReturn(Map.of(99L, List.of("Spring Boot", "Java")));
 
         Page<JobDTO> result = service.getJobSeekerJobs(pageable);
 
@@ -86,7 +128,7 @@ class JobServiceTest {
         Pageable pageable = PageRequest.of(1, 10);
         when(jobRepository.searchJobs(eq("Developer"), eq(pageable)))
                 .thenReturn(new PageImpl<>(List.of(job)));
-        when(skillRepository.findSkillNamesByJobId(99L)).thenReturn(List.of("Kubernetes"));
+        when(jobTagService.tagsFor(List.of(99L))).thenReturn(Map.of(99L, List.of("Kubernetes")));
 
         Page<JobDTO> result = service.searchJobSeekerJobs("Developer", pageable);
 
@@ -95,6 +137,134 @@ class JobServiceTest {
         assertEquals("Kubernetes", result.getContent().get(0).getTags().get(0));
     }
 
+    @Test
+    void searchJobSeekerJobs_shouldUseIndex_whenReady() {
+        Pageable pageable = PageRequest.of(0, 10);
+        Job other = new Job();
+        other.setId(100L);
+        other.setTitle("Java Intern");
+        other.setStatus(0);
+        other.setCompany(company);
+        when(jobSearchIndex.isReady()).thenReturn(true);
+        when(jobSearchIndex.search("java", 0, 10)).thenReturn(new JobSearchIndex.Hits(List.of(100L, 99L), 2));
+        when(jobRepository.findByIdIn(List.of(100L, 99L))).thenReturn(List.of(job, other));
+
+        Page<JobDTO> result = service.searchJobSeekerJobs("java", pageable);
+
+        assertEquals(2, result.getTotalElements());
+        assertEquals(100L, result.getContent().get(0).getId());
+        assertEquals(99L, result.getContent().get(1).getId());
+        verify(jobRepository, never()).searchJobs(anyString(), any());
+    }
+
+    // ========== getJobSeekerJobsByIds() ==========
+    @Test
+    void getJobSeekerJobsByIds_shouldKeepOrderAndDropInactive() {
+        Job closed = new Job();
+        closed.setId(100L);
+        closed.setTitle("Closed Role");
+        closed.setStatus(1);
+        closed.setCompany(company);
+        Job other = new Job();
+        other.setId(101L);
+        other.setTitle("Java Intern");
+        other.setStatus(0);
+        other.setCompany(company);
+        when(jobRepository.findByIdIn(List.of(101L, 100L, 99L))).thenReturn(List.of(job, closed, other));
+
+        List<JobDTO> result = service.getJobSeekerJobsByIds(List.of(101L, 100L, 99L));
+
+        assertEquals(List.of(101L, 99L), result.stream().map(JobDTO::getId).toList());
+    }
+
+    @Test
+    void searchJobSeekerJobs_shouldListAllActive_whenKeywordBlank() {
+        Pageable pageable = PageRequest.of(0, 10);
+        when(jobRepository.findByStatus(0, pageable)).thenReturn(new PageImpl<>(List.of(job)));
+
+        Page<JobDTO> result = service.searchJobSeekerJobs("  ", pageable);
+
+        assertEquals(1, result.getTotalElements());
+        verifyNoInteractions(jobSearchIndex);
+        verify(jobRepository, never()).searchJobs(anyString(), any());
+    }
+
+    @Test
+    void searchJobSeekerJobs_shouldTrustIndex_whenItHasNoHit() {
+        Pageable pageable = PageRequest.of(0, 10);
+        when(jobSearchIndex.isReady()).thenReturn(true);
+        when(jobSearchIndex.search("velop", 0, 10)).thenReturn(new JobSearchIndex.Hits(List.of(), 0));
+
+        Page<JobDTO> result = service.searchJobSeekerJobs("velop", pageable);
+
+        assertEquals(0, result.getTotalElements());
+        verify(jobRepository, never()).searchJobs(anyString(), any());
+    }
+
+    @Test
+    void searchJobSeekerJobs_shouldDropJobsClosedSinceIndexed() {
+        Pageable pageable = PageRequest.of(0, 10);
+        job.setStatus(1);
+        when(jobSearchIndex.isReady()).thenReturn(true);
+        when(jobSearchIndex.search("java", 0, 10)).thenReturn(new JobSearchIndex.Hits(List.of(99L), 1));
+        when(jobRepository.findByIdIn(List.of(99L))).thenReturn(List.of(job));
+
+        Page<JobDTO> result = service.searchJobSeekerJobs("java", pageable);
+
+        assertTrue(result.getContent().isEmpty());
+    }
+
+    @Test
+    void scrollSearchJobSeekerJobs_shouldUseLatestListing_whenKeywordBlank() {
+        when(jobRepository.findActiveLatest(PageRequest.of(0, 10)))
+                .thenReturn(new SliceImpl<>(List.of(job), PageRequest.of(0, 10), false));
+
+        CursorPage<JobDTO> page = service.scrollSearchJobSeekerJobs("", null, 10);
+
+        assertEquals(1, page.content().size());
+        verifyNoInteractions(jobSearchIndex);
+    }
+
+    // ========== scrollJobSeekerJobs() ==========
+    @Test
+    void scrollJobSeekerJobs_shouldReturnNextCursorFromLastRow() {
+        when(jobRepository.findActiveLatest(PageRequest.of(0, 1)))
+                .thenReturn(new SliceImpl<>(List.of(job), PageRequest.of(0, 1), true));
+
+        CursorPage<JobDTO> first = service.scrollJobSeekerJobs(null, 1);
+
+        assertTrue(first.hasNext());
+        assertEquals(99L, first.content().get(0).getId());
+
+        when(jobRepository.findActiveBefore(job.getPostedAt(), 99L, PageRequest.of(0, 1)))
+                .thenReturn(new SliceImpl<>(List.of(), PageRequest.of(0, 1), false));
+
+        CursorPage<JobDTO> second = service.scrollJobSeekerJobs(first.nextCursor(), 1);
+
+        assertFalse(second.hasNext());
+        assertNull(second.nextCursor());
+        verify(jobRepository, never()).findByStatus(anyInt(), any());
+    }
+
+    @Test
+    void scrollJobSeekerJobs_shouldRejectMalformedCursor() {
+        assertThrows(BizException.class, () -> service.scrollJobSeekerJobs("not-a-cursor", 10));
+    }
+
+    @Test
+    void scrollSearchJobSeekerJobs_shouldUseIndexRecencyOrder_whenReady() {
+        when(jobSearchIndex.isReady()).thenReturn(true);
+        when(jobSearchIndex.searchByRecency("java", Long.MAX_VALUE, Long.MAX_VALUE, 2)).thenReturn(List.of(99L));
+        when(jobRepository.findByIdIn(List.of(99L))).thenReturn(List.of(job));
+
+        CursorPage<JobDTO> page = service.scrollSearchJobSeekerJobs("java", null, 1);
+
+        assertEquals(1, page.content().size());
+        assertFalse(page.hasNext());
+        verify(jobSearchIndex, times(1)).searchByRecency(anyString(), anyLong(), anyLong(), anyInt());
+        verify(jobRepository, never()).searchActiveLatest(anyString(), any());
+    }
+
     // ========== createJob() ==========
     @Test
     void createJob_shouldCreateAndReturnResponse() {
@@ -113,6 +283,7 @@ class JobServiceTest {
         assertEquals("Backend Engineer", res.getTitle());
         assertEquals(10L, res.getCompanyId());
         verify(jobRepository, times(1)).save(any(Job.class));
+        verify(publisher).publishEvent(any(JobCreatedEvent.class));
     }
 
     @Test
@@ -137,6 +308,7 @@ class JobServiceTest {
 
         assertEquals("Senior Java Engineer", res.getTitle());
         verify(jobRepository, times(2)).save(any(Job.class)); // old + new
+        verify(publisher).publishEvent(any(JobReplacedEvent.class));
     }
 
     @Test
@@ -155,7 +327,7 @@ class JobServiceTest {
         service.deactivateJob(10L, 99L);
 
         assertEquals(1, job.getStatus());
-        verify(publisher).publishEvent(any(JobService.JobDeactivatedEvent.class));
+        verify(publisher).publishEvent(any(JobDeactivatedEvent.class));
         verify(jobRepository).save(job);
     }
 
@@ -167,27 +339,34 @@ class JobServiceTest {
 
     // ========== listJobs() ==========
     @Test
-    void listJobs_shouldCallFindByCompanyId_whenStatusNull() {
+    void listJobs_shouldQueryRowsWithoutStatus_whenStatusNull() {
         Pageable pageable = PageRequest.of(0, 10);
-        when(jobRepository.findByCompanyId(10L, pageable))
-                .thenReturn(new PageImpl<>(List.of(job)));
+        when(jobRepository.findCompanyJobRows(10L, null, pageable))
+                .thenReturn(new PageImpl<>(List.of(row())));
 
         Page<JobResponse> result = service.listJobs(10L, null, pageable);
 
         assertEquals(1, result.getTotalElements());
-        verify(jobRepository).findByCompanyId(10L, pageable);
+        assertEquals(10L, result.getContent().get(0).getCompanyId());
+        verify(jobRepository).findCompanyJobRows(10L, null, pageable);
     }
 
     @Test
-    void listJobs_shouldCallFindByCompanyIdAndStatus_whenStatusProvided() {
+    void listJobs_shouldPassStatusFilter_whenStatusProvided() {
         Pageable pageable = PageRequest.of(0, 10);
-        when(jobRepository.findByCompanyIdAndStatus(10L, 0, pageable))
-                .thenReturn(new PageImpl<>(List.of(job)));
+        when(jobRepository.findCompanyJobRows(10L, 0, pageable))
+                .thenReturn(new PageImpl<>(List.of(row())));
 
         Page<JobResponse> result = service.listJobs(10L, 0, pageable);
 
         assertEquals(1, result.getTotalElements());
-        verify(jobRepository).findByCompanyIdAndStatus(10L, 0, pageable);
+        assertEquals("Java Developer", result.getContent().get(0).getTitle());
+        verify(jobRepository).findCompanyJobRows(10L, 0, pageable);
+    }
+
+    private JobRowView row() {
+        return new SpelAwareProxyProjectionFactory().createProjection(JobRowView.class,
+                Map.of("id", 99L, "companyId", 10L, "title", "Java Developer", "status", 0));
     }
 
     // ========== findCompanyIdByUserId() ==========
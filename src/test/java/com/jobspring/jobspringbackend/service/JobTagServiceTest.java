@@ -0,0 +1,96 @@
+package com.jobspring.jobspringbackend.service;
+
+import com.jobspring.jobspringbackend.repository.SkillRepository;
+import com.jobspring.jobspringbackend.repository.projection.JobTagView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JobTagServiceTest {
+
+    @Mock
+    private SkillRepository skillRepository;
+
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+
+    private JobTagService service;
+
+    @BeforeEach
+    void setup() {
+        service = new JobTagService(skillRepository, 2, 300, now::get);
+    }
+
+    private JobTagView row(Long jobId, String name) {
+        return new JobTagView() {
+            @Override
+            public Long getJobId() {
+                return jobId;
+            }
+
+            @Override
+            public String getName() {
+                return name;
+            }
+        };
+    }
+
+    @Test
+    void tagsFor_shouldGroupOneQueryPerPage() {
+        when(skillRepository.findTagsByJobIds(List.of(1L, 2L)))
+                .thenReturn(List.of(row(1L, "Java"), row(2L, "React"), row(1L, "Spring")));
+
+        Map<Long, List<String>> tags = service.tagsFor(List.of(1L, 2L));
+
+        assertEquals(List.of("Java", "Spring"), tags.get(1L));
+        assertEquals(List.of("React"), tags.get(2L));
+        verify(skillRepository, times(1)).findTagsByJobIds(anyCollection());
+    }
+
+    @Test
+    void tagsFor_shouldServeRepeatedPagesFromCache() {
+        when(skillRepository.findTagsByJobIds(List.of(1L))).thenReturn(List.of());
+
+        service.tagsFor(List.of(1L));
+        Map<Long, List<String>> again = service.tagsFor(List.of(1L));
+
+        assertEquals(List.of(), again.get(1L));
+        verify(skillRepository, times(1)).findTagsByJobIds(anyCollection());
+    }
+
+    @Test
+    void tagsFor_shouldEvictLeastRecentlyUsed() {
+        when(skillRepository.findTagsByJobIds(anyCollection())).thenReturn(List.of());
+
+        service.tagsFor(List.of(1L, 2L));
+        service.tagsFor(List.of(3L));          // 容量为 2，1 被淘汰
+        service.tagsFor(List.of(1L));
+
+        verify(skillRepository, times(3)).findTagsByJobIds(anyCollection());
+    }
+
+    @Test
+    void tagsFor_shouldReloadEntriesOlderThanTtl() {
+        when(skillRepository.findTagsByJobIds(List.of(1L)))
+                .thenReturn(List.of(row(1L, "Java")))
+                .thenReturn(List.of(row(1L, "Kotlin")));
+
+        assertEquals(List.of("Java"), service.tagsFor(1L));
+        now.addAndGet(299_000L);
+        assertEquals(List.of("Java"), service.tagsFor(1L));
+        now.addAndGet(1_000L);
+        assertEquals(List.of("Kotlin"), service.tagsFor(1L));
+
+        verify(skillRepository, times(2)).findTagsByJobIds(anyCollection());
+    }
+}
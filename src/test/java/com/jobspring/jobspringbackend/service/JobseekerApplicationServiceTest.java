@@ -3,6 +3,7 @@ package com.jobspring.jobspringbackend.service;
 import com.jobspring.jobspringbackend.dto.ApplicationBriefResponse;
 import com.jobspring.jobspringbackend.entity.*;
 import com.jobspring.jobspringbackend.repository.ApplicationRepository;
+import com.jobspring.jobspringbackend.repository.projection.ApplicationBriefView;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -61,7 +62,7 @@ class JobseekerApplicationServiceTest {
     // ========= listMine(): status == null =========
     @Test
     void listMine_shouldCallFindMyApplications_whenStatusIsNull() {
-        Page<Application> mockPage = new PageImpl<>(List.of(app));
+        Page<ApplicationBriefView> mockPage = new PageImpl<>(List.of(view(5L, 1, 3L, "Java Developer", 2L, "OpenAI SG")));
         Pageable pageable = PageRequest.of(0, 5);
 
         when(applicationRepository.findMyApplications(10L, pageable))
@@ -76,7 +77,7 @@ class JobseekerApplicationServiceTest {
         assertEquals("OpenAI SG", dto.getCompanyName());
         assertEquals(3L, dto.getJobId());
         assertEquals(2L, dto.getCompanyId());
-        assertEquals("resume.pdf", dto.getResumeUrl());
+        assertEquals("/api/applications/5/resume", dto.getResumeUrl());
 
         verify(applicationRepository).findMyApplications(10L, pageable);
         verify(applicationRepository, never()).findMyApplicationsByStatus(any(), any(), any());
@@ -85,7 +86,7 @@ class JobseekerApplicationServiceTest {
     // ========= listMine(): with status =========
     @Test
     void listMine_shouldCallFindMyApplicationsByStatus_whenStatusIsProvided() {
-        Page<Application> mockPage = new PageImpl<>(List.of(app));
+        Page<ApplicationBriefView> mockPage = new PageImpl<>(List.of(view(5L, 1, 3L, "Java Developer", 2L, "OpenAI SG")));
         Pageable pageable = PageRequest.of(1, 5);
 
         when(applicationRepository.findMyApplicationsByStatus(10L, 1, pageable))
@@ -100,14 +101,8 @@ class JobseekerApplicationServiceTest {
     // ========= listMine(): null job & company safe mapping =========
     @Test
     void listMine_shouldHandleNullJobAndCompanySafely() {
-        Application a = new Application();
-        a.setId(100L);
-        a.setStatus(2);
-        a.setAppliedAt(LocalDateTime.now());
-        a.setResumeUrl("r.pdf");
         // job intentionally null
-
-        Page<Application> mockPage = new PageImpl<>(List.of(a));
+        Page<ApplicationBriefView> mockPage = new PageImpl<>(List.of(view(100L, 2, null, null, null, null)));
         Pageable pageable = PageRequest.of(0, 5);
 
         when(applicationRepository.findMyApplications(10L, pageable))
@@ -121,4 +116,53 @@ class JobseekerApplicationServiceTest {
         assertNull(dto.getCompanyId());
         assertNull(dto.getCompanyName());
     }
+
+    private ApplicationBriefView view(Long id, Integer status, Long jobId, String jobTitle, Long companyId, String companyName) {
+        return new ApplicationBriefView() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Integer getStatus() {
+                return status;
+            }
+
+            @Override
+            public LocalDateTime getAppliedAt() {
+                return LocalDateTime.of(2025, 1, 1, 9, 0);
+            }
+
+            @Override
+            public Long getJobId() {
+                return jobId;
+            }
+
+            @Override
+            public String getJobTitle() {
+                return jobTitle;
+            }
+
+            @Override
+            public Long getCompanyId() {
+                return companyId;
+            }
+
+            @Override
+            public String getCompanyName() {
+                return companyName;
+            }
+
+            @Override
+            public Long getApplicantId() {
+                return 30L;
+            }
+
+            @Override
+            public String getApplicantName() {
+                return "Alice";
+            }
+        };
+    }
 }
@@ -0,0 +1,117 @@
+package com.jobspring.jobspringbackend.service;
+
+import com.jobspring.jobspringbackend.dto.MailQueueStats;
+import com.jobspring.jobspringbackend.dto.OutboundMail;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MailDispatcherTest {
+
+    @Mock
+    private MailService mail;
+
+    private MailDispatcher dispatcher;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        dispatcher.destroy();
+    }
+
+    private static List<OutboundMail> mails(String... to) {
+        List<OutboundMail> list = new ArrayList<>();
+        for (String t : to) {
+            list.add(new OutboundMail(t, "s", "b"));
+        }
+        return list;
+    }
+
+    @Test
+    void submit_shouldReportPerMessageFailures() {
+        dispatcher = new MailDispatcher(mail, 4, 10, 2);
+        when(mail.sendBatch(anyList())).thenReturn(Map.of(1, new IllegalStateException("rejected")));
+
+        Map<Integer, Exception> failures = dispatcher.submit(mails("a@x.com", "bad@x.com", "b@x.com")).join();
+
+        assertEquals(Set.of(1), failures.keySet());
+        MailQueueStats stats = dispatcher.stats();
+        assertEquals(2, stats.sent());
+        assertEquals(1, stats.failed());
+    }
+
+    @Test
+    void submit_shouldFailFutureWhenBatchThrows() {
+        dispatcher = new MailDispatcher(mail, 4, 10, 2);
+        when(mail.sendBatch(anyList())).thenThrow(new IllegalStateException("boom"));
+
+        CompletionException ex = assertThrows(CompletionException.class, () -> dispatcher.submit(mails("a@x.com", "b@x.com")).join());
+
+        assertEquals("boom", ex.getCause().getMessage());
+        assertEquals(2, dispatcher.stats().failed());
+    }
+
+    @Test
+    void submit_shouldCapConcurrentSmtpConnections() {
+        dispatcher = new MailDispatcher(mail, 8, 50, 2);
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        when(mail.sendBatch(anyList())).thenAnswer(inv -> {
+            peak.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            Thread.sleep(20);
+            inFlight.decrementAndGet();
+            return Map.of();
+        });
+
+        List<CompletableFuture<Map<Integer, Exception>>> sends = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            sends.add(dispatcher.submit(mails(i + "@x.com")));
+        }
+        CompletableFuture.allOf(sends.toArray(CompletableFuture[]::new)).join();
+
+        assertTrue(peak.get() <= 2);
+        assertEquals(10, dispatcher.stats().sent());
+    }
+
+    @Test
+    void submit_shouldRunOnCallerWhenQueueIsFull() {
+        dispatcher = new MailDispatcher(mail, 1, 1, 2);
+        CountDownLatch release = new CountDownLatch(1);
+        String caller = Thread.currentThread().getName();
+        AtomicInteger ranOnCaller = new AtomicInteger();
+        when(mail.sendBatch(anyList())).thenAnswer(inv -> {
+            if (Thread.currentThread().getName().equals(caller)) {
+                ranOnCaller.incrementAndGet();
+                release.countDown();
+            } else {
+                release.await(5, TimeUnit.SECONDS);
+            }
+            return Map.of();
+        });
+
+        // 1 个工作线程 + 1 个队列位置，第三批由调用方发送
+        dispatcher.submit(mails("a"));
+        dispatcher.submit(mails("b"));
+        CompletableFuture<Map<Integer, Exception>> third = dispatcher.submit(mails("c"));
+
+        assertTrue(third.isDone());
+        assertEquals(1, ranOnCaller.get());
+        assertEquals(1, dispatcher.stats().callerRuns());
+    }
+}
@@ -0,0 +1,91 @@
+package com.jobspring.jobspringbackend.service;
+
+import com.jobspring.jobspringbackend.dto.OutboundMail;
+import com.jobspring.jobspringbackend.entity.MailOutbox;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MailOutboxDispatcherTest {
+
+    @Mock
+    private MailOutboxService outbox;
+
+    @Mock
+    private MailDispatcher mailDispatcher;
+
+    @InjectMocks
+    private MailOutboxDispatcher dispatcher;
+
+    @BeforeEach
+    void setup() {
+        ReflectionTestUtils.setField(dispatcher, "batchSize", 2);
+        ReflectionTestUtils.setField(dispatcher, "perConnection", 2);
+    }
+
+    private MailOutbox row(Long id, String to) {
+        MailOutbox row = new MailOutbox();
+        row.setId(id);
+        row.setRecipient(to);
+        row.setSubject("s");
+        row.setBody("b");
+        return row;
+    }
+
+    @Test
+    void poll_shouldRecordEachResultAndDrainFullBatches() {
+        when(outbox.claimBatch(2))
+                .thenReturn(List.of(row(1L, "a@x.com"), row(2L, "b@x.com")))
+                .thenReturn(List.of(row(3L, "c@x.com")));
+        when(mailDispatcher.submit(anyList()))
+                .thenReturn(CompletableFuture.completedFuture(Map.of(1, new IllegalStateException("smtp down"))))
+                .thenReturn(CompletableFuture.completedFuture(Map.of()));
+
+        dispatcher.poll();
+
+        verify(outbox, times(2)).claimBatch(2);
+        verify(outbox).markSent(1L);
+        verify(outbox).markFailed(2L, "smtp down");
+        verify(outbox).markSent(3L);
+    }
+
+    @Test
+    void dispatch_shouldSplitIntoConnectionSizedChunksAndFailWholeChunkOnError() {
+        when(mailDispatcher.submit(anyList()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("no connection")))
+                .thenReturn(CompletableFuture.completedFuture(Map.of()));
+
+        dispatcher.dispatch(List.of(row(1L, "a@x.com"), row(2L, "b@x.com"), row(3L, "c@x.com")));
+
+        ArgumentCaptor<List<OutboundMail>> chunk = ArgumentCaptor.forClass(List.class);
+        verify(mailDispatcher, times(2)).submit(chunk.capture());
+        assertEquals(2, chunk.getAllValues().get(0).size());
+        assertEquals("c@x.com", chunk.getAllValues().get(1).get(0).to());
+        verify(outbox).markFailed(1L, "no connection");
+        verify(outbox).markFailed(2L, "no connection");
+        verify(outbox).markSent(3L);
+    }
+
+    @Test
+    void poll_shouldStopWhenNothingIsDue() {
+        when(outbox.claimBatch(2)).thenReturn(List.of());
+
+        dispatcher.poll();
+
+        verify(mailDispatcher, never()).submit(anyList());
+    }
+}
@@ -0,0 +1,143 @@
+package com.jobspring.jobspringbackend.service;
+
+import com.jobspring.jobspringbackend.entity.MailOutbox;
+import com.jobspring.jobspringbackend.repository.MailOutboxRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MailOutboxServiceTest {
+
+    @Mock
+    private MailOutboxRepository repo;
+
+    @InjectMocks
+    private MailOutboxService service;
+
+    @BeforeEach
+    void setup() {
+        ReflectionTestUtils.setField(service, "maxAttempts", 3);
+        ReflectionTestUtils.setField(service, "leaseSeconds", 300);
+        ReflectionTestUtils.setField(service, "retentionDays", 7);
+    }
+
+    private MailOutbox row(int status, int attempts) {
+        MailOutbox row = new MailOutbox();
+        row.setId(1L);
+        row.setRecipient("hr@x.com");
+        row.setSubject("s");
+        row.setBody("b");
+        row.setStatus(status);
+        row.setAttempts(attempts);
+        row.setNextAttemptAt(LocalDateTime.now());
+        return row;
+    }
+
+    @Test
+    void enqueue_shouldSavePendingRowDueNow() {
+        service.enqueue("a@x.com", "s", "b");
+
+        ArgumentCaptor<MailOutbox> captor = ArgumentCaptor.forClass(MailOutbox.class);
+        verify(repo).save(captor.capture());
+        MailOutbox saved = captor.getValue();
+        assertEquals(MailOutboxService.PENDING, saved.getStatus());
+        assertEquals(0, saved.getAttempts());
+        assertFalse(saved.getNextAttemptAt().isAfter(LocalDateTime.now()));
+    }
+
+    @Test
+    void claimBatch_shouldLeaseRowsAndCountAttempt() {
+        MailOutbox due = row(MailOutboxService.PENDING, 0);
+        when(repo.lockDue(any(LocalDateTime.class), eq(50))).thenReturn(List.of(due));
+
+        List<MailOutbox> claimed = service.claimBatch(50);
+
+        assertEquals(1, claimed.size());
+        assertEquals(MailOutboxService.SENDING, due.getStatus());
+        assertEquals(1, due.getAttempts());
+        assertTrue(due.getNextAttemptAt().isAfter(LocalDateTime.now().plusSeconds(290)));
+    }
+
+    @Test
+    void claimBatch_shouldFailExpiredLeaseAtMaxAttempts() {
+        MailOutbox stuck = row(MailOutboxService.SENDING, 3);
+        MailOutbox due = row(MailOutboxService.PENDING, 0);
+        when(repo.lockDue(any(LocalDateTime.class), eq(50))).thenReturn(List.of(stuck, due));
+
+        List<MailOutbox> claimed = service.claimBatch(50);
+
+        assertEquals(List.of(due), claimed);
+        assertEquals(MailOutboxService.FAILED, stuck.getStatus());
+        assertEquals(3, stuck.getAttempts());
+        assertNotNull(stuck.getLastError());
+    }
+
+    @Test
+    void markSent_shouldRecordSentAt() {
+        MailOutbox sending = row(MailOutboxService.SENDING, 1);
+        when(repo.findById(1L)).thenReturn(Optional.of(sending));
+
+        service.markSent(1L);
+
+        assertEquals(MailOutboxService.SENT, sending.getStatus());
+        assertNotNull(sending.getSentAt());
+        assertEquals("", sending.getBody());
+    }
+
+    @Test
+    void purgeFinished_shouldDeleteSentAndFailedPastRetention() {
+        when(repo.deleteFinishedBefore(eq(List.of(MailOutboxService.SENT, MailOutboxService.FAILED)), any(LocalDateTime.class))).thenReturn(4);
+
+        assertEquals(4, service.purgeFinished());
+
+        ArgumentCaptor<LocalDateTime> cutoff = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(repo).deleteFinishedBefore(anyCollection(), cutoff.capture());
+        assertTrue(cutoff.getValue().isBefore(LocalDateTime.now().minusDays(7).plusMinutes(1)));
+        assertTrue(cutoff.getValue().isAfter(LocalDateTime.now().minusDays(7).minusMinutes(1)));
+    }
+
+    @Test
+    void markFailed_shouldRescheduleWithBackoff() {
+        MailOutbox sending = row(MailOutboxService.SENDING, 2);
+        when(repo.findById(1L)).thenReturn(Optional.of(sending));
+
+        service.markFailed(1L, "timeout");
+
+        assertEquals(MailOutboxService.PENDING, sending.getStatus());
+        assertEquals("timeout", sending.getLastError());
+        assertTrue(sending.getNextAttemptAt().isAfter(LocalDateTime.now().plusSeconds(50)));
+    }
+
+    @Test
+    void markFailed_shouldGiveUpAfterMaxAttempts() {
+        MailOutbox sending = row(MailOutboxService.SENDING, 3);
+        when(repo.findById(1L)).thenReturn(Optional.of(sending));
+
+        service.markFailed(1L, "x".repeat(600));
+
+        assertEquals(MailOutboxService.FAILED, sending.getStatus());
+        assertEquals(500, sending.getLastError().length());
+    }
+
+    @Test
+    void backoff_shouldDoubleAndCap() {
+        assertEquals(Duration.ofSeconds(30), MailOutboxService.backoff(1));
+        assertEquals(Duration.ofMinutes(1), MailOutboxService.backoff(2));
+        assertEquals(Duration.ofHours(1), MailOutboxService.backoff(30));
+    }
+}
@@ -1,17 +1,32 @@
 package com.jobspring.jobspringbackend.service;
 
+import com.jobspring.jobspringbackend.dto.OutboundMail;
+import jakarta.mail.Address;
+import jakarta.mail.MessagingException;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.Session;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -20,7 +35,6 @@ class MailServiceTest {
     @Mock
     private JavaMailSender mailSender;
 
-    @InjectMocks
     private MailService mailService;
 
     @BeforeEach
@@ -60,4 +74,75 @@ class MailServiceTest {
         assertTrue(ex.getMessage().contains("Failed to send mail"));
         verify(mailSender, times(1)).send(any(SimpleMailMessage.class));
     }
+
+    @Test
+    void sendBatch_withoutPool_shouldMapFailedMessagesToIndexes() {
+        doAnswer(inv -> {
+            SimpleMailMessage[] msgs = (SimpleMailMessage[]) inv.getRawArguments()[0];
+            throw new MailSendException(Map.<Object, Exception>of(msgs[1], new Exception("mailbox unavailable")));
+        }).when(mailSender).send(any(SimpleMailMessage[].class));
+
+        Map<Integer, Exception> failures = mailService.sendBatch(List.of(
+                new OutboundMail("a@x.com", "s", "b"),
+                new OutboundMail("bad@x.com", "s", "b"),
+                new OutboundMail("c@x.com", "s", "b")));
+
+        assertEquals(Set.of(1), failures.keySet());
+        assertEquals("mailbox unavailable", failures.get(1).getMessage());
+    }
+
+    @Test
+    void sendBatch_withPool_shouldReuseOneConnectionAcrossCalls() throws Exception {
+        Transport transport = mock(Transport.class);
+        MailService pooled = pooledService(transport);
+
+        pooled.sendBatch(List.of(new OutboundMail("a@x.com", "s", "b"), new OutboundMail("b@x.com", "s", "b")));
+        pooled.sendPlainText("c@x.com", "s", "b");
+
+        verify(transport, times(1)).connect(any(), anyInt(), any(), any());
+        verify(transport, times(3)).sendMessage(any(MimeMessage.class), any(Address[].class));
+        verify(transport, never()).close();
+    }
+
+    @Test
+    void sendBatch_withPool_shouldReconnectOnceWhenConnectionDropped() throws Exception {
+        Transport stale = mock(Transport.class);
+        Transport fresh = mock(Transport.class);
+        doThrow(new MessagingException("connection closed")).when(stale).sendMessage(any(MimeMessage.class), any(Address[].class));
+        MailService pooled = pooledService(stale, fresh);
+
+        Map<Integer, Exception> failures = pooled.sendBatch(List.of(new OutboundMail("a@x.com", "s", "b")));
+
+        assertTrue(failures.isEmpty());
+        verify(stale).close();
+        verify(fresh).sendMessage(any(MimeMessage.class), any(Address[].class));
+    }
+
+    @Test
+    void sendBatch_withPool_shouldKeepConnectionWhenRecipientRejected() throws Exception {
+        Transport transport = mock(Transport.class);
+        doThrow(new SendFailedException("user unknown")).doNothing()
+                .when(transport).sendMessage(any(MimeMessage.class), any(Address[].class));
+        MailService pooled = pooledService(transport);
+
+        Map<Integer, Exception> failures = pooled.sendBatch(List.of(
+                new OutboundMail("nobody@x.com", "s", "b"),
+                new OutboundMail("a@x.com", "s", "b")));
+
+        assertEquals(Set.of(0), failures.keySet());
+        verify(transport, never()).close();
+    }
+
+    private MailService pooledService(Transport first, Transport... more) throws Exception {
+        JavaMailSenderImpl impl = mock(JavaMailSenderImpl.class);
+        Session session = Session.getInstance(new Properties());
+        Session spySession = spy(session);
+        when(impl.getSession()).thenReturn(spySession);
+        when(impl.createMimeMessage()).thenAnswer(inv -> new MimeMessage(session));
+        doReturn(first, (Object[]) more).when(spySession).getTransport("smtp");
+
+        MailService pooled = new MailService(impl, 2, 30);
+        ReflectionTestUtils.setField(pooled, "from", "noreply@jobspring.com");
+        return pooled;
+    }
 }
@@ -0,0 +1,142 @@
+package com.jobspring.jobspringbackend.service;
+
+import com.jobspring.jobspringbackend.entity.Notification;
+import com.jobspring.jobspringbackend.entity.User;
+import com.jobspring.jobspringbackend.repository.NotificationRepository;
+import com.jobspring.jobspringbackend.repository.NotificationTypeRepository;
+import com.jobspring.jobspringbackend.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationServiceTest {
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    @Mock
+    private NotificationTypeRepository typeRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+    private NotificationService service;
+
+    @BeforeEach
+    void setup() {
+        service = new NotificationService(notificationRepository, typeRepository, userRepository, 300, now::get);
+    }
+
+    private User user(Long id) {
+        User u = new User();
+        u.setId(id);
+        return u;
+    }
+
+    @Test
+    void create_shouldWriteOneRowPerUserAndCreateMissingType() {
+        when(userRepository.getReferenceById(anyLong())).thenAnswer(inv -> user(inv.getArgument(0)));
+
+        service.create(List.of(1L, 2L), NotificationService.APPLICATION_SUBMITTED, 100L, "Alice applied for Java Developer");
+        service.create(List.of(3L), NotificationService.APPLICATION_SUBMITTED, 101L, "Bob applied for Java Developer");
+
+        ArgumentCaptor<List<Notification>> rows = ArgumentCaptor.forClass(List.class);
+        verify(notificationRepository, times(2)).saveAll(rows.capture());
+        Notification first = rows.getAllValues().get(0).get(0);
+        assertEquals(1L, first.getUser().getId());
+        assertEquals(100L, first.getRefId());
+        assertFalse(first.getIsRead());
+        // 类型只在第一次时补插
+        verify(typeRepository, times(1)).insertIfAbsent(NotificationService.APPLICATION_SUBMITTED, "New application");
+        verify(typeRepository, times(2)).getReferenceById(NotificationService.APPLICATION_SUBMITTED);
+    }
+
+    @Test
+    void unreadCount_shouldServeFromMemoryAndFollowWrites() {
+        when(notificationRepository.countByUserIdAndIsReadFalse(1L)).thenReturn(2L);
+        when(notificationRepository.markRead(1L, List.of(7L, 8L))).thenReturn(2);
+
+        assertEquals(2L, service.unreadCount(1L));
+        service.create(List.of(1L), NotificationService.APPLICATION_STATUS, 100L, "status");
+        assertEquals(3L, service.unreadCount(1L));
+        service.markRead(1L, List.of(7L, 8L));
+        assertEquals(1L, service.unreadCount(1L));
+
+        verify(notificationRepository, times(1)).countByUserIdAndIsReadFalse(1L);
+    }
+
+    @Test
+    void unreadCount_shouldReconcileFromDbAfterInterval() {
+        when(notificationRepository.countByUserIdAndIsReadFalse(1L)).thenReturn(2L, 5L);
+
+        assertEquals(2L, service.unreadCount(1L));
+        now.addAndGet(300_000L);
+        assertEquals(5L, service.unreadCount(1L));
+    }
+
+    @Test
+    void markAllRead_shouldResetCounter() {
+        when(notificationRepository.countByUserIdAndIsReadFalse(1L)).thenReturn(4L);
+        when(notificationRepository.markAllRead(1L)).thenReturn(4);
+
+        service.unreadCount(1L);
+        assertEquals(4, service.markAllRead(1L));
+        assertEquals(0L, service.unreadCount(1L));
+    }
+
+    @Test
+    void markRead_withNoIds_shouldSkipDb() {
+        assertEquals(0, service.markRead(1L, List.of()));
+        verifyNoInteractions(notificationRepository);
+    }
+
+    @Test
+    void unreadCount_shouldKeepAdjustmentsMadeWhileReloading() throws Exception {
+        CountDownLatch counting = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(notificationRepository.countByUserIdAndIsReadFalse(1L)).thenAnswer(inv -> {
+            counting.countDown();
+            release.await();
+            return 2L;
+        });
+        when(userRepository.getReferenceById(anyLong())).thenAnswer(inv -> user(inv.getArgument(0)));
+
+        Thread reader = new Thread(() -> service.unreadCount(1L));
+        reader.start();
+        counting.await();
+        // 统计进行中提交的新通知
+        Thread writer = new Thread(() -> service.create(List.of(1L), NotificationService.APPLICATION_STATUS, 100L, "status"));
+        writer.start();
+        Thread.sleep(50);
+        release.countDown();
+        reader.join();
+        writer.join();
+
+        assertEquals(3L, service.unreadCount(1L));
+    }
+
+    @Test
+    void evictStale_shouldDropExpiredCounters() {
+        when(notificationRepository.countByUserIdAndIsReadFalse(1L)).thenReturn(1L);
+        service.unreadCount(1L);
+
+        now.addAndGet(300_000L);
+        service.evictStale();
+        service.unreadCount(1L);
+
+        verify(notificationRepository, times(2)).countByUserIdAndIsReadFalse(1L);
+    }
+}
@@ -0,0 +1,37 @@
+package com.jobspring.jobspringbackend.service;
+
+import com.jobspring.jobspringbackend.dto.ProfileResponseDTO;
+import com.jobspring.jobspringbackend.events.ProfileUpdatedEvent;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProfileCacheTest {
+
+    @Test
+    void put_shouldBeDroppedWhenProfileUpdatedDuringLoad() {
+        ProfileCache cache = new ProfileCache(10);
+
+        long version = cache.version(1L);
+        cache.on(new ProfileUpdatedEvent(1L));     // 查库期间简历被更新
+        cache.put(1L, version, new ProfileResponseDTO());
+
+        assertNull(cache.get(1L));
+
+        ProfileResponseDTO fresh = new ProfileResponseDTO();
+        cache.put(1L, cache.version(1L), fresh);
+        assertSame(fresh, cache.get(1L));
+    }
+
+    @Test
+    void put_shouldStayRejectedAfterInvalidationMarkerEvicted() {
+        ProfileCache cache = new ProfileCache(1);
+
+        long version = cache.version(1L);
+        cache.invalidate(1L);
+        cache.put(2L, cache.version(2L), new ProfileResponseDTO());   // 容量为 1，1 的失效标记被淘汰
+        cache.put(1L, version, new ProfileResponseDTO());
+
+        assertNull(cache.get(1L));
+    }
+}
@@ -2,12 +2,16 @@ package com.jobspring.jobspringbackend.service;
 
 import com.jobspring.jobspringbackend.dto.*;
 import com.jobspring.jobspringbackend.entity.*;
+import com.jobspring.jobspringbackend.events.ProfileUpdatedEvent;
 import com.jobspring.jobspringbackend.repository.*;
+import com.jobspring.jobspringbackend.repository.projection.UserSkillView;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.server.ResponseStatusException;
 
@@ -29,6 +33,9 @@ class ProfileServiceTest {
     @Mock private UserSkillRepository userSkillRepository;
     @Mock private SkillRepository skillRepository;
     @Mock private UserRepository userRepository;
+    @Mock private ProfileBatchRepository profileBatchRepository;
+    @Mock private ApplicationEventPublisher publisher;
+    @Spy private ProfileCache profileCache = new ProfileCache(100);
 
     @InjectMocks
     private ProfileService service;
@@ -54,7 +61,7 @@ class ProfileServiceTest {
 
     @Test
     void getCompleteProfile_shouldAggregateData() {
-        when(profileRepository.findByUserId(100L)).thenReturn(Optional.of(profile));
+        when(profileRepository.findAggregateByUserId(100L)).thenReturn(Optional.of(profile));
 
         ProfileEducation edu = new ProfileEducation();
         edu.setSchool("NUS");
@@ -73,18 +80,12 @@ class ProfileServiceTest {
         exp.setDescription("Worked on ML");
         exp.setAchievements("Improved performance");
 
-        Skill skill = new Skill();
-        skill.setId(1L);
-        skill.setName("Java");
-        UserSkill us = new UserSkill();
-        us.setUser(user);
-        us.setSkill(skill);
-        us.setYears(BigDecimal.valueOf(2.0));
-        us.setLevel(0);
+        UserSkillView us = new SpelAwareProxyProjectionFactory().createProjection(UserSkillView.class,
+                Map.of("skillId", 1L, "skillName", "Java", "level", 0, "years", BigDecimal.valueOf(2.0)));
 
-        when(educationRepository.findByProfileId(10L)).thenReturn(List.of(edu));
-        when(experienceRepository.findByProfileId(10L)).thenReturn(List.of(exp));
-        when(userSkillRepository.findByUserId(100L)).thenReturn(List.of(us));
+        profile.getEducations().add(edu);
+        profile.getExperiences().add(exp);
+        when(userSkillRepository.findViewsByUserId(100L)).thenReturn(List.of(us));
 
         ProfileResponseDTO result = service.getCompleteProfile(100L);
 
@@ -96,6 +97,22 @@ class ProfileServiceTest {
         assertEquals("OpenAI", result.getExperience().get(0).getCompany());
         assertEquals(1, result.getSkills().size());
         assertEquals("Java", result.getSkills().get(0).getSkillName());
+        verifyNoInteractions(educationRepository, experienceRepository);
+    }
+
+    @Test
+    void getCompleteProfile_shouldServeFromCacheUntilProfileUpdated() {
+        when(profileRepository.findAggregateByUserId(100L)).thenReturn(Optional.of(profile));
+        when(userSkillRepository.findViewsByUserId(100L)).thenReturn(List.of());
+
+        ProfileResponseDTO first = service.getCompleteProfile(100L);
+        assertSame(first, service.getCompleteProfile(100L));
+
+        profileCache.on(new ProfileUpdatedEvent(100L));
+        profile.setSummary("Senior Developer");
+
+        assertEquals("Senior Developer", service.getCompleteProfile(100L).getProfile().getSummary());
+        verify(profileRepository, times(2)).findAggregateByUserId(100L);
     }
 
     // ========= createOrUpdateProfile =========
@@ -149,10 +166,100 @@ class ProfileServiceTest {
         ProfileUpdateResponseDTO response = service.createOrUpdateProfile(100L, request);
 
         assertEquals("success", response.getStatus());
-        verify(profileRepository, atLeast(1)).save(any(Profile.class));
-        verify(educationRepository, atLeastOnce()).save(any(ProfileEducation.class));
-        verify(experienceRepository, atLeastOnce()).save(any(ProfileExperience.class));
-        verify(userSkillRepository, atLeastOnce()).save(any(UserSkill.class));
+        verify(publisher).publishEvent(new ProfileUpdatedEvent(100L));
+        verify(profileRepository, times(1)).save(any(Profile.class));
+        verify(profileBatchRepository).insertEducations(eq(10L), argThat((List<ProfileEducation> rows) ->
+                rows.size() == 1 && rows.get(0).getSchool().equals("NUS")));
+        verify(profileBatchRepository).insertExperiences(eq(10L), argThat((List<ProfileExperience> rows) ->
+                rows.size() == 1 && rows.get(0).getCompany().equals("OpenAI")));
+        verify(profileBatchRepository).insertUserSkills(eq(100L), argThat((List<UserSkill> rows) ->
+                rows.size() == 1 && rows.get(0).getSkill().getId().equals(1L)));
+        verify(educationRepository, never()).save(any(ProfileEducation.class));
+        verify(userSkillRepository, never()).save(any(UserSkill.class));
+    }
+
+    @Test
+    void createOrUpdateProfile_shouldOnlyTouchChangedRows() {
+        when(userRepository.findById(100L)).thenReturn(Optional.of(user));
+        when(profileRepository.findByUser(user)).thenReturn(Optional.of(profile));
+        when(profileRepository.save(profile)).thenReturn(profile);
+
+        ProfileEducation same = new ProfileEducation();
+        same.setId(1L);
+        same.setSchool("NUS");
+        same.setStartDate(LocalDate.of(2020, 1, 1));
+        same.setEndDate(LocalDate.of(2024, 1, 1));
+        same.setGpa(new BigDecimal("4.30"));
+        ProfileEducation changed = new ProfileEducation();
+        changed.setId(2L);
+        changed.setSchool("NTU");
+        changed.setStartDate(LocalDate.of(2016, 1, 1));
+        changed.setEndDate(LocalDate.of(2020, 1, 1));
+        ProfileEducation removed = new ProfileEducation();
+        removed.setId(3L);
+        removed.setSchool("SMU");
+        when(educationRepository.findByProfileIdOrderByIdAsc(10L)).thenReturn(List.of(same, changed, removed));
+
+        Skill java = new Skill();
+        java.setId(1L);
+        Skill go = new Skill();
+        go.setId(2L);
+        Skill sql = new Skill();
+        sql.setId(3L);
+        Skill rust = new Skill();
+        rust.setId(4L);
+        UserSkill keep = userSkill(java, 3, "2.0");
+        UserSkill bump = userSkill(go, 1, "1.0");
+        UserSkill drop = userSkill(sql, 2, "3.0");
+        when(userSkillRepository.findWithSkillByUserId(100L)).thenReturn(List.of(keep, bump, drop));
+        when(skillRepository.findAllById(anyList())).thenReturn(List.of(java, go, rust));
+
+        ProfileRequestDTO request = new ProfileRequestDTO();
+        request.setProfile(new ProfileDTO());
+        request.setEducation(List.of(
+                education("NUS", "2020-01-01", "2024-01-01", 4.3),
+                education("NTU", "2016-01-01", "2020-06-01", null)));
+        request.setSkills(List.of(skill(1L, 3, 2.0), skill(2L, 2, 1.5), skill(4L, 1, 0.5)));
+
+        service.createOrUpdateProfile(100L, request);
+
+        assertEquals(LocalDate.of(2020, 6, 1), changed.getEndDate());
+        assertEquals(2, bump.getLevel());
+        assertEquals(0, new BigDecimal("1.5").compareTo(bump.getYears()));
+        verify(educationRepository).deleteAllByIdInBatch(List.of(3L));
+        verify(profileBatchRepository).insertEducations(10L, List.of());
+        verify(userSkillRepository).deleteAllByIdInBatch(List.of(30L));
+        verify(profileBatchRepository).insertUserSkills(eq(100L), argThat((List<UserSkill> rows) ->
+                rows.size() == 1 && rows.get(0).getSkill() == rust));
+        // 未传 experience 时不读也不写
+        verifyNoInteractions(experienceRepository);
+    }
+
+    private UserSkill userSkill(Skill skill, int level, String years) {
+        UserSkill us = new UserSkill();
+        us.setId(skill.getId() * 10);
+        us.setUser(user);
+        us.setSkill(skill);
+        us.setLevel(level);
+        us.setYears(new BigDecimal(years));
+        return us;
+    }
+
+    private EducationDTO education(String school, String start, String end, Double gpa) {
+        EducationDTO dto = new EducationDTO();
+        dto.setSchool(school);
+        dto.setStartDate(start);
+        dto.setEndDate(end);
+        dto.setGpa(gpa);
+        return dto;
+    }
+
+    private UserSkillDTO skill(Long skillId, int level, double years) {
+        UserSkillDTO dto = new UserSkillDTO();
+        dto.setSkillId(skillId);
+        dto.setLevel(level);
+        dto.setYears(years);
+        return dto;
     }
 
     // ========= createOrUpdateProfile 异常 =========
@@ -0,0 +1,95 @@
+package com.jobspring.jobspringbackend.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PushServiceTest {
+
+    private PushService service;
+
+    @BeforeEach
+    void setup() {
+        service = new PushService(60_000L, 2, 4, Runnable::run);
+    }
+
+    @Test
+    void subscribe_shouldTrackConnectionsPerUser() {
+        assertNotNull(service.subscribe(1L));
+        service.subscribe(1L);
+        service.subscribe(2L);
+
+        assertEquals(3, service.connectionCount());
+    }
+
+    @Test
+    void subscribe_shouldEvictOldestBeyondLimit() {
+        SseEmitter first = service.subscribe(1L);
+        service.subscribe(1L);
+        service.subscribe(1L);
+
+        assertEquals(2, service.connectionCount());
+        // 被淘汰的连接已经结束，不能再写
+        assertThrows(IllegalStateException.class, () -> first.send("x"));
+    }
+
+    @Test
+    void push_shouldDropCompletedConnections() {
+        SseEmitter gone = service.subscribe(1L);
+        service.subscribe(2L);
+        gone.complete();
+
+        service.push(List.of(1L, 2L, 3L), PushService.APPLICATION_STATUS, "payload");
+
+        assertEquals(1, service.connectionCount());
+    }
+
+    @Test
+    void heartbeat_shouldKeepLiveConnections() {
+        service.subscribe(1L);
+
+        service.heartbeat();
+
+        assertEquals(1, service.connectionCount());
+    }
+
+    @Test
+    void push_shouldUseSingleDrainTaskPerConnection() {
+        List<Runnable> tasks = new ArrayList<>();
+        service = new PushService(60_000L, 2, 4, tasks::add);
+        service.subscribe(1L);
+
+        service.push(List.of(1L), PushService.APPLICATION_STATUS, "a");
+        service.push(List.of(1L), PushService.APPLICATION_STATUS, "b");
+        service.heartbeat();
+
+        // 前一个任务还没跑完，后续事件只入队不再另起任务
+        assertEquals(1, tasks.size());
+        tasks.remove(0).run();
+        service.push(List.of(1L), PushService.APPLICATION_STATUS, "c");
+        assertEquals(1, tasks.size());
+    }
+
+    @Test
+    void push_shouldDropConnectionWhenBufferOverflows() {
+        List<Runnable> tasks = new ArrayList<>();
+        service = new PushService(60_000L, 2, 4, tasks::add);
+        SseEmitter slow = service.subscribe(1L);
+        service.subscribe(2L);
+
+        for (int i = 0; i < 5; i++) {
+            service.push(List.of(1L), PushService.APPLICATION_STATUS, i);
+        }
+
+        assertEquals(1, service.connectionCount());
+        assertThrows(IllegalStateException.class, () -> slow.send("x"));
+        // 积压的任务跑起来也不会再写已断开的连接
+        tasks.forEach(Runnable::run);
+        assertEquals(1, service.connectionCount());
+    }
+}
@@ -0,0 +1,103 @@
+package com.jobspring.jobspringbackend.service;
+
+import com.jobspring.jobspringbackend.dto.JobDTO;
+import com.jobspring.jobspringbackend.dto.JobRecommendation;
+import com.jobspring.jobspringbackend.events.ProfileUpdatedEvent;
+import com.jobspring.jobspringbackend.recommend.JobVector;
+import com.jobspring.jobspringbackend.recommend.SkillMatchIndex;
+import com.jobspring.jobspringbackend.repository.UserSkillRepository;
+import com.jobspring.jobspringbackend.repository.projection.UserSkillView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RecommendationServiceTest {
+
+    @Mock private UserSkillRepository userSkillRepository;
+    @Mock private JobService jobService;
+
+    private SkillMatchIndex index;
+    private RecommendationService service;
+
+    @BeforeEach
+    void setup() {
+        index = new SkillMatchIndex();
+        index.apply(List.of(
+                new JobVector(1L, 100L, new int[]{1}, new float[]{10}, new boolean[]{true}),
+                new JobVector(2L, 200L, new int[]{1, 2}, new float[]{5, 5}, new boolean[]{false, false})
+        ), List.of());
+        service = new RecommendationService(index, userSkillRepository, jobService, 100);
+    }
+
+    private UserSkillView skill(Long skillId, int level, double years) {
+        return new SpelAwareProxyProjectionFactory().createProjection(UserSkillView.class,
+                Map.of("skillId", skillId, "skillName", "s" + skillId, "level", level, "years", BigDecimal.valueOf(years)));
+    }
+
+    private JobDTO job(Long id) {
+        JobDTO dto = new JobDTO();
+        dto.setId(id);
+        return dto;
+    }
+
+    @Test
+    void recommend_shouldReturnEmptyUntilIndexReady() {
+        assertTrue(service.recommend(8L, 10).isEmpty());
+        verifyNoInteractions(userSkillRepository, jobService);
+    }
+
+    @Test
+    void recommend_shouldRankAndSkipJobsGoneOffline() {
+        index.markReady();
+        when(userSkillRepository.findViewsByUserId(8L)).thenReturn(List.of(skill(1L, 5, 5.0)));
+        // 职位 2 刚下线，回表时已被过滤
+        when(jobService.getJobSeekerJobsByIds(List.of(1L, 2L))).thenReturn(List.of(job(1L)));
+
+        List<JobRecommendation> result = service.recommend(8L, 10);
+
+        assertEquals(1, result.size());
+        assertEquals(1L, result.get(0).job().getId());
+        assertEquals(1.0, result.get(0).score(), 1e-6);
+    }
+
+    @Test
+    void recommend_shouldCacheUserVectorUntilProfileUpdated() {
+        index.markReady();
+        when(userSkillRepository.findViewsByUserId(8L)).thenReturn(List.of());
+
+        service.recommend(8L, 10);
+        service.recommend(8L, 10);
+        service.on(new ProfileUpdatedEvent(8L));
+        service.recommend(8L, 10);
+
+        verify(userSkillRepository, times(2)).findViewsByUserId(8L);
+        verify(jobService, never()).getJobSeekerJobsByIds(anyList());
+    }
+
+    @Test
+    void recommend_shouldNotCacheVectorLoadedBeforeProfileUpdate() {
+        index.markReady();
+        when(userSkillRepository.findViewsByUserId(8L)).thenAnswer(inv -> {
+            service.on(new ProfileUpdatedEvent(8L));   // 查库期间简历被更新
+            return List.of();
+        }).thenReturn(List.of());
+
+        service.recommend(8L, 10);
+        service.recommend(8L, 10);
+        service.recommend(8L, 10);
+
+        verify(userSkillRepository, times(2)).findViewsByUserId(8L);
+    }
+}
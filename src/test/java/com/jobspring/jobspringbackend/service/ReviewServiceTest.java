@@ -1,20 +1,35 @@
 package com.jobspring.jobspringbackend.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobspring.jobspringbackend.dto.CursorPage;
 import com.jobspring.jobspringbackend.dto.JobSeekerReviewDTO;
 import com.jobspring.jobspringbackend.dto.ReviewDTO;
 import com.jobspring.jobspringbackend.entity.*;
+import com.jobspring.jobspringbackend.events.ReviewModeratedEvent;
 import com.jobspring.jobspringbackend.exception.BizException;
 import com.jobspring.jobspringbackend.exception.ErrorCode;
 import com.jobspring.jobspringbackend.repository.*;
+import com.jobspring.jobspringbackend.repository.projection.ReviewExportView;
+import com.jobspring.jobspringbackend.repository.projection.ReviewQueueView;
+import com.jobspring.jobspringbackend.util.KeysetCursor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -25,6 +40,9 @@ class ReviewServiceTest {
     @Mock private ReviewRepository reviewRepository;
     @Mock private ApplicationRepository applicationRepository;
     @Mock private UserRepository userRepository;
+    @Mock private ApplicationEventPublisher publisher;
+    @Mock private CompanyRatingService companyRatingService;
+    @Spy private ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
 
     @InjectMocks
     private ReviewService service;
@@ -35,8 +53,12 @@ class ReviewServiceTest {
 
     @BeforeEach
     void setup() {
+        User author = new User();
+        author.setId(300L);
+
         app = new Application();
         app.setId(100L);
+        app.setUser(author);
 
         admin = new User();
         admin.setId(200L);
@@ -52,16 +74,76 @@ class ReviewServiceTest {
         review.setSubmittedAt(LocalDateTime.now());
     }
 
-    // ========== getAllReviews ==========
+    // ========== listReviewQueue ==========
+    private ReviewQueueView queueRow(Long id, LocalDateTime submittedAt) {
+        Map<String, Object> row = new HashMap<>();
+        row.put("id", id);
+        row.put("applicationId", 100L);
+        row.put("title", "Great experience");
+        row.put("rating", 5);
+        row.put("status", 0);
+        row.put("submittedAt", submittedAt);
+        row.put("reviewedById", 200L);
+        return new SpelAwareProxyProjectionFactory().createProjection(ReviewQueueView.class, row);
+    }
+
     @Test
-    void getAllReviews_shouldReturnAll() {
-        when(reviewRepository.findAll()).thenReturn(List.of(review));
+    void listReviewQueue_shouldMapProjectionRowsAndReturnNextCursor() {
+        LocalDateTime t = LocalDateTime.of(2025, 1, 1, 10, 0);
+        when(reviewRepository.findQueueFirst(0, PageRequest.of(0, 2))).thenReturn(new SliceImpl<>(
+                List.of(queueRow(1L, t), queueRow(2L, t.plusMinutes(1))), PageRequest.of(0, 2), true));
+
+        CursorPage<ReviewDTO> result = service.listReviewQueue(0, null, 2);
+
+        assertEquals(2, result.content().size());
+        assertEquals(100L, result.content().get(0).getApplicationId());
+        assertEquals(200L, result.content().get(0).getReviewedById());
+        assertNull(result.content().get(0).getContent());
+        assertTrue(result.hasNext());
+        assertEquals(new KeysetCursor(t.plusMinutes(1), 2L), KeysetCursor.decode(result.nextCursor()));
+    }
 
-        List<Review> result = service.getAllReviews();
+    @Test
+    void listReviewQueue_shouldContinueAfterCursor() {
+        LocalDateTime t = LocalDateTime.of(2025, 1, 1, 10, 0);
+        String cursor = new KeysetCursor(t, 2L).encode();
+        when(reviewRepository.findQueueAfter(0, t, 2L, PageRequest.of(0, 20))).thenReturn(new SliceImpl<>(
+                List.of(queueRow(3L, t.plusMinutes(2))), PageRequest.of(0, 20), false));
+
+        CursorPage<ReviewDTO> result = service.listReviewQueue(0, cursor, 20);
+
+        assertEquals(3L, result.content().get(0).getId());
+        assertFalse(result.hasNext());
+        assertNull(result.nextCursor());
+        verify(reviewRepository, never()).findQueueFirst(any(), any());
+    }
 
-        assertEquals(1, result.size());
-        assertEquals("Great experience", result.get(0).getTitle());
-        verify(reviewRepository, times(1)).findAll();
+    // ========== exportReviews ==========
+    @Test
+    void exportReviews_shouldWriteOneJsonObjectPerLine() throws Exception {
+        Map<String, Object> row = new HashMap<>();
+        row.put("id", 1L);
+        row.put("applicationId", 100L);
+        row.put("companyId", 7L);
+        row.put("title", "Great experience");
+        row.put("content", "Good interview process");
+        row.put("rating", 5);
+        row.put("status", 1);
+        SpelAwareProxyProjectionFactory factory = new SpelAwareProxyProjectionFactory();
+        Map<String, Object> second = new HashMap<>(row);
+        second.put("id", 2L);
+        when(reviewRepository.streamForExport(1)).thenReturn(Stream.of(
+                factory.createProjection(ReviewExportView.class, row),
+                factory.createProjection(ReviewExportView.class, second)));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long written = service.exportReviews(1, out);
+
+        assertEquals(2, written);
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("{\"id\":1,"));
+        assertTrue(lines[1].contains("\"companyId\":7"));
     }
 
     // ========== createReview ==========
@@ -116,6 +198,9 @@ class ReviewServiceTest {
 
         ReviewDTO result = service.approveReview(1L, 200L, "Approved!");
 
+        verify(publisher).publishEvent(new ReviewModeratedEvent(1L, 300L, "Great experience", true));
+        verify(companyRatingService).recordApproved(review);
+
         assertEquals(1, result.getStatus());
         assertEquals("Approved!", result.getReviewNote());
         assertEquals(200L, result.getReviewedById());
@@ -160,6 +245,9 @@ class ReviewServiceTest {
 
         ReviewDTO result = service.rejectReview(1L, 200L, "Inappropriate content");
 
+        verify(publisher).publishEvent(new ReviewModeratedEvent(1L, 300L, "Great experience", false));
+        verifyNoInteractions(companyRatingService);
+
         assertEquals(2, result.getStatus());
         assertEquals("Inappropriate content", result.getReviewNote());
         assertEquals(200L, result.getReviewedById());
@@ -27,7 +27,7 @@ class VerificationServiceTest {
     private EmailVerificationCodeRepository repo;
 
     @Mock
-    private MailService mail;
+    private MailOutboxService mailOutbox;
 
     @InjectMocks
     private VerificationService service;
@@ -63,7 +63,7 @@ class VerificationServiceTest {
         service.sendRegisterCode(email);
 
         verify(repo, times(1)).save(any(EmailVerificationCode.class));
-        verify(mail, times(1)).sendPlainText(eq(email), contains("verification code"), anyString());
+        verify(mailOutbox, times(1)).enqueue(eq(email), contains("verification code"), anyString());
     }
 
     @Test
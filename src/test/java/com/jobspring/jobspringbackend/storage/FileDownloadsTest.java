@@ -0,0 +1,107 @@
+package com.jobspring.jobspringbackend.storage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FileDownloadsTest {
+
+    @TempDir
+    Path dir;
+
+    private StoredFile file;
+
+    @BeforeEach
+    void setup() throws Exception {
+        Path p = dir.resolve("blob");
+        Files.writeString(p, "0123456789");
+        file = new StoredFile("abc", p, "text/plain");
+    }
+
+    private MockHttpServletResponse serve(MockHttpServletRequest req) throws Exception {
+        MockHttpServletResponse resp = new MockHttpServletResponse();
+        FileDownloads.serve(req, resp, file, FileDownloads.CACHE_PRIVATE);
+        return resp;
+    }
+
+    @Test
+    void serve_shouldReturnWholeFileWithValidators() throws Exception {
+        MockHttpServletResponse resp = serve(new MockHttpServletRequest("GET", "/f"));
+
+        assertEquals(200, resp.getStatus());
+        assertEquals("\"abc\"", resp.getHeader("ETag"));
+        assertEquals("0123456789", resp.getContentAsString());
+    }
+
+    @Test
+    void serve_shouldAnswer304OnMatchingEtag() throws Exception {
+        MockHttpServletRequest req = new MockHttpServletRequest("GET", "/f");
+        req.addHeader("If-None-Match", "\"other\", W/\"abc\"");
+
+        MockHttpServletResponse resp = serve(req);
+
+        assertEquals(304, resp.getStatus());
+        assertEquals(0, resp.getContentLength());
+    }
+
+    @Test
+    void serve_shouldHonourRangeForms() throws Exception {
+        MockHttpServletRequest req = new MockHttpServletRequest("GET", "/f");
+        req.addHeader("Range", "bytes=2-4");
+        MockHttpServletResponse resp = serve(req);
+        assertEquals(206, resp.getStatus());
+        assertEquals("bytes 2-4/10", resp.getHeader("Content-Range"));
+        assertEquals("234", resp.getContentAsString());
+
+        req = new MockHttpServletRequest("GET", "/f");
+        req.addHeader("Range", "bytes=-3");
+        assertEquals("789", serve(req).getContentAsString());
+
+        req = new MockHttpServletRequest("GET", "/f");
+        req.addHeader("Range", "bytes=20-");
+        resp = serve(req);
+        assertEquals(416, resp.getStatus());
+        assertEquals("bytes */10", resp.getHeader("Content-Range"));
+
+        // 无效的区间写法忽略 Range，返回整个文件
+        req = new MockHttpServletRequest("GET", "/f");
+        req.addHeader("Range", "bytes=5-2");
+        resp = serve(req);
+        assertEquals(200, resp.getStatus());
+        assertEquals("0123456789", resp.getContentAsString());
+    }
+
+    @Test
+    void serve_shouldIgnoreRangeWhenIfRangeIsStale() throws Exception {
+        MockHttpServletRequest req = new MockHttpServletRequest("GET", "/f");
+        req.addHeader("Range", "bytes=0-1");
+        req.addHeader("If-Range", "\"stale\"");
+
+        MockHttpServletResponse resp = serve(req);
+
+        assertEquals(200, resp.getStatus());
+        assertEquals("0123456789", resp.getContentAsString());
+    }
+
+    @Test
+    void serve_shouldHandOffToSendfileWhenSupported() throws Exception {
+        Path big = dir.resolve("big");
+        Files.write(big, new byte[64 * 1024]);
+        MockHttpServletRequest req = new MockHttpServletRequest("GET", "/f");
+        req.setAttribute("org.apache.tomcat.sendfile.support", Boolean.TRUE);
+        MockHttpServletResponse resp = new MockHttpServletResponse();
+
+        FileDownloads.serve(req, resp, new StoredFile("big", big, "application/pdf"), FileDownloads.CACHE_PRIVATE);
+
+        assertEquals(big.toAbsolutePath().toString(), req.getAttribute("org.apache.tomcat.sendfile.filename"));
+        assertEquals(65536L, req.getAttribute("org.apache.tomcat.sendfile.end"));
+        assertEquals(0, resp.getContentAsByteArray().length);
+    }
+}
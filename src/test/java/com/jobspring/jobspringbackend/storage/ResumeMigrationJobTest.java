@@ -0,0 +1,93 @@
+package com.jobspring.jobspringbackend.storage;
+
+import com.jobspring.jobspringbackend.entity.Application;
+import com.jobspring.jobspringbackend.repository.ApplicationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ResumeMigrationJobTest {
+
+    @TempDir
+    Path dir;
+
+    @Mock
+    private ApplicationRepository applicationRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ResumeStorage storage;
+    private ResumeMigrationJob job;
+
+    @BeforeEach
+    void setup() {
+        storage = new ResumeStorage(dir.toString());
+        job = new ResumeMigrationJob(applicationRepository, storage, transactionManager, true);
+    }
+
+    @Test
+    void run_shouldMoveBase64PayloadIntoStorage() throws Exception {
+        Application app = new Application();
+        app.setId(7L);
+        app.setResumeUrl("data:application/pdf;base64," + Base64.getEncoder().encodeToString("PDFDATA".getBytes(StandardCharsets.UTF_8)));
+
+        when(applicationRepository.findInlineResumeIds(eq(0L), any())).thenReturn(List.of(7L));
+        when(applicationRepository.findInlineResumeIds(eq(7L), any())).thenReturn(List.of());
+        when(applicationRepository.findById(7L)).thenReturn(Optional.of(app));
+
+        assertEquals(1, job.run());
+
+        assertTrue(ResumeStorage.isReference(app.getResumeUrl()));
+        assertEquals("application/pdf", app.getResumeContentType());
+        assertEquals("PDFDATA", Files.readString(storage.resolve(ResumeStorage.keyOf(app.getResumeUrl()))));
+    }
+
+    @Test
+    void run_shouldSkipMalformedRowsAndContinue() {
+        Application bad = new Application();
+        bad.setId(1L);
+        bad.setResumeUrl("data:text/plain,hello");
+
+        when(applicationRepository.findInlineResumeIds(eq(0L), any())).thenReturn(List.of(1L));
+        when(applicationRepository.findInlineResumeIds(eq(1L), any())).thenReturn(List.of());
+        when(applicationRepository.findById(1L)).thenReturn(Optional.of(bad));
+
+        assertEquals(0, job.run());
+        assertEquals("data:text/plain,hello", bad.getResumeUrl());
+    }
+
+    @Test
+    void run_shouldKeepDataUrlWhenStoredFileFailsVerification() throws Exception {
+        String dataUrl = "data:application/pdf;base64," + Base64.getEncoder().encodeToString("PDFDATA".getBytes(StandardCharsets.UTF_8));
+        Application app = new Application();
+        app.setId(9L);
+        app.setResumeUrl(dataUrl);
+
+        ResumeStorage.StoredResume stored = storage.storeDataUrl(dataUrl);
+        // 模拟落盘后内容被截断
+        Files.writeString(storage.resolve(stored.key()), "PDF");
+
+        when(applicationRepository.findInlineResumeIds(eq(0L), any())).thenReturn(List.of(9L));
+        when(applicationRepository.findInlineResumeIds(eq(9L), any())).thenReturn(List.of());
+        when(applicationRepository.findById(9L)).thenReturn(Optional.of(app));
+
+        assertEquals(0, job.run());
+        assertEquals(dataUrl, app.getResumeUrl());
+    }
+}
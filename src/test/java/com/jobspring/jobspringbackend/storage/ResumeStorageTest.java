@@ -0,0 +1,85 @@
+package com.jobspring.jobspringbackend.storage;
+
+import com.jobspring.jobspringbackend.exception.BizException;
+import com.jobspring.jobspringbackend.exception.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Base64;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResumeStorageTest {
+
+    @TempDir
+    Path dir;
+
+    private ResumeStorage storage;
+
+    @BeforeEach
+    void setup() {
+        storage = new ResumeStorage(dir.toString());
+    }
+
+    private ResumeStorage.StoredResume store(String content) {
+        return storage.store(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void store_shouldKeyBySha256() throws Exception {
+        ResumeStorage.StoredResume r = store("hello");
+
+        assertEquals("2cf24dba5fb0a30e26e83b2ac5b9e29e1b161e5c1fa7425e73043362938b9824", r.key());
+        assertEquals(5L, r.size());
+        assertEquals("sha256:" + r.key(), r.reference());
+        assertEquals("hello", Files.readString(storage.resolve(r.key())));
+    }
+
+    @Test
+    void store_shouldDeduplicateIdenticalContent() throws Exception {
+        ResumeStorage.StoredResume a = store("same resume");
+        ResumeStorage.StoredResume b = store("same resume");
+
+        assertEquals(a.key(), b.key());
+        try (Stream<Path> files = Files.walk(dir)) {
+            assertEquals(1, files.filter(Files::isRegularFile).count());
+        }
+    }
+
+    @Test
+    void resolve_shouldRejectBadOrMissingKeys() {
+        assertThrows(IllegalArgumentException.class, () -> storage.resolve("../../etc/passwd"));
+        BizException missing = assertThrows(BizException.class, () -> storage.resolve("0".repeat(64)));
+        assertEquals(ErrorCode.NOT_FOUND, missing.getErrorCode());
+        assertNull(ResumeStorage.keyOf("https://cdn.example.com/r.pdf"));
+        assertEquals("/api/applications/1/resume", ResumeStorage.downloadLink(1L));
+    }
+
+    @Test
+    void storeDataUrl_shouldDecodeBase64Payload() throws Exception {
+        String dataUrl = "data:application/pdf;base64," + Base64.getEncoder().encodeToString("PDFDATA".getBytes(StandardCharsets.UTF_8));
+
+        ResumeStorage.StoredResume r = storage.storeDataUrl(dataUrl);
+
+        assertEquals("PDFDATA", Files.readString(storage.resolve(r.key())));
+        assertEquals("application/pdf", ResumeStorage.dataUrlContentType(dataUrl));
+        assertNull(storage.storeDataUrl("data:text/plain,hello"));
+    }
+
+    @Test
+    void verify_shouldDetectMissingOrCorruptedFiles() throws Exception {
+        ResumeStorage.StoredResume r = store("hello");
+        assertTrue(storage.verify(r));
+
+        Files.writeString(storage.resolve(r.key()), "jello");
+        assertFalse(storage.verify(r));
+
+        assertFalse(storage.verify(new ResumeStorage.StoredResume("0".repeat(64), 5L)));
+    }
+}